@@ -0,0 +1,29 @@
+package com.alkicorp.bankingsim.config;
+
+import com.alkicorp.bankingsim.service.DatasetGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the {@link DatasetGenerator} once and exits when the app is started with the
+ * {@code datagen} profile. See application-datagen.properties for what the profile turns off.
+ */
+@Component
+@Profile("datagen")
+@RequiredArgsConstructor
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private final DatasetGenerator generator;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        generator.generate();
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -1,5 +1,6 @@
 package com.alkicorp.bankingsim.config;
 
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.List;
 
@@ -45,6 +46,8 @@ public class SecurityConfig {
             .cors(Customizer.withDefaults())
             .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .authorizeHttpRequests(auth -> auth
+                // Async re-dispatches (Server-Sent Events) were authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Public assets + SPA entry points
                 .requestMatchers(
                     "/",
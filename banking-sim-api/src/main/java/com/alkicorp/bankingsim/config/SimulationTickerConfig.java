@@ -0,0 +1,60 @@
+package com.alkicorp.bankingsim.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class SimulationTickerConfig {
+
+    /**
+     * Bounded pool for background slot advances: a fixed number of workers and a capped queue,
+     * so a burst of active slots cannot starve request threads or grow memory without limit.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor slotTickerExecutor(
+            @Value("${app.simulation.ticker.pool-size:4}") int poolSize,
+            @Value("${app.simulation.ticker.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("slot-ticker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Workers shared by all slot mailboxes. Each slot has at most one task on this pool at a
+     * time, so the queue is bounded by the number of busy slots.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor slotWriterExecutor(
+            @Value("${app.simulation.slot-writer.pool-size:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("slot-writer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Drivers for on-demand fast-forwards. They only queue chunks on the slot writers and wait,
+     * so a small pool is enough.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fastForwardExecutor(
+            @Value("${app.simulation.fast-forward.pool-size:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("fast-forward-");
+        return executor;
+    }
+}
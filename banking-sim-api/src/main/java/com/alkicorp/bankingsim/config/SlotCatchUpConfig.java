@@ -0,0 +1,20 @@
+package com.alkicorp.bankingsim.config;
+
+import com.alkicorp.bankingsim.web.SlotCatchUpInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class SlotCatchUpConfig implements WebMvcConfigurer {
+
+    private final SlotCatchUpInterceptor slotCatchUpInterceptor;
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(slotCatchUpInterceptor).addPathPatterns("/api/slots/*/**");
+    }
+}
@@ -57,4 +57,11 @@ public class BankState {
 
     @Column(name = "last_update_timestamp", nullable = false)
     private Instant lastUpdateTimestamp;
+
+    @Column(name = "rng_seed")
+    private Long rngSeed;
+
+    // Transactions before this game day have been compacted into daily summaries.
+    @Column(name = "transactions_compacted_before", nullable = false)
+    private Integer transactionsCompactedBefore = 0;
 }
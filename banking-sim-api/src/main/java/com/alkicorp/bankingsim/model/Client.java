@@ -37,7 +37,7 @@ public class Client {
     private String name;
 
     @Column(name = "checking_balance", nullable = false, precision = 19, scale = 2)
-    private BigDecimal checkingBalance;
+    private Money checkingBalance;
 
     @Column(name = "daily_withdrawn", nullable = false, precision = 19, scale = 2)
     private BigDecimal dailyWithdrawn;
@@ -58,10 +58,10 @@ public class Client {
     private BigDecimal savingsBalance;
 
     @Column(name = "monthly_income_cache", precision = 19, scale = 2)
-    private BigDecimal monthlyIncomeCache;
+    private Money monthlyIncomeCache;
 
     @Column(name = "monthly_mandatory_cache", precision = 19, scale = 2)
-    private BigDecimal monthlyMandatoryCache;
+    private Money monthlyMandatoryCache;
 
     @Column(name = "monthly_discretionary_target", precision = 19, scale = 2)
     private BigDecimal monthlyDiscretionaryTarget;
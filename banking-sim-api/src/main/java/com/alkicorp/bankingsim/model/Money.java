@@ -0,0 +1,133 @@
+package com.alkicorp.bankingsim.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money held as whole cents. Arithmetic stays on {@code long}; operations that
+ * produce fractions of a cent round HALF_UP, exactly like {@code setScale(2, HALF_UP)} on the
+ * equivalent BigDecimal. Overflow throws {@link ArithmeticException}.
+ * <p>
+ * Stored through {@link MoneyConverter} in the existing {@code numeric(19,2)} columns.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L);
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0L ? ZERO : new Money(cents);
+    }
+
+    /**
+     * The amount rounded HALF_UP to cents.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * {@link #of(BigDecimal)}, or {@link #ZERO} for null.
+     */
+    public static Money orZero(BigDecimal amount) {
+        return amount == null ? ZERO : of(amount);
+    }
+
+    public long cents() {
+        return cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public Money plus(Money other) {
+        return other.cents == 0L ? this : ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return other.cents == 0L ? this : ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * This amount times {@code rate}, rounded HALF_UP to cents.
+     */
+    public Money times(BigDecimal rate) {
+        int scale = rate.scale();
+        if (scale < 0 || scale >= POWERS_OF_TEN.length) {
+            return of(toBigDecimal().multiply(rate));
+        }
+        long numerator = rate.unscaledValue().longValueExact();
+        return ofCents(divideHalfUp(Math.multiplyExact(cents, numerator), POWERS_OF_TEN[scale]));
+    }
+
+    /**
+     * This amount split {@code divisor} ways, rounded HALF_UP to cents.
+     */
+    public Money dividedBy(long divisor) {
+        return ofCents(divideHalfUp(cents, divisor));
+    }
+
+    public Money min(Money other) {
+        return cents <= other.cents ? this : other;
+    }
+
+    public Money max(Money other) {
+        return cents >= other.cents ? this : other;
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public boolean isPositive() {
+        return cents > 0L;
+    }
+
+    public boolean isZero() {
+        return cents == 0L;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && cents == other.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * Integer division rounding half away from zero, which is HALF_UP for signed amounts.
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder != 0 && Math.abs(remainder) >= Math.abs(divisor) - Math.abs(remainder)) {
+            quotient += Long.signum(dividend) * Long.signum(divisor);
+        }
+        return quotient;
+    }
+}
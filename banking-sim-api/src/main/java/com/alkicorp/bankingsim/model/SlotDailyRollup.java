@@ -0,0 +1,69 @@
+package com.alkicorp.bankingsim.model;
+
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Sum and count of one client's transactions of one type on one game day. Rows are only
+ * written by the native upserts in {@code SlotDailyRollupRepository}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@IdClass(SlotDailyRollup.Key.class)
+@Table(name = "slot_daily_rollup")
+public class SlotDailyRollup {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Column(name = "slot_id", nullable = false)
+    private Integer slotId;
+
+    @Id
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Id
+    @Column(name = "game_day", nullable = false)
+    private Integer gameDay;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 40)
+    private TransactionType type;
+
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "tx_count", nullable = false)
+    private Long count;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private Integer slotId;
+        private Long clientId;
+        private Integer gameDay;
+        private TransactionType type;
+    }
+}
@@ -11,6 +11,8 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -26,7 +28,8 @@ import lombok.Setter;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_transaction_seq")
+    @SequenceGenerator(name = "client_transaction_seq", sequenceName = "client_transaction_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -45,4 +48,15 @@ public class Transaction {
 
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
+
+    // With gameDay, the partition key: each slot's rows live in partitions of their own.
+    @Column(name = "bank_state_id", nullable = false, updatable = false)
+    private Long bankStateId;
+
+    @PrePersist
+    void onCreate() {
+        if (bankStateId == null) {
+            bankStateId = client.getBankState().getId();
+        }
+    }
 }
@@ -1,9 +1,33 @@
 package com.alkicorp.bankingsim.repository;
 
 import com.alkicorp.bankingsim.model.BankState;
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BankStateRepository extends JpaRepository<BankState, Long> {
     Optional<BankState> findBySlotIdAndUserId(Integer slotId, Long userId);
+
+    /**
+     * Every slot the user has started, with its client count, in one statement. Each count is an
+     * index-only scan of the slot's own clients.
+     */
+    @Query("""
+            select b.slotId as slotId, b.gameDay as gameDay, b.liquidCash as liquidCash,
+                   (select count(c) from Client c where c.bankState = b) as clientCount
+            from BankState b
+            where b.user.id = :userId
+            order by b.slotId
+            """)
+    List<SlotSummaryProjection> findSlotSummaries(@Param("userId") Long userId);
+
+    interface SlotSummaryProjection {
+        Integer getSlotId();
+        Double getGameDay();
+        BigDecimal getLiquidCash();
+        long getClientCount();
+    }
 }
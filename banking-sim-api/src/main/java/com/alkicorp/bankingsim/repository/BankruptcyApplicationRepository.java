@@ -5,9 +5,22 @@ import com.alkicorp.bankingsim.model.enums.BankruptcyStatus;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BankruptcyApplicationRepository extends JpaRepository<BankruptcyApplication, Long> {
     List<BankruptcyApplication> findBySlotId(int slotId);
     List<BankruptcyApplication> findByClientId(Long clientId);
     Optional<BankruptcyApplication> findFirstByClientIdAndStatusIn(Long clientId, List<BankruptcyStatus> statuses);
+
+    @Query("select b.client.bankState.user.id from BankruptcyApplication b where b.id = :id and b.slotId = :slotId")
+    Optional<Long> findOwnerId(@Param("id") Long id, @Param("slotId") int slotId);
+
+    @Query("""
+            select b.id as id, b.client.bankState.user.id as userId, b.slotId as slotId, b.dischargeAt as dueDay
+            from BankruptcyApplication b
+            where b.status = com.alkicorp.bankingsim.model.enums.BankruptcyStatus.APPROVED
+              and b.dischargeAt is not null
+            """)
+    List<ObligationDueProjection> findScheduledDischarges();
 }
@@ -5,12 +5,52 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ClientJobRepository extends JpaRepository<ClientJob, Long> {
     List<ClientJob> findBySlotId(int slotId);
+    @EntityGraph(attributePaths = "job")
     List<ClientJob> findBySlotIdAndClientBankStateUserId(int slotId, Long userId);
     List<ClientJob> findByClientId(Long clientId);
 
     @EntityGraph(attributePaths = "job")
     Optional<ClientJob> findFirstByClientIdAndPrimaryTrueOrderByStartDateDesc(Long clientId);
+
+    /**
+     * The primary jobs of every client in the slot, latest start first, in one query; the first
+     * row of each client is the one {@link #findFirstByClientIdAndPrimaryTrueOrderByStartDateDesc}
+     * returns.
+     */
+    @EntityGraph(attributePaths = "job")
+    List<ClientJob> findBySlotIdAndClientBankStateUserIdAndPrimaryTrueOrderByStartDateDesc(int slotId, Long userId);
+
+    /**
+     * Set-based payroll, step 3: moves every paid primary job past {@code gameDay}. Clears the
+     * persistence context, since the balances and paydays loaded before are now stale.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            update client_jobs cj
+            set next_payday = cj.next_payday + floor(:gameDay - cj.next_payday) + 1
+            from client c
+              join bank_state b on b.id = c.bank_state_id
+            where c.id = cj.client_id
+              and cj.slot_id = :slotId
+              and b.user_id = :userId
+              and cj.is_primary = true
+              and cj.next_payday <= :gameDay
+            """, nativeQuery = true)
+    int advancePaydays(@Param("slotId") Integer slotId,
+            @Param("userId") Long userId,
+            @Param("gameDay") double gameDay);
+
+    @Query("""
+            select cj.id as id, cj.client.bankState.user.id as userId, cj.slotId as slotId,
+                   cj.nextPayday as dueDay
+            from ClientJob cj
+            where cj.primary = true
+            """)
+    List<ObligationDueProjection> findScheduledPaydays();
 }
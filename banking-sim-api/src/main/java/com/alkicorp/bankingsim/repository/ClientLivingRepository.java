@@ -4,9 +4,18 @@ import com.alkicorp.bankingsim.model.ClientLiving;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ClientLivingRepository extends JpaRepository<ClientLiving, Long> {
     Optional<ClientLiving> findByClientIdAndSlotId(Long clientId, int slotId);
     List<ClientLiving> findBySlotId(int slotId);
     List<ClientLiving> findBySlotIdAndClientBankStateUserId(int slotId, Long userId);
+
+    @Query("""
+            select cl.id as id, cl.client.bankState.user.id as userId, cl.slotId as slotId,
+                   coalesce(cl.nextRentDay, 0) as dueDay
+            from ClientLiving cl
+            where cl.monthlyRentCache > 0
+            """)
+    List<ObligationDueProjection> findScheduledRent();
 }
@@ -3,11 +3,18 @@ package com.alkicorp.bankingsim.repository;
 import com.alkicorp.bankingsim.model.Client;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ClientRepository extends JpaRepository<Client, Long> {
     List<Client> findBySlotIdAndBankStateUserId(Integer slotId, Long userId);
 
+    @EntityGraph(attributePaths = "bankState")
+    List<Client> findWithBankStateBySlotIdAndBankStateUserId(Integer slotId, Long userId);
+
     Optional<Client> findByIdAndSlotIdAndBankStateUserId(Long id, Integer slotId, Long userId);
 
     void deleteBySlotIdAndBankStateUserId(Integer slotId, Long userId);
@@ -15,4 +22,33 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     List<Client> findBySlotId(Integer slotId);
 
     Optional<Client> findByIdAndSlotId(Long id, Integer slotId);
+
+    /**
+     * Set-based payroll, step 2: credits each client with the pay for all of its primary jobs'
+     * missed paydays in one statement.
+     */
+    @Modifying
+    @Query(value = """
+            update client c
+            set checking_balance = c.checking_balance + due.total
+            from (
+              select cj.client_id,
+                     sum(round(j.annual_salary / :periodsPerYear, 2)
+                         * (cast(floor(:gameDay - cj.next_payday) as integer) + 1)) as total
+              from client_jobs cj
+                join jobs j on j.id = cj.job_id
+                join client owner on owner.id = cj.client_id
+                join bank_state b on b.id = owner.bank_state_id
+              where cj.slot_id = :slotId
+                and b.user_id = :userId
+                and cj.is_primary = true
+                and cj.next_payday <= :gameDay
+              group by cj.client_id
+            ) due
+            where c.id = due.client_id
+            """, nativeQuery = true)
+    int creditPayroll(@Param("slotId") Integer slotId,
+            @Param("userId") Long userId,
+            @Param("gameDay") double gameDay,
+            @Param("periodsPerYear") int periodsPerYear);
 }
@@ -0,0 +1,12 @@
+package com.alkicorp.bankingsim.repository;
+
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * One line of a slot's exported ledger: the transaction and the client it belongs to.
+ */
+public record LedgerRow(Long id, Long clientId, String clientName, TransactionType type, BigDecimal amount,
+        Integer gameDay, Instant createdAt) {
+}
@@ -4,6 +4,7 @@ import com.alkicorp.bankingsim.model.Loan;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface LoanRepository extends JpaRepository<Loan, Long> {
     List<Loan> findBySlotId(int slotId);
@@ -15,4 +16,13 @@ public interface LoanRepository extends JpaRepository<Loan, Long> {
     Optional<Loan> findByIdAndSlotId(Long id, int slotId);
 
     Optional<Loan> findByIdAndSlotIdAndUserId(Long id, int slotId, Long userId);
+
+    @Query("""
+            select l.id as id, l.user.id as userId, l.slotId as slotId, l.nextPaymentDay as dueDay
+            from Loan l
+            where l.status = com.alkicorp.bankingsim.model.enums.LoanStatus.APPROVED
+              and l.nextPaymentDay is not null
+              and l.monthlyPayment is not null
+            """)
+    List<ObligationDueProjection> findScheduledPayments();
 }
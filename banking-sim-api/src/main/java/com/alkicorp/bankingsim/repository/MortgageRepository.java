@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface MortgageRepository extends JpaRepository<Mortgage, Long> {
     @EntityGraph(attributePaths = { "product" })
@@ -21,4 +22,13 @@ public interface MortgageRepository extends JpaRepository<Mortgage, Long> {
     Optional<Mortgage> findByIdAndSlotId(Long id, int slotId);
 
     Optional<Mortgage> findByIdAndSlotIdAndUserId(Long id, int slotId, Long userId);
+
+    @Query("""
+            select m.id as id, m.user.id as userId, m.slotId as slotId, m.nextPaymentDay as dueDay
+            from Mortgage m
+            where m.status = com.alkicorp.bankingsim.model.enums.MortgageStatus.ACCEPTED
+              and m.nextPaymentDay is not null
+              and m.monthlyPayment is not null
+            """)
+    List<ObligationDueProjection> findScheduledPayments();
 }
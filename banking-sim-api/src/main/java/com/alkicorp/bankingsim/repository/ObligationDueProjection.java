@@ -0,0 +1,15 @@
+package com.alkicorp.bankingsim.repository;
+
+/**
+ * One scheduled obligation as read for the obligation calendar: the row, its owning slot and the
+ * game day it falls due.
+ */
+public interface ObligationDueProjection {
+    Long getId();
+
+    Long getUserId();
+
+    Integer getSlotId();
+
+    Number getDueDay();
+}
@@ -0,0 +1,154 @@
+package com.alkicorp.bankingsim.repository;
+
+import com.alkicorp.bankingsim.model.SlotDailyRollup;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SlotDailyRollupRepository extends JpaRepository<SlotDailyRollup, SlotDailyRollup.Key> {
+
+    /**
+     * Per game day totals for the activity chart, split into money out ({@code withdrawalTypes})
+     * and everything else.
+     */
+    @Query("""
+            select r.gameDay as gameDay,
+              coalesce(sum(case when r.type in :withdrawalTypes then 0 else r.amount end), 0) as deposits,
+              coalesce(sum(case when r.type in :withdrawalTypes then r.amount else 0 end), 0) as withdrawals
+            from SlotDailyRollup r
+            where r.userId = :userId
+              and r.slotId = :slotId
+              and r.gameDay between 0 and :toDay
+            group by r.gameDay
+            """)
+    List<DailyActivityProjection> sumDailyActivity(@Param("slotId") Integer slotId,
+            @Param("userId") Long userId,
+            @Param("toDay") Integer toDay,
+            @Param("withdrawalTypes") Collection<TransactionType> withdrawalTypes);
+
+    @Query("""
+            select
+              coalesce(sum(case when r.type in :depositTypes then r.amount else 0 end), 0) as income,
+              coalesce(sum(case when r.type in :depositTypes then 0 else r.amount end), 0) as spending
+            from SlotDailyRollup r
+            where r.userId = :userId
+              and r.slotId = :slotId
+              and r.clientId = :clientId
+              and r.gameDay = :gameMonth
+            """)
+    MonthlyCashflowProjection findMonthlyCashflow(@Param("userId") Long userId,
+            @Param("slotId") Integer slotId,
+            @Param("clientId") Long clientId,
+            @Param("gameMonth") Integer gameMonth,
+            @Param("depositTypes") Collection<TransactionType> depositTypes);
+
+    /**
+     * All-time and {@code currentDay} totals of the given types across the slot.
+     */
+    @Query("""
+            select coalesce(sum(r.amount), 0) as total,
+              coalesce(sum(case when r.gameDay = :currentDay then r.amount else 0 end), 0) as currentDay
+            from SlotDailyRollup r
+            where r.userId = :userId
+              and r.slotId = :slotId
+              and r.type in :types
+            """)
+    TypeTotalsProjection sumByTypes(@Param("userId") Long userId,
+            @Param("slotId") Integer slotId,
+            @Param("currentDay") Integer currentDay,
+            @Param("types") Collection<TransactionType> types);
+
+    /**
+     * Adds already-grouped totals, one array element per (client, day, type); the owner and slot
+     * are read from the client. Keys must not repeat within one call.
+     */
+    @Modifying
+    @Query(value = """
+            insert into slot_daily_rollup (user_id, slot_id, client_id, game_day, type, amount, tx_count)
+            select b.user_id, c.slot_id, r.client_id, r.game_day, r.type, r.amount, r.tx_count
+            from unnest(cast(:clientIds as bigint[]), cast(:gameDays as integer[]), cast(:types as varchar[]),
+                        cast(:amounts as numeric[]), cast(:counts as bigint[]))
+                   as r(client_id, game_day, type, amount, tx_count)
+              join client c on c.id = r.client_id
+              join bank_state b on b.id = c.bank_state_id
+            where b.user_id is not null
+            on conflict (user_id, slot_id, client_id, game_day, type) do update
+              set amount = slot_daily_rollup.amount + excluded.amount,
+                  tx_count = slot_daily_rollup.tx_count + excluded.tx_count
+            """, nativeQuery = true)
+    int add(@Param("clientIds") Long[] clientIds,
+            @Param("gameDays") Integer[] gameDays,
+            @Param("types") String[] types,
+            @Param("amounts") BigDecimal[] amounts,
+            @Param("counts") Long[] counts);
+
+    /**
+     * The set-based payroll's deposits, grouped the same way; run it with
+     * {@link TransactionRepository#insertPayrollDeposits} before the paydays move.
+     */
+    @Modifying
+    @Query(value = """
+            insert into slot_daily_rollup (user_id, slot_id, client_id, game_day, type, amount, tx_count)
+            select b.user_id, cj.slot_id, cj.client_id, floor(cj.next_payday + n.i), 'PAYROLL_DEPOSIT',
+                   sum(round(j.annual_salary / :periodsPerYear, 2)), count(*)
+            from client_jobs cj
+              join jobs j on j.id = cj.job_id
+              join client c on c.id = cj.client_id
+              join bank_state b on b.id = c.bank_state_id
+              cross join lateral generate_series(0, cast(floor(:gameDay - cj.next_payday) as integer)) as n(i)
+            where cj.slot_id = :slotId
+              and b.user_id = :userId
+              and cj.is_primary = true
+              and cj.next_payday <= :gameDay
+            group by b.user_id, cj.slot_id, cj.client_id, floor(cj.next_payday + n.i)
+            on conflict (user_id, slot_id, client_id, game_day, type) do update
+              set amount = slot_daily_rollup.amount + excluded.amount,
+                  tx_count = slot_daily_rollup.tx_count + excluded.tx_count
+            """, nativeQuery = true)
+    int addPayrollDeposits(@Param("slotId") Integer slotId,
+            @Param("userId") Long userId,
+            @Param("gameDay") double gameDay,
+            @Param("periodsPerYear") int periodsPerYear);
+
+    /**
+     * Backfill: recomputes a slot's rows from its transactions, counting a compacted summary row
+     * as the rows it replaced. Delete the slot's rows first.
+     */
+    @Modifying
+    @Query(value = """
+            insert into slot_daily_rollup (user_id, slot_id, client_id, game_day, type, amount, tx_count)
+            select b.user_id, b.slot_id, t.client_id, t.game_day, t.type, sum(t.amount),
+                   sum(coalesce(t.compacted_count, 1))
+            from client_transaction t
+              join bank_state b on b.id = t.bank_state_id
+            where b.slot_id = :slotId
+              and b.user_id = :userId
+            group by b.user_id, b.slot_id, t.client_id, t.game_day, t.type
+            """, nativeQuery = true)
+    int insertFromTransactions(@Param("slotId") Integer slotId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from SlotDailyRollup r where r.slotId = :slotId and r.userId = :userId")
+    int deleteBySlotIdAndUserId(@Param("slotId") Integer slotId, @Param("userId") Long userId);
+
+    interface DailyActivityProjection {
+        Integer getGameDay();
+        BigDecimal getDeposits();
+        BigDecimal getWithdrawals();
+    }
+
+    interface MonthlyCashflowProjection {
+        BigDecimal getIncome();
+        BigDecimal getSpending();
+    }
+
+    interface TypeTotalsProjection {
+        BigDecimal getTotal();
+        BigDecimal getCurrentDay();
+    }
+}
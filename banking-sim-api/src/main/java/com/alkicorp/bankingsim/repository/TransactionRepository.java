@@ -1,53 +1,247 @@
 package com.alkicorp.bankingsim.repository;
 
-import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
+import jakarta.persistence.QueryHint;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    List<Transaction> findByClientOrderByCreatedAtDesc(Client client);
-    List<Transaction> findByClientIn(Collection<Client> clients);
-    List<Transaction> findByClientInAndTypeInOrderByCreatedAtDesc(Collection<Client> clients, Collection<TransactionType> types);
-    List<Transaction> findByClientIdAndTypeInOrderByGameDayAscCreatedAtAsc(Long clientId, Collection<TransactionType> types);
-    void deleteByClientIn(Collection<Client> clients);
+    List<Transaction> findByBankStateIdAndClientIdOrderByCreatedAtDescIdDesc(Long bankStateId, Long clientId,
+            Limit limit);
+    List<Transaction> findByBankStateIdAndClientIdAndTypeInOrderByGameDayAscCreatedAtAsc(Long bankStateId,
+            Long clientId, Collection<TransactionType> types);
 
-    boolean existsByClientIdAndTypeAndGameDay(Long clientId, com.alkicorp.bankingsim.model.enums.TransactionType type, Integer gameDay);
+    boolean existsByBankStateIdAndClientIdAndTypeAndGameDay(Long bankStateId, Long clientId, TransactionType type,
+            Integer gameDay);
 
+    /**
+     * First page of a client's history, newest first.
+     */
     @Query("""
-            select
-              coalesce(sum(case when t.type in :depositTypes then t.amount else 0 end), 0) as income,
-              coalesce(sum(case when t.type in :depositTypes then 0 else t.amount end), 0) as spending
+            select t
             from Transaction t
-            where t.client.id = :clientId
-              and t.client.slotId = :slotId
-              and t.gameDay = :gameMonth
+            where t.bankStateId = :bankStateId
+              and t.client.id = :clientId
+              and t.type in :types
+              and t.gameDay between :fromDay and :toDay
+            order by t.createdAt desc, t.id desc
             """)
-    MonthlyCashflowProjection findMonthlyCashflow(@Param("clientId") Long clientId,
-            @Param("slotId") Integer slotId,
-            @Param("gameMonth") Integer gameMonth,
-            @Param("depositTypes") Collection<TransactionType> depositTypes);
+    List<Transaction> findPage(@Param("bankStateId") Long bankStateId,
+            @Param("clientId") Long clientId,
+            @Param("types") Collection<TransactionType> types,
+            @Param("fromDay") Integer fromDay,
+            @Param("toDay") Integer toDay,
+            Limit limit);
 
+    /**
+     * The page after {@code (createdAt, id)}: a row comparison the (client_id, created_at, id)
+     * index answers with one range scan, however deep the page.
+     */
     @Query("""
-            select coalesce(sum(t.amount), 0)
+            select t
             from Transaction t
-            where t.client.id = :clientId
+            where t.bankStateId = :bankStateId
+              and t.client.id = :clientId
               and t.type in :types
-              and t.gameDay >= :startDay
-              and (:endDay is null or t.gameDay < :endDay)
+              and t.gameDay between :fromDay and :toDay
+              and (t.createdAt, t.id) < (:createdAt, :id)
+            order by t.createdAt desc, t.id desc
             """)
-    BigDecimal sumByClientAndTypesAndDayRange(@Param("clientId") Long clientId,
+    List<Transaction> findPageAfter(@Param("bankStateId") Long bankStateId,
+            @Param("clientId") Long clientId,
             @Param("types") Collection<TransactionType> types,
-            @Param("startDay") Integer startDay,
-            @Param("endDay") Integer endDay);
+            @Param("fromDay") Integer fromDay,
+            @Param("toDay") Integer toDay,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    @Query("""
+            select t.client.id as clientId, t.gameDay as gameDay
+            from Transaction t
+            where t.bankStateId = :bankStateId
+              and t.client.id in :clientIds
+              and t.type = :type
+              and t.gameDay between :fromDay and :toDay
+            """)
+    List<ClientDayProjection> findClientDaysByType(@Param("bankStateId") Long bankStateId,
+            @Param("clientIds") Collection<Long> clientIds,
+            @Param("type") TransactionType type,
+            @Param("fromDay") Integer fromDay,
+            @Param("toDay") Integer toDay);
+
+    /**
+     * Set-based payroll, step 1: one PAYROLL_DEPOSIT per missed payday of every primary job in
+     * the slot, read from the jobs' current {@code next_payday} (run before the paydays move).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            insert into client_transaction (id, client_id, type, amount, game_day, created_at, bank_state_id)
+            select nextval('client_transaction_seq'), cj.client_id, 'PAYROLL_DEPOSIT',
+                   round(j.annual_salary / :periodsPerYear, 2), floor(cj.next_payday + n.i), :createdAt, b.id
+            from client_jobs cj
+              join jobs j on j.id = cj.job_id
+              join client c on c.id = cj.client_id
+              join bank_state b on b.id = c.bank_state_id
+              cross join lateral generate_series(0, cast(floor(:gameDay - cj.next_payday) as integer)) as n(i)
+            where cj.slot_id = :slotId
+              and b.user_id = :userId
+              and cj.is_primary = true
+              and cj.next_payday <= :gameDay
+            """, nativeQuery = true)
+    int insertPayrollDeposits(@Param("slotId") Integer slotId,
+            @Param("userId") Long userId,
+            @Param("gameDay") double gameDay,
+            @Param("periodsPerYear") int periodsPerYear,
+            @Param("createdAt") Instant createdAt);
+
+    /**
+     * The slot's latest {@code limit} transactions of the given types, newest game day first.
+     * Each (client, type) is read from the top of its index range, so the cost depends on the
+     * number of clients and not on how much history they have.
+     */
+    @Query(value = """
+            select c.name as clientName, t.type as type, t.amount as amount, t.game_day as gameDay,
+                   t.created_at as createdAt
+            from client c
+              join bank_state b on b.id = c.bank_state_id
+              cross join unnest(cast(:types as varchar[])) as r(type)
+              cross join lateral (
+                select tx.id, tx.type, tx.amount, tx.game_day, tx.created_at
+                from client_transaction tx
+                where tx.bank_state_id = b.id
+                  and tx.client_id = c.id
+                  and tx.type = r.type
+                order by tx.game_day desc, tx.created_at desc
+                limit :limit) t
+            where c.slot_id = :slotId
+              and b.user_id = :userId
+            order by t.game_day desc, t.created_at desc, t.id desc
+            limit :limit
+            """, nativeQuery = true)
+    List<LatestTransactionProjection> findLatestBySlotAndTypes(@Param("slotId") Integer slotId,
+            @Param("userId") Long userId,
+            @Param("types") String[] types,
+            @Param("limit") int limit);
+
+    /**
+     * Every transaction of the slot, oldest first, as plain records so nothing collects in the
+     * persistence context and no projection proxy is built per row. Rows come from a server-side
+     * cursor 1,000 at a time; call it inside a transaction and close the stream.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.alkicorp.bankingsim.repository.LedgerRow(
+              t.id, c.id, c.name, t.type, t.amount, t.gameDay, t.createdAt)
+            from Transaction t
+              join t.client c
+            where t.bankStateId = :bankStateId
+            order by t.createdAt, t.id
+            """)
+    Stream<LedgerRow> streamLedger(@Param("bankStateId") Long bankStateId);
+
+    /**
+     * Creates the slot's partitions for game days {@code fromDay..toDay} and the window after
+     * them, so writes never reach a day without one. Existing partitions are left alone.
+     */
+    @Query(value = "select ensure_client_transaction_partitions(:bankStateId, :fromDay, :toDay)",
+            nativeQuery = true)
+    int ensurePartitions(@Param("bankStateId") Long bankStateId,
+            @Param("fromDay") int fromDay,
+            @Param("toDay") int toDay);
+
+    /**
+     * Empties every partition of the slot; returns how many there were. They stay attached for
+     * the restarted slot to refill.
+     */
+    @Query(value = "select truncate_client_transaction_partitions(:bankStateId)", nativeQuery = true)
+    int truncatePartitions(@Param("bankStateId") Long bankStateId);
+
+    /**
+     * Compacts the slot's transactions of game days {@code fromDay} (inclusive) to
+     * {@code beforeDay} (exclusive) in one statement. The original rows move to
+     * {@code client_transaction_archive}, one row per client. Each (client, game day, type) with
+     * more than one row is replaced by one summary row carrying the total and the number of rows
+     * it stands for. A lone row is already its own summary and stays where it is. Mortgage payments
+     * stay as they are too, because the mortgage ledger matches them to mortgages one by one.
+     */
+    @Query(value = """
+            with moved as (
+              delete from client_transaction t
+              using (
+                select g.client_id, g.game_day, g.type
+                from client_transaction g
+                where g.bank_state_id = :bankStateId
+                  and g.game_day >= :fromDay
+                  and g.game_day < :beforeDay
+                  and g.compacted_count is null
+                  and g.type <> 'MORTGAGE_PAYMENT'
+                group by g.client_id, g.game_day, g.type
+                having count(*) > 1) d
+              where t.bank_state_id = :bankStateId
+                and t.game_day >= :fromDay
+                and t.game_day < :beforeDay
+                and t.compacted_count is null
+                and t.client_id = d.client_id
+                and t.game_day = d.game_day
+                and t.type = d.type
+              returning t.id, t.client_id, t.type, t.amount, t.game_day, t.created_at),
+            archived as (
+              insert into client_transaction_archive (bank_state_id, client_id, from_day, to_day, row_count, ledger,
+                                                      archived_at)
+              select :bankStateId, m.client_id, min(m.game_day), max(m.game_day), count(*),
+                     string_agg(concat_ws(',', m.id, m.type, m.amount, m.game_day, m.created_at), chr(10)
+                                order by m.created_at, m.id),
+                     :archivedAt
+              from moved m
+              group by m.client_id
+              returning row_count),
+            summarized as (
+              insert into client_transaction (id, client_id, type, amount, game_day, created_at, bank_state_id,
+                                              compacted_count)
+              select nextval('client_transaction_seq'), m.client_id, m.type, sum(m.amount), m.game_day,
+                     max(m.created_at), :bankStateId, count(*)
+              from moved m
+              group by m.client_id, m.game_day, m.type
+              returning id)
+            select (select coalesce(sum(a.row_count), 0) from archived a) as archivedRows,
+                   (select count(*) from summarized) as summaryRows
+            """, nativeQuery = true)
+    CompactionProjection compact(@Param("bankStateId") Long bankStateId,
+            @Param("fromDay") int fromDay,
+            @Param("beforeDay") int beforeDay,
+            @Param("archivedAt") Instant archivedAt);
+
+    @Modifying
+    @Query(value = "delete from client_transaction_archive where bank_state_id = :bankStateId", nativeQuery = true)
+    int deleteArchive(@Param("bankStateId") Long bankStateId);
+
+    interface LatestTransactionProjection {
+        String getClientName();
+        TransactionType getType();
+        BigDecimal getAmount();
+        Integer getGameDay();
+        Instant getCreatedAt();
+    }
+
+    interface ClientDayProjection {
+        Long getClientId();
+        Integer getGameDay();
+    }
 
-    interface MonthlyCashflowProjection {
-        BigDecimal getIncome();
-        BigDecimal getSpending();
+    interface CompactionProjection {
+        long getArchivedRows();
+        long getSummaryRows();
     }
 }
@@ -0,0 +1,65 @@
+package com.alkicorp.bankingsim.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Slots that were read recently and should be kept current by {@link SlotTicker}, with the lag
+ * measured on each background advance.
+ */
+@Component
+public class ActiveSlotRegistry {
+
+    private final Map<SlotKey, SlotActivity> slots = new ConcurrentHashMap<>();
+
+    public void touch(Long userId, int slotId, Instant now) {
+        slots.computeIfAbsent(new SlotKey(userId, slotId), key -> new SlotActivity(key, now)).lastSeen = now;
+    }
+
+    public void remove(SlotKey key) {
+        slots.remove(key);
+    }
+
+    public int evictIdleBefore(Instant cutoff) {
+        int before = slots.size();
+        slots.values().removeIf(activity -> activity.lastSeen.isBefore(cutoff));
+        return before - slots.size();
+    }
+
+    public List<SlotActivity> snapshot() {
+        return new ArrayList<>(slots.values());
+    }
+
+    public record SlotKey(Long userId, int slotId) {
+    }
+
+    @Getter
+    public static class SlotActivity {
+
+        private final SlotKey key;
+        private final AtomicBoolean inFlight = new AtomicBoolean();
+        private volatile Instant lastSeen;
+        private volatile Instant lastAdvancedAt;
+        private volatile long lagMillis;
+        private volatile long lastAdvanceMillis;
+        private volatile long advances;
+
+        SlotActivity(SlotKey key, Instant lastSeen) {
+            this.key = key;
+            this.lastSeen = lastSeen;
+        }
+
+        void recordAdvance(Instant startedAt, long lagMillis, long durationMillis) {
+            this.lastAdvancedAt = startedAt;
+            this.lagMillis = lagMillis;
+            this.lastAdvanceMillis = durationMillis;
+            this.advances++;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bank-level accruals: monthly growth of liquid cash plus the year-end S&P 500 growth and
+ * dividend. {@link #fastForward} covers any number of days in one call by running the same
+ * recurrence on whole cents, so it rounds exactly like the day-by-day BigDecimal rules.
+ */
+final class BankAccruals {
+
+    /**
+     * Receives the GROWTH and DIVIDEND amounts produced at each year end.
+     */
+    @FunctionalInterface
+    interface ReturnRecorder {
+        void record(InvestmentEventType type, BigDecimal amount, int gameDay);
+    }
+
+    private BankAccruals() {
+    }
+
+    static boolean isYearEnd(int day) {
+        return (day + 1) % SimulationConstants.DAYS_PER_YEAR == 0;
+    }
+
+    static void growLiquidCash(BankState state) {
+        BigDecimal currentCash = state.getLiquidCash();
+        if (currentCash == null || currentCash.compareTo(BigDecimal.ZERO) <= 0) {
+            return;
+        }
+        BigDecimal growthAmount = currentCash.multiply(SimulationConstants.LIQUID_CASH_MONTHLY_GROWTH)
+                .setScale(2, RoundingMode.HALF_UP);
+        state.setLiquidCash(currentCash.add(growthAmount));
+    }
+
+    /**
+     * Year-end S&P 500 growth followed by the dividend paid out of the grown position.
+     */
+    static void collectSp500Returns(BankState state, int day, ReturnRecorder returns) {
+        BigDecimal invested = state.getInvestedSp500();
+        if (invested.compareTo(BigDecimal.ZERO) > 0) {
+            BigDecimal growthAmount = invested.multiply(SimulationConstants.SP500_ANNUAL_GROWTH)
+                    .setScale(2, RoundingMode.HALF_UP);
+            state.setInvestedSp500(invested.add(growthAmount));
+            returns.record(InvestmentEventType.GROWTH, growthAmount, day);
+        }
+        state.setNextGrowthDay(day + SimulationConstants.DAYS_PER_YEAR);
+
+        invested = state.getInvestedSp500();
+        if (invested.compareTo(BigDecimal.ZERO) > 0) {
+            BigDecimal dividendAmount = invested.multiply(SimulationConstants.SP500_ANNUAL_DIVIDEND)
+                    .setScale(2, RoundingMode.HALF_UP);
+            state.setLiquidCash(state.getLiquidCash().add(dividendAmount));
+            returns.record(InvestmentEventType.DIVIDEND, dividendAmount, day);
+        }
+        state.setNextDividendDay(day + SimulationConstants.DAYS_PER_YEAR);
+    }
+
+    /**
+     * Applies days {@code (fromDay, toDay]} of accruals. {@code credits[i]} is the amount paid
+     * into liquid cash on day {@code fromDay + 1 + i} after that day's growth (repayments
+     * collected from clients); entries may be null.
+     * <p>
+     * A pure {@code (1 + r)^k} formula drifts by cents from the per-day HALF_UP rounding, so the
+     * recurrence itself is replayed on {@code long} cents: a few integer operations per day and
+     * one BigDecimal conversion at the end. Values that do not fit in cents fall back to the
+     * per-day rules.
+     */
+    static void fastForward(BankState state, int fromDay, int toDay, BigDecimal[] credits, ReturnRecorder returns) {
+        if (toDay <= fromDay) {
+            return;
+        }
+        List<PendingReturn> pending = new ArrayList<>();
+        try {
+            long cash = stateCents(state.getLiquidCash());
+            long invested = stateCents(state.getInvestedSp500());
+            Rate cashGrowth = Rate.of(SimulationConstants.LIQUID_CASH_MONTHLY_GROWTH);
+            Rate sp500Growth = Rate.of(SimulationConstants.SP500_ANNUAL_GROWTH);
+            Rate sp500Dividend = Rate.of(SimulationConstants.SP500_ANNUAL_DIVIDEND);
+            int lastYearEnd = -1;
+            for (int day = fromDay + 1; day <= toDay; day++) {
+                if (cash > 0) {
+                    cash = Math.addExact(cash, cashGrowth.applyTo(cash));
+                }
+                if (isYearEnd(day)) {
+                    if (invested > 0) {
+                        long growth = sp500Growth.applyTo(invested);
+                        invested = Math.addExact(invested, growth);
+                        pending.add(new PendingReturn(InvestmentEventType.GROWTH, growth, day));
+                    }
+                    if (invested > 0) {
+                        long dividend = sp500Dividend.applyTo(invested);
+                        cash = Math.addExact(cash, dividend);
+                        pending.add(new PendingReturn(InvestmentEventType.DIVIDEND, dividend, day));
+                    }
+                    lastYearEnd = day;
+                }
+                BigDecimal credit = credits[day - fromDay - 1];
+                if (credit != null) {
+                    cash = Math.addExact(cash, toCents(credit));
+                }
+            }
+            state.setLiquidCash(BigDecimal.valueOf(cash, 2));
+            state.setInvestedSp500(BigDecimal.valueOf(invested, 2));
+            if (lastYearEnd >= 0) {
+                state.setNextGrowthDay(lastYearEnd + SimulationConstants.DAYS_PER_YEAR);
+                state.setNextDividendDay(lastYearEnd + SimulationConstants.DAYS_PER_YEAR);
+            }
+        } catch (ArithmeticException notRepresentable) {
+            replay(state, fromDay, toDay, credits, returns);
+            return;
+        }
+        for (PendingReturn ret : pending) {
+            returns.record(ret.type(), BigDecimal.valueOf(ret.cents(), 2), ret.day());
+        }
+    }
+
+    private static void replay(BankState state, int fromDay, int toDay, BigDecimal[] credits,
+            ReturnRecorder returns) {
+        for (int day = fromDay + 1; day <= toDay; day++) {
+            growLiquidCash(state);
+            if (isYearEnd(day)) {
+                collectSp500Returns(state, day, returns);
+            }
+            BigDecimal credit = credits[day - fromDay - 1];
+            if (credit != null) {
+                state.setLiquidCash(state.getLiquidCash().add(credit));
+            }
+        }
+    }
+
+    /**
+     * Exact cents of an amount; fractions of a cent or values beyond {@code long} throw so the
+     * caller can fall back to BigDecimal.
+     */
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Stored balances must already carry scale 2, otherwise the BigDecimal rules would keep a
+     * different scale than the cents result.
+     */
+    private static long stateCents(BigDecimal amount) {
+        if (amount == null || amount.scale() != 2) {
+            throw new ArithmeticException("Balance is not stored in cents: " + amount);
+        }
+        return toCents(amount);
+    }
+
+    /**
+     * A rate {@code numerator / 10^scale} applied to positive cents with HALF_UP rounding.
+     */
+    private record Rate(long numerator, long denominator) {
+
+        static Rate of(BigDecimal rate) {
+            return new Rate(rate.unscaledValue().longValueExact(), BigDecimal.TEN.pow(rate.scale()).longValueExact());
+        }
+
+        long applyTo(long cents) {
+            long doubled = Math.multiplyExact(Math.multiplyExact(cents, numerator), 2L);
+            return Math.addExact(doubled, denominator) / (2L * denominator);
+        }
+    }
+
+    private record PendingReturn(InvestmentEventType type, long cents, int day) {
+    }
+}
@@ -3,13 +3,16 @@ package com.alkicorp.bankingsim.service;
 import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.BankState;
-import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.BankStateRepository.SlotSummaryProjection;
 import com.alkicorp.bankingsim.web.dto.BankStateResponse;
 import com.alkicorp.bankingsim.web.dto.SlotSummaryResponse;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import lombok.RequiredArgsConstructor;
@@ -21,69 +24,67 @@ import org.springframework.transaction.annotation.Transactional;
 public class BankService {
 
     private final SimulationService simulationService;
-    private final ClientRepository clientRepository;
+    private final BankStateRepository bankStateRepository;
     private final CurrentUserService currentUserService;
 
-    @Transactional
-    public List<SlotSummaryResponse> getSlotSummaries(List<Integer> slots) {
+    @Value("${app.slots.defaults:1,2,3}")
+    private List<Integer> defaultSlots;
+
+    /**
+     * The default slots plus any other slot the user has started, in slot order, read in one
+     * statement. Slots are shown as last persisted; opening one catches it up.
+     */
+    @Transactional(readOnly = true)
+    public List<SlotSummaryResponse> getSlotSummaries() {
         User user = currentUserService.getCurrentUser();
-        List<BankState> states = simulationService.listAndAdvanceSlots(user, slots);
-        return slots.stream()
-                .map(slotId -> {
-                    Optional<BankState> stateOpt = states.stream()
-                            .filter(s -> s.getSlotId().equals(slotId))
-                            .findFirst();
-                    if (stateOpt.isPresent()) {
-                        BankState state = stateOpt.get();
-                        int clientCount = clientRepository.findBySlotIdAndBankStateUserId(state.getSlotId(), user.getId()).size();
-                        boolean hasData = state.getGameDay() > 0 || clientCount > 0;
-                        return SlotSummaryResponse.builder()
-                                .slotId(state.getSlotId())
-                                .clientCount(clientCount)
-                                .gameDay(state.getGameDay())
-                                .liquidCash(state.getLiquidCash())
-                                .hasData(hasData)
-                                .build();
-                    } else {
-                        // Slot has no bank state - return empty summary
-                        int clientCount = clientRepository.findBySlotIdAndBankStateUserId(slotId, user.getId()).size();
-                        return SlotSummaryResponse.builder()
-                                .slotId(slotId)
-                                .clientCount(clientCount)
-                                .gameDay(0.0)
-                                .liquidCash(BigDecimal.ZERO)
-                                .hasData(clientCount > 0)
-                                .build();
-                    }
-                })
-                .collect(Collectors.toList());
+        Map<Integer, SlotSummaryResponse> summaries = new TreeMap<>();
+        for (Integer slotId : defaultSlots) {
+            summaries.put(slotId, SlotSummaryResponse.builder()
+                    .slotId(slotId)
+                    .clientCount(0)
+                    .gameDay(0.0)
+                    .liquidCash(BigDecimal.ZERO)
+                    .hasData(false)
+                    .build());
+        }
+        for (SlotSummaryProjection slot : bankStateRepository.findSlotSummaries(user.getId())) {
+            int clientCount = (int) slot.getClientCount();
+            summaries.put(slot.getSlotId(), SlotSummaryResponse.builder()
+                    .slotId(slot.getSlotId())
+                    .clientCount(clientCount)
+                    .gameDay(slot.getGameDay())
+                    .liquidCash(slot.getLiquidCash())
+                    .hasData(slot.getGameDay() > 0 || clientCount > 0)
+                    .build());
+        }
+        return new ArrayList<>(summaries.values());
     }
 
-    @Transactional
     public BankStateResponse resetAndGetState(int slotId) {
         User user = currentUserService.getCurrentUser();
         BankState state = simulationService.resetSlot(user, slotId);
         return toResponse(state);
     }
 
-    @Transactional
     public BankStateResponse updateMortgageRate(int slotId, BigDecimal mortgageRate) {
         if (mortgageRate == null || mortgageRate.compareTo(BigDecimal.ZERO) < 0) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid mortgage rate.");
         }
         User user = currentUserService.getCurrentUser();
-        BankState state = simulationService.getAndAdvanceState(user, slotId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                        "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
-                                + "/start to initialize the slot."));
-        state.setMortgageRate(mortgageRate);
-        return toResponse(state);
+        return simulationService.writeSlot(user, slotId, () -> {
+            BankState state = simulationService.getAndAdvanceState(user, slotId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                            "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
+                                    + "/start to initialize the slot."));
+            state.setMortgageRate(mortgageRate);
+            return toResponse(state);
+        });
     }
 
     @Transactional
     public BankStateResponse getBankState(int slotId) {
         User user = currentUserService.getCurrentUser();
-        BankState state = simulationService.getAndAdvanceState(user, slotId)
+        BankState state = simulationService.getCurrentState(user, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                 + "/start to initialize the slot."));
@@ -8,6 +8,7 @@ import com.alkicorp.bankingsim.repository.ClientRepository;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -20,15 +21,21 @@ public class BankruptcyService {
     private final BankruptcyApplicationRepository bankruptcyApplicationRepository;
     private final ClientRepository clientRepository;
     private final ClientService clientService;
+    private final SimulationService simulationService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock = Clock.systemUTC();
 
     public BankruptcyService(
             BankruptcyApplicationRepository bankruptcyApplicationRepository,
             ClientRepository clientRepository,
-            @Lazy ClientService clientService) {
+            @Lazy ClientService clientService,
+            @Lazy SimulationService simulationService,
+            ApplicationEventPublisher eventPublisher) {
         this.bankruptcyApplicationRepository = bankruptcyApplicationRepository;
         this.clientRepository = clientRepository;
         this.clientService = clientService;
+        this.simulationService = simulationService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -43,8 +50,14 @@ public class BankruptcyService {
         return bankruptcyApplicationRepository.save(app);
     }
 
-    @Transactional
-    public BankruptcyApplication decide(Long applicationId, BankruptcyStatus status) {
+    public BankruptcyApplication decide(int slotId, Long applicationId, BankruptcyStatus status) {
+        Long ownerId = bankruptcyApplicationRepository.findOwnerId(applicationId, slotId)
+                .orElseThrow(
+                        () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Bankruptcy application not found"));
+        return simulationService.writeSlot(ownerId, slotId, () -> decide(applicationId, status));
+    }
+
+    private BankruptcyApplication decide(Long applicationId, BankruptcyStatus status) {
         BankruptcyApplication app = bankruptcyApplicationRepository.findById(applicationId)
                 .orElseThrow(
                         () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Bankruptcy application not found"));
@@ -66,27 +79,39 @@ public class BankruptcyService {
             client.setPurchasingBlockReason(null);
             clientRepository.save(client);
         }
-        return bankruptcyApplicationRepository.save(app);
+        BankruptcyApplication saved = bankruptcyApplicationRepository.save(app);
+        eventPublisher.publishEvent(ObligationChangedEvent.of(saved));
+        return saved;
     }
 
     @Transactional
     public void checkDischarge(int slotId, double currentGameDay) {
         List<BankruptcyApplication> apps = bankruptcyApplicationRepository.findBySlotId(slotId);
         for (BankruptcyApplication app : apps) {
-            if (app.getStatus() == BankruptcyStatus.APPROVED && app.getDischargeAt() != null) {
-                if (currentGameDay >= app.getDischargeAt()) {
-                    app.setStatus(BankruptcyStatus.FINISHED);
-                    Client client = app.getClient();
-                    client.setBankrupt(false);
-                    client.setBankruptUntil(null);
-                    client.setPurchasingBlockReason(null);
-                    clientRepository.save(client);
-                    bankruptcyApplicationRepository.save(app);
-                }
+            if (discharge(app, currentGameDay)) {
+                clientRepository.save(app.getClient());
+                bankruptcyApplicationRepository.save(app);
             }
         }
     }
 
+    /**
+     * Finishes an approved application once its discharge day has been reached and clears the
+     * client's bankruptcy flags. Returns whether anything changed; nothing is saved here.
+     */
+    boolean discharge(BankruptcyApplication app, double currentGameDay) {
+        if (app.getStatus() != BankruptcyStatus.APPROVED || app.getDischargeAt() == null
+                || currentGameDay < app.getDischargeAt()) {
+            return false;
+        }
+        app.setStatus(BankruptcyStatus.FINISHED);
+        Client client = app.getClient();
+        client.setBankrupt(false);
+        client.setBankruptUntil(null);
+        client.setPurchasingBlockReason(null);
+        return true;
+    }
+
     private double computeDischargeDay(Instant filedAt) {
         // 7 years expressed in game days: 7 * 12 * 30 = 2520
         return 2520d;
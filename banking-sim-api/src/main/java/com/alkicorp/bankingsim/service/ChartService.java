@@ -4,19 +4,20 @@ import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
-import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.ClientRepository;
-import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository.DailyActivityProjection;
 import com.alkicorp.bankingsim.web.dto.ActivityChartResponse;
 import com.alkicorp.bankingsim.web.dto.ClientDistributionResponse;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,9 +27,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChartService {
 
+    private static final Set<TransactionType> WITHDRAWAL_TYPES =
+        EnumSet.of(TransactionType.WITHDRAWAL, TransactionType.MORTGAGE_DOWN_PAYMENT);
+
     private final SimulationService simulationService;
     private final ClientRepository clientRepository;
-    private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupRepository rollupRepository;
     private final CurrentUserService currentUserService;
 
     @Transactional(readOnly = true)
@@ -40,7 +44,7 @@ public class ChartService {
             .sorted(Comparator.comparing(Client::getName))
             .map(c -> ClientDistributionResponse.Item.builder()
                 .name(c.getName())
-                .balance(c.getCheckingBalance().doubleValue())
+                .balance(c.getCheckingBalance().toBigDecimal().doubleValue())
                 .build())
             .collect(Collectors.toList());
         return ClientDistributionResponse.builder().clients(items).build();
@@ -49,39 +53,29 @@ public class ChartService {
     @Transactional(readOnly = true)
     public ActivityChartResponse getActivityChart(int slotId) {
         User user = currentUserService.getCurrentUser();
-        Optional<BankState> stateOpt = simulationService.getAndAdvanceState(user, slotId);
+        Optional<BankState> stateOpt = simulationService.getCurrentState(user, slotId);
         int currentDay = stateOpt.map(s -> (int) Math.floor(s.getGameDay())).orElse(0);
 
-        List<Client> clients = clientRepository.findBySlotIdAndBankStateUserId(slotId, user.getId());
-        List<Transaction> transactions = clients.isEmpty()
-            ? List.of()
-            : transactionRepository.findByClientIn(clients);
-
-        Map<Integer, BigDecimal> deposits = new HashMap<>();
-        Map<Integer, BigDecimal> withdrawals = new HashMap<>();
-        for (Transaction tx : transactions) {
-            Map<Integer, BigDecimal> target =
-                (tx.getType() == TransactionType.WITHDRAWAL || tx.getType() == TransactionType.MORTGAGE_DOWN_PAYMENT)
-                    ? withdrawals
-                    : deposits;
-            target.merge(tx.getGameDay(), tx.getAmount(), BigDecimal::add);
+        // One row per game day from the rollup; running totals in cents, indexed by day.
+        long[] deposits = new long[currentDay + 1];
+        long[] withdrawals = new long[currentDay + 1];
+        for (DailyActivityProjection row : rollupRepository.sumDailyActivity(slotId, user.getId(), currentDay,
+                WITHDRAWAL_TYPES)) {
+            deposits[row.getGameDay()] = cents(row.getDeposits());
+            withdrawals[row.getGameDay()] = cents(row.getWithdrawals());
         }
 
-        List<Integer> days = new ArrayList<>();
-        List<Double> cumulativeDeposits = new ArrayList<>();
-        List<Double> cumulativeWithdrawals = new ArrayList<>();
-        BigDecimal depositTotal = BigDecimal.ZERO;
-        BigDecimal withdrawalTotal = BigDecimal.ZERO;
+        List<Integer> days = new ArrayList<>(currentDay + 1);
+        List<Double> cumulativeDeposits = new ArrayList<>(currentDay + 1);
+        List<Double> cumulativeWithdrawals = new ArrayList<>(currentDay + 1);
+        long depositTotal = 0;
+        long withdrawalTotal = 0;
         for (int day = 0; day <= currentDay; day++) {
-            if (deposits.containsKey(day)) {
-                depositTotal = depositTotal.add(deposits.get(day));
-            }
-            if (withdrawals.containsKey(day)) {
-                withdrawalTotal = withdrawalTotal.add(withdrawals.get(day));
-            }
+            depositTotal += deposits[day];
+            withdrawalTotal += withdrawals[day];
             days.add(day);
-            cumulativeDeposits.add(depositTotal.doubleValue());
-            cumulativeWithdrawals.add(withdrawalTotal.doubleValue());
+            cumulativeDeposits.add(depositTotal / 100d);
+            cumulativeWithdrawals.add(withdrawalTotal / 100d);
         }
         return ActivityChartResponse.builder()
             .days(days)
@@ -89,4 +83,8 @@ public class ChartService {
             .cumulativeWithdrawals(cumulativeWithdrawals)
             .build();
     }
+
+    private static long cents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
 }
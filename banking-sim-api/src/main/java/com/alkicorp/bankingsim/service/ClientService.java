@@ -5,10 +5,13 @@ import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository.MonthlyCashflowProjection;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
 import com.alkicorp.bankingsim.web.dto.MonthlyCashflowResponse;
 import jakarta.validation.ValidationException;
@@ -17,9 +20,14 @@ import java.math.RoundingMode;
 import java.security.SecureRandom;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,12 +48,19 @@ public class ClientService {
     private final ClientRepository clientRepository;
     private final ClientJobRepository clientJobRepository;
     private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupRepository rollupRepository;
+    private final SlotDailyRollupService rollupService;
     private final SimulationService simulationService;
     private final CurrentUserService currentUserService;
     private final Clock clock = Clock.systemUTC();
     private final SecureRandom secureRandom = new SecureRandom();
 
-    @Transactional
+    @Value("${app.transactions.unpaged-limit:1000}")
+    private int unpagedLimit;
+
+    @Value("${app.transactions.max-page-size:200}")
+    private int maxPageSize;
+
     public Client createClient(int slotId, String name) {
         if (name == null || name.isBlank()) {
             throw new ValidationException("Please enter the client's name.");
@@ -54,6 +69,10 @@ public class ClientService {
             throw new ValidationException("Client name is too long (max 80 characters).");
         }
         User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId, () -> insertClient(user, slotId, name));
+    }
+
+    private Client insertClient(User user, int slotId, String name) {
         BankState state = simulationService.getAndAdvanceState(user, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
@@ -62,11 +81,11 @@ public class ClientService {
         client.setBankState(state);
         client.setSlotId(slotId);
         client.setName(name.trim());
-        client.setCheckingBalance(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP));
+        client.setCheckingBalance(Money.ZERO);
         client.setDailyWithdrawn(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP));
         client.setSavingsBalance(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP));
-        client.setMonthlyIncomeCache(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP));
-        client.setMonthlyMandatoryCache(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP));
+        client.setMonthlyIncomeCache(Money.ZERO);
+        client.setMonthlyMandatoryCache(Money.ZERO);
         client.setMonthlyDiscretionaryTarget(BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP));
         client.setEmploymentStatus("ACTIVE");
         client.setBankrupt(false);
@@ -84,14 +103,35 @@ public class ClientService {
     @Transactional
     public List<Client> getClients(int slotId) {
         User user = currentUserService.getCurrentUser();
-        // Advance the simulation so payroll/spending post before returning balances.
-        simulationService.getAndAdvanceState(user, slotId)
+        // The slot ticker keeps balances current; this only checks the slot exists.
+        simulationService.getCurrentState(user, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                 + "/start to initialize the slot."));
         return clientRepository.findBySlotIdAndBankStateUserId(slotId, user.getId());
     }
 
+    /**
+     * The slot's clients with their primary job, in a fixed number of queries however many
+     * clients there are: one for the clients and their bank state, one for all primary jobs.
+     */
+    @Transactional(readOnly = true)
+    public List<ClientListing> getClientListings(int slotId) {
+        User user = currentUserService.getCurrentUser();
+        simulationService.getCurrentState(user, slotId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
+                                + "/start to initialize the slot."));
+        Map<Long, ClientJob> primaryJobs = new HashMap<>();
+        for (ClientJob job : clientJobRepository
+                .findBySlotIdAndClientBankStateUserIdAndPrimaryTrueOrderByStartDateDesc(slotId, user.getId())) {
+            primaryJobs.putIfAbsent(job.getClient().getId(), job);
+        }
+        return clientRepository.findWithBankStateBySlotIdAndBankStateUserId(slotId, user.getId()).stream()
+                .map(client -> new ClientListing(client, primaryJobs.get(client.getId())))
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public java.util.Optional<ClientJob> getPrimaryJob(Client client) {
         if (client == null || client.getId() == null) {
@@ -107,25 +147,31 @@ public class ClientService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                 + "/start to initialize the slot."));
+        return findOwnedClient(user, slotId, clientId);
+    }
+
+    private Client findOwnedClient(User user, int slotId, Long clientId) {
         var clientOpt = clientRepository.findByIdAndSlotIdAndBankStateUserId(clientId, slotId, user.getId());
         return clientOpt.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Client not found"));
     }
 
-    @Transactional
     public Transaction deposit(int slotId, Long clientId, BigDecimal amount) {
         return creditAccount(slotId, clientId, amount, TransactionType.DEPOSIT, true);
     }
 
-    @Transactional
     public Transaction withdraw(int slotId, Long clientId, BigDecimal amount) {
         validateAmount(amount, false);
         User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId, () -> debit(user, slotId, clientId, amount));
+    }
+
+    private Transaction debit(User user, int slotId, Long clientId, BigDecimal amount) {
         BankState state = simulationService.getAndAdvanceState(user, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                 + "/start to initialize the slot."));
         Client client = getClient(slotId, clientId);
-        if (amount.compareTo(client.getCheckingBalance()) > 0) {
+        if (amount.compareTo(client.getCheckingBalance().toBigDecimal()) > 0) {
             throw new ValidationException("Insufficient funds.");
         }
         BigDecimal remainingLimit = SimulationConstants.DAILY_WITHDRAWAL_LIMIT.subtract(client.getDailyWithdrawn());
@@ -133,28 +179,30 @@ public class ClientService {
             throw new ValidationException(
                     "Exceeds daily limit. You can withdraw $" + formatCurrency(remainingLimit) + " more today.");
         }
-        client.setCheckingBalance(client.getCheckingBalance().subtract(amount));
+        client.setCheckingBalance(client.getCheckingBalance().minus(Money.of(amount)));
         client.setDailyWithdrawn(client.getDailyWithdrawn().add(amount));
         clientRepository.save(client);
         return recordTransaction(client, state, TransactionType.WITHDRAWAL, amount);
     }
 
-    @Transactional
     public Transaction creditAccount(int slotId, Long clientId, BigDecimal amount, TransactionType type,
             boolean enforceUpperLimit) {
         validateAmount(amount, enforceUpperLimit);
         User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId, () -> credit(user, slotId, clientId, amount, type));
+    }
+
+    private Transaction credit(User user, int slotId, Long clientId, BigDecimal amount, TransactionType type) {
         BankState state = simulationService.getAndAdvanceState(user, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                 + "/start to initialize the slot."));
         Client client = getClient(slotId, clientId);
-        client.setCheckingBalance(client.getCheckingBalance().add(amount));
+        client.setCheckingBalance(client.getCheckingBalance().plus(Money.of(amount)));
         clientRepository.save(client);
         return recordTransaction(client, state, type, amount);
     }
 
-    @Transactional
     public Transaction fundMortgageDownPayment(int slotId, Long clientId, BigDecimal amount) {
         return creditAccount(slotId, clientId, amount, TransactionType.MORTGAGE_DOWN_PAYMENT_FUNDING, false);
     }
@@ -166,8 +214,48 @@ public class ClientService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                 + "/start to initialize the slot."));
-        Client client = getClient(slotId, clientId);
-        return transactionRepository.findByClientOrderByCreatedAtDesc(client);
+        Client client = findOwnedClient(user, slotId, clientId);
+        return transactionRepository.findByBankStateIdAndClientIdOrderByCreatedAtDescIdDesc(
+                client.getBankState().getId(), clientId, Limit.of(unpagedLimit));
+    }
+
+    /**
+     * One page of the client's history, newest first, optionally narrowed to {@code types} and
+     * the game days {@code fromDay..toDay}. Pass the previous page's cursor to continue; the
+     * returned cursor is null on the last page.
+     */
+    @Transactional(readOnly = true)
+    public TransactionPage getTransactionPage(Long clientId, int slotId, Collection<TransactionType> types,
+            Integer fromDay, Integer toDay, String cursor, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new ValidationException("Limit must be between 1 and " + maxPageSize + ".");
+        }
+        int from = fromDay == null ? 0 : fromDay;
+        int to = toDay == null ? Integer.MAX_VALUE : toDay;
+        if (from > to) {
+            throw new ValidationException("fromDay must not be after toDay.");
+        }
+        Collection<TransactionType> typeFilter = types == null || types.isEmpty()
+                ? EnumSet.allOf(TransactionType.class)
+                : types;
+        TransactionCursor after = cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor);
+        User user = currentUserService.getCurrentUser();
+        simulationService.getAndAdvanceState(user, slotId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
+                                + "/start to initialize the slot."));
+        Long bankStateId = findOwnedClient(user, slotId, clientId).getBankState().getId();
+        // One extra row tells whether another page follows.
+        Limit fetch = Limit.of(limit + 1);
+        List<Transaction> rows = after == null
+                ? transactionRepository.findPage(bankStateId, clientId, typeFilter, from, to, fetch)
+                : transactionRepository.findPageAfter(bankStateId, clientId, typeFilter, from, to, after.createdAt(),
+                        after.id(), fetch);
+        if (rows.size() <= limit) {
+            return new TransactionPage(rows, null);
+        }
+        List<Transaction> page = rows.subList(0, limit);
+        return new TransactionPage(page, TransactionCursor.after(page.get(limit - 1)).encode());
     }
 
     @Transactional(readOnly = true)
@@ -186,9 +274,10 @@ public class ClientService {
         getClient(slotId, clientId);
         int gameMonth = (year - 1) * SimulationConstants.DAYS_PER_YEAR + (month - 1);
 
-        TransactionRepository.MonthlyCashflowProjection totals = transactionRepository.findMonthlyCashflow(
-                clientId,
+        MonthlyCashflowProjection totals = rollupRepository.findMonthlyCashflow(
+                user.getId(),
                 slotId,
+                clientId,
                 gameMonth,
                 DEPOSIT_TYPES);
 
@@ -215,7 +304,9 @@ public class ClientService {
         tx.setAmount(amount.setScale(2, RoundingMode.HALF_UP));
         tx.setGameDay((int) Math.floor(state.getGameDay()));
         tx.setCreatedAt(Instant.now(clock));
-        return transactionRepository.save(tx);
+        Transaction saved = transactionRepository.save(tx);
+        rollupService.record(List.of(saved));
+        return saved;
     }
 
     private void validateAmount(BigDecimal amount, boolean enforceUpperLimit) {
@@ -246,6 +337,12 @@ public class ClientService {
         return value.setScale(2, RoundingMode.HALF_UP).toPlainString();
     }
 
+    public record TransactionPage(List<Transaction> transactions, String nextCursor) {
+    }
+
+    public record ClientListing(Client client, ClientJob primaryJob) {
+    }
+
     private record DebitCard(String number, String expiry, String cvv) {
     }
 }
@@ -0,0 +1,111 @@
+package com.alkicorp.bankingsim.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formats rows for {@code COPY ... FROM STDIN (FORMAT csv)} straight into a byte buffer, so
+ * millions of rows can be streamed without building a string per row. Values are written as-is:
+ * callers only pass text that needs no quoting, and {@link #nullValue()} writes CSV's unquoted
+ * empty field.
+ */
+final class CopyRowWriter implements AutoCloseable {
+
+    private static final int FLUSH_AT = 1 << 16;
+
+    private final OutputStream out;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_AT + 1024);
+    private int columns;
+    private long rows;
+
+    CopyRowWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    CopyRowWriter value(long value) {
+        separate().append(value);
+        return this;
+    }
+
+    CopyRowWriter value(double value) {
+        separate().append(value);
+        return this;
+    }
+
+    CopyRowWriter value(boolean value) {
+        separate().append(value ? 't' : 'f');
+        return this;
+    }
+
+    CopyRowWriter value(String value) {
+        separate().append(value);
+        return this;
+    }
+
+    /**
+     * A DECIMAL(19,2) amount given in cents.
+     */
+    CopyRowWriter cents(long cents) {
+        StringBuilder target = separate();
+        if (cents < 0) {
+            target.append('-');
+            cents = -cents;
+        }
+        long fraction = cents % 100;
+        target.append(cents / 100).append('.');
+        if (fraction < 10) {
+            target.append('0');
+        }
+        target.append(fraction);
+        return this;
+    }
+
+    CopyRowWriter nullValue() {
+        separate();
+        return this;
+    }
+
+    void endRow() {
+        buffer.append('\n');
+        columns = 0;
+        rows++;
+        if (buffer.length() >= FLUSH_AT) {
+            flush();
+        }
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private StringBuilder separate() {
+        if (columns++ > 0) {
+            buffer.append(',');
+        }
+        return buffer;
+    }
+
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        try {
+            out.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.setLength(0);
+    }
+}
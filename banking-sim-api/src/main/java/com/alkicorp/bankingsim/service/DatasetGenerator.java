@@ -0,0 +1,589 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.enums.LoanStatus;
+import com.alkicorp.bankingsim.model.enums.MortgageStatus;
+import com.alkicorp.bankingsim.model.enums.ProductStatus;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bulk-loads a synthetic dataset for performance work: users with one started slot each, their
+ * clients with a primary job, loans, mortgages on owned products, listings and a transaction
+ * history spread over the last {@code days} game days. Rows go in through {@code COPY}, all in one
+ * database transaction, and every value is drawn from one seeded random stream, so the same seed
+ * on the same starting database produces the same rows.
+ */
+@Slf4j
+@Service
+@Profile("datagen")
+@RequiredArgsConstructor
+public class DatasetGenerator {
+
+    private static final String[] FIRST_NAMES = {"Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley",
+            "Jamie", "Avery", "Quinn", "Charlie", "Dakota", "Emerson", "Finley", "Harper", "Kai", "Logan", "Noel",
+            "Parker", "Reese", "Rowan", "Sawyer", "Skyler", "Toni"};
+    private static final String[] LAST_NAMES = {"Smith", "Nguyen", "Garcia", "Tremblay", "Martin", "Roy", "Chen",
+            "Patel", "Kim", "Lopez", "Gagnon", "Wilson", "Brown", "Singh", "Cote", "Murphy", "Khan", "Ali",
+            "Dubois", "Walker"};
+    private static final String[] STREETS = {"Maple", "Oak", "Cedar", "Pine", "Elm", "Birch", "Willow", "Spruce"};
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+    private final Clock clock = Clock.systemUTC();
+
+    @Value("${app.datagen.users:100}")
+    private int users;
+
+    @Value("${app.datagen.clients:100000}")
+    private int clients;
+
+    @Value("${app.datagen.transactions:50000000}")
+    private long transactions;
+
+    @Value("${app.datagen.days:120}")
+    private int days;
+
+    @Value("${app.datagen.seed:42}")
+    private long seed;
+
+    @Value("${app.datagen.slot-id:1}")
+    private int slotId;
+
+    @Value("${app.datagen.username-prefix:datagen}")
+    private String usernamePrefix;
+
+    @Value("${app.datagen.password:datagen-password}")
+    private String password;
+
+    public void generate() throws SQLException {
+        if (users < 1 || clients < users || days < 1 || transactions < 0) {
+            throw new IllegalArgumentException("app.datagen needs users >= 1, clients >= users, days >= 1 and "
+                    + "transactions >= 0");
+        }
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                throw new IllegalStateException("The dataset generator needs PostgreSQL");
+            }
+            connection.setAutoCommit(false);
+            try {
+                Run run = new Run(connection, connection.unwrap(PGConnection.class).getCopyAPI());
+                run.load();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+            connection.setAutoCommit(true);
+            resetSequences(connection);
+        }
+        log.info("Generated {} users, {} clients and {} transactions (seed {}) in {} s", users, clients,
+                transactions, seed, (System.nanoTime() - started) / 1_000_000_000L);
+    }
+
+    /**
+     * Splits {@code total} over {@code buckets} with a long tail: most clients are light users and a
+     * few are very active. The parts always add up to {@code total}.
+     */
+    static long[] spread(long total, int buckets, SplittableRandom random) {
+        double[] weights = new double[buckets];
+        double sum = 0;
+        for (int i = 0; i < buckets; i++) {
+            // Exponential weights give roughly the 80/20 skew seen on real accounts.
+            weights[i] = 0.2 - Math.log(1 - random.nextDouble());
+            sum += weights[i];
+        }
+        long[] parts = new long[buckets];
+        long assigned = 0;
+        for (int i = 0; i < buckets; i++) {
+            parts[i] = (long) Math.floor(total * weights[i] / sum);
+            assigned += parts[i];
+        }
+        for (long left = total - assigned; left > 0; left--) {
+            parts[random.nextInt(buckets)]++;
+        }
+        return parts;
+    }
+
+    /**
+     * How many of a client's {@code count} transactions fall on {@code day}, spreading them evenly
+     * over {@code days} days.
+     */
+    static long shareOfDay(long count, int day, int days) {
+        return count * (day + 1) / days - count * day / days;
+    }
+
+    private void resetSequences(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of("users", "bank_state", "client", "client_jobs", "products", "loans",
+                    "mortgages")) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "), false)");
+            }
+            // Same bump as the changelog's pooled-sequence migration, so Hibernate's next block is free.
+            statement.execute("SELECT setval('client_transaction_seq', "
+                    + "(SELECT COALESCE(MAX(id), 0) + 50 FROM client_transaction), false)");
+            statement.execute("ANALYZE users, bank_state, client, client_jobs, products, loans, mortgages, "
+                    + "client_transaction, slot_daily_rollup");
+        }
+    }
+
+    /**
+     * One load. Ids are handed out from each table's current maximum so the rows can reference each
+     * other before anything is written.
+     */
+    private final class Run {
+
+        private final Connection connection;
+        private final CopyManager copy;
+        private final SplittableRandom random = new SplittableRandom(seed);
+        private final Instant now = Instant.now(clock);
+        private final List<Job> jobs = new ArrayList<>();
+
+        private long firstUserId;
+        private long firstBankStateId;
+        private long firstClientId;
+        private long nextClientJobId;
+        private long nextProductId;
+        private long nextLoanId;
+        private long nextMortgageId;
+        private long nextTransactionId;
+
+        // Per client, indexed from 0; mortgages and loans start on their origination day.
+        private int[] owner;
+        private Job[] job;
+        private long[] monthlyIncome;
+        private long[] loanPayment;
+        private int[] loanDay;
+        private long[] mortgagePayment;
+        private int[] mortgageDay;
+
+        Run(Connection connection, CopyManager copy) {
+            this.connection = connection;
+            this.copy = copy;
+        }
+
+        void load() throws SQLException {
+            prepare();
+            copyUsers();
+            copyBankStates();
+            planClients();
+            copyClients();
+            copyClientJobs();
+            copyLoans();
+            copyProductsAndMortgages();
+            partitionTransactions();
+            copyTransactions();
+            summarizeTransactions();
+        }
+
+        private void prepare() throws SQLException {
+            try (PreparedStatement existing = connection.prepareStatement(
+                    "SELECT COUNT(*) FROM users WHERE username LIKE ?")) {
+                existing.setString(1, usernamePrefix + "-%");
+                try (ResultSet rs = existing.executeQuery()) {
+                    rs.next();
+                    if (rs.getLong(1) > 0) {
+                        throw new IllegalStateException("Users named " + usernamePrefix + "-* already exist; "
+                                + "delete them or set app.datagen.username-prefix");
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement();
+                    ResultSet rs = statement.executeQuery("SELECT id, annual_salary FROM jobs ORDER BY id")) {
+                while (rs.next()) {
+                    jobs.add(new Job(rs.getLong(1), rs.getBigDecimal(2).movePointRight(2).longValue() / 12));
+                }
+            }
+            if (jobs.isEmpty()) {
+                throw new IllegalStateException("No jobs to assign; run the Liquibase changelog first");
+            }
+            firstUserId = maxId("users") + 1;
+            firstBankStateId = maxId("bank_state") + 1;
+            firstClientId = maxId("client") + 1;
+            nextClientJobId = maxId("client_jobs") + 1;
+            nextProductId = maxId("products") + 1;
+            nextLoanId = maxId("loans") + 1;
+            nextMortgageId = maxId("mortgages") + 1;
+            nextTransactionId = maxId("client_transaction") + 1;
+        }
+
+        private void copyUsers() throws SQLException {
+            String hash = passwordEncoder.encode(password);
+            Timestamp created = Timestamp.from(now.minusMillis(days * SimulationConstants.REAL_MS_PER_GAME_DAY));
+            try (CopyRowWriter rows = open("users (id, username, email, password_hash, created_at, admin_status)")) {
+                for (int u = 0; u < users; u++) {
+                    String username = usernamePrefix + "-" + u;
+                    rows.value(firstUserId + u).value(username).value(username + "@datagen.local").value(hash)
+                            .value(created.toString()).value(false).endRow();
+                }
+            }
+            long roleId = userRoleId();
+            try (CopyRowWriter rows = open("user_roles (user_id, role_id)")) {
+                for (int u = 0; u < users; u++) {
+                    rows.value(firstUserId + u).value(roleId).endRow();
+                }
+            }
+            log.info("Copied {} users", users);
+        }
+
+        private void copyBankStates() throws SQLException {
+            int nextYearEnd = (days / SimulationConstants.DAYS_PER_YEAR + 1) * SimulationConstants.DAYS_PER_YEAR - 1;
+            double sp500 = SimulationConstants.SP500_INITIAL_PRICE.doubleValue()
+                    * Math.pow(1 + SimulationConstants.SP500_ANNUAL_GROWTH.doubleValue(),
+                            days / SimulationConstants.DAYS_PER_YEAR);
+            try (CopyRowWriter rows = open("bank_state (id, slot_id, user_id, liquid_cash, invested_sp500, sp500_price, "
+                    + "game_day, next_dividend_day, next_growth_day, last_update_timestamp, mortgage_rate, rng_seed)")) {
+                for (int u = 0; u < users; u++) {
+                    long invested = random.nextLong(0, 5_000_000_00L);
+                    rows.value(firstBankStateId + u).value(slotId).value(firstUserId + u)
+                            .cents(random.nextLong(50_000_00L, 2_000_000_00L)).cents(invested)
+                            .cents(Math.round(sp500 * 100)).value((double) days).value(nextYearEnd)
+                            .value(nextYearEnd).value(Timestamp.from(now).toString())
+                            .value(rate(random.nextInt(300, 700))).value(random.nextLong()).endRow();
+                }
+            }
+        }
+
+        private void planClients() {
+            owner = new int[clients];
+            job = new Job[clients];
+            monthlyIncome = new long[clients];
+            loanPayment = new long[clients];
+            loanDay = new int[clients];
+            mortgagePayment = new long[clients];
+            mortgageDay = new int[clients];
+            for (int c = 0; c < clients; c++) {
+                owner[c] = (int) ((long) c * users / clients);
+                loanDay[c] = Integer.MAX_VALUE;
+                mortgageDay[c] = Integer.MAX_VALUE;
+            }
+        }
+
+        private void copyClients() throws SQLException {
+            try (CopyRowWriter rows = open("client (id, bank_state_id, slot_id, name, checking_balance, daily_withdrawn, "
+                    + "card_number, card_expiry, card_cvv, created_at, savings_balance, monthly_income_cache, "
+                    + "monthly_mandatory_cache, monthly_discretionary_target, employment_status, is_bankrupt, "
+                    + "bankrupt_until, missed_payment_streak, purchasing_block_reason)")) {
+                String created = Timestamp.from(now.minusMillis(days * SimulationConstants.REAL_MS_PER_GAME_DAY))
+                        .toString();
+                int year = now.atZone(clock.getZone()).getYear();
+                for (int c = 0; c < clients; c++) {
+                    job[c] = jobs.get(random.nextInt(jobs.size()));
+                    monthlyIncome[c] = job[c].monthlyCents();
+                    // Plans the client's credit here so the mandatory spend cache matches it.
+                    if (random.nextInt(100) < 30) {
+                        loanDay[c] = random.nextInt(days);
+                        loanPayment[c] = random.nextLong(50_00L, 800_00L);
+                    }
+                    if (random.nextInt(100) < 12) {
+                        mortgageDay[c] = random.nextInt(days);
+                        mortgagePayment[c] = random.nextLong(900_00L, 4_500_00L);
+                    }
+                    boolean bankrupt = random.nextInt(1000) < 5;
+                    rows.value(firstClientId + c).value(firstBankStateId + owner[c]).value(slotId)
+                            .value(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                            .cents(random.nextLong(0, 25_000_00L)).cents(0).value(cardNumber())
+                            .value(String.format("%02d/%02d", random.nextInt(1, 13), (year + random.nextInt(3, 8)) % 100))
+                            .value(random.nextInt(100, 1000)).value(created)
+                            .cents(random.nextLong(0, 40_000_00L)).cents(monthlyIncome[c])
+                            .cents(loanPayment[c] + mortgagePayment[c]).cents(monthlyIncome[c] / 5)
+                            .value(bankrupt ? "INACTIVE" : "ACTIVE").value(bankrupt);
+                    if (bankrupt) {
+                        rows.value((double) days + random.nextInt(12, 84)).value(random.nextInt(1, 4))
+                                .value("Bankruptcy in progress");
+                    } else {
+                        rows.nullValue().value(0).nullValue();
+                    }
+                    rows.endRow();
+                }
+            }
+            log.info("Copied {} clients", clients);
+        }
+
+        private void copyClientJobs() throws SQLException {
+            String started = Timestamp.from(now.minusMillis(days * SimulationConstants.REAL_MS_PER_GAME_DAY))
+                    .toString();
+            try (CopyRowWriter rows = open("client_jobs (id, client_id, slot_id, job_id, start_date, next_payday, "
+                    + "is_primary, created_at)")) {
+                for (int c = 0; c < clients; c++) {
+                    rows.value(nextClientJobId++).value(firstClientId + c).value(slotId).value(job[c].id()).value(started)
+                            .value(days + 1.0).value(true).value(started).endRow();
+                }
+            }
+        }
+
+        private void copyLoans() throws SQLException {
+            int count = 0;
+            try (CopyRowWriter rows = open("loans (id, slot_id, user_id, client_id, amount, term_years, interest_rate, "
+                    + "status, created_at, updated_at, missed_payments, last_payment_status, repossession_flag, "
+                    + "written_off, next_payment_day, monthly_payment, apr_snapshot, dti_at_origination)")) {
+                for (int c = 0; c < clients; c++) {
+                    if (loanPayment[c] == 0) {
+                        continue;
+                    }
+                    int termYears = random.nextInt(1, 8);
+                    String created = dayTimestamp(loanDay[c]);
+                    rows.value(nextLoanId++).value(slotId).value(firstUserId + owner[c]).value(firstClientId + c)
+                            .cents(loanPayment[c] * termYears * 12).value(termYears).value(rate(random.nextInt(400, 1500)))
+                            .value(LoanStatus.APPROVED.name()).value(created).value(created).value(0).value("PAID")
+                            .value(false).value(false).value(days + SimulationConstants.REPAYMENT_PERIOD_DAYS)
+                            .cents(loanPayment[c]).nullValue().value(dti(loanPayment[c], monthlyIncome[c])).endRow();
+                    count++;
+                }
+                // A few applications still waiting on the banker, as players leave them.
+                for (int u = 0; u < users; u++) {
+                    int c = (int) ((long) u * clients / users);
+                    String created = dayTimestamp(days - 1);
+                    rows.value(nextLoanId++).value(slotId).value(firstUserId + u).value(firstClientId + c)
+                            .cents(random.nextLong(1_000_00L, 50_000_00L)).value(random.nextInt(1, 8)).value(rate(0))
+                            .value(LoanStatus.PENDING.name()).value(created).value(created).value(0).nullValue()
+                            .value(false).value(false).nullValue().nullValue().nullValue().nullValue().endRow();
+                    count++;
+                }
+            }
+            log.info("Copied {} loans", count);
+        }
+
+        private void copyProductsAndMortgages() throws SQLException {
+            List<long[]> mortgages = new ArrayList<>();
+            try (CopyRowWriter rows = open("products (id, slot_id, created_by_user_id, owner_client_id, name, price, "
+                    + "description, rooms, sqft2, image_url, status, created_at)")) {
+                for (int c = 0; c < clients; c++) {
+                    if (mortgagePayment[c] == 0) {
+                        continue;
+                    }
+                    int termYears = random.nextInt(10, 31);
+                    long loan = mortgagePayment[c] * termYears * 12;
+                    long down = loan * random.nextInt(10, 26) / 100;
+                    long productId = nextProductId++;
+                    product(rows, productId, owner[c], firstClientId + c, loan + down, ProductStatus.OWNED,
+                            mortgageDay[c]);
+                    mortgages.add(new long[] {c, productId, termYears, loan, down});
+                }
+                // Listings still on the market in every slot.
+                int listingsPerUser = Math.max(1, clients / users / 20);
+                for (int u = 0; u < users; u++) {
+                    for (int i = 0; i < listingsPerUser; i++) {
+                        product(rows, nextProductId++, u, null, random.nextLong(150_000_00L, 1_500_000_00L),
+                                ProductStatus.AVAILABLE, random.nextInt(days));
+                    }
+                }
+            }
+            try (CopyRowWriter rows = open("mortgages (id, slot_id, user_id, client_id, product_id, property_price, "
+                    + "down_payment, loan_amount, term_years, interest_rate, status, created_at, updated_at, "
+                    + "missed_payments, last_payment_status, repossession_flag, written_off, next_payment_day, "
+                    + "monthly_payment, apr_snapshot, ltv_at_origination, start_payment_day, payments_made, "
+                    + "total_paid)")) {
+                for (long[] m : mortgages) {
+                    int c = (int) m[0];
+                    long loan = m[3];
+                    long down = m[4];
+                    int paymentsMade = days - mortgageDay[c];
+                    String created = dayTimestamp(mortgageDay[c]);
+                    rows.value(nextMortgageId++).value(slotId).value(firstUserId + owner[c]).value(firstClientId + c)
+                            .value(m[1]).cents(loan + down).cents(down).cents(loan).value(m[2])
+                            .value(rate(random.nextInt(300, 700))).value(MortgageStatus.ACCEPTED.name())
+                            .value(created).value(created).value(0).value("PAID").value(false).value(false)
+                            .value(days + SimulationConstants.REPAYMENT_PERIOD_DAYS).cents(mortgagePayment[c])
+                            .nullValue().value(ratio(loan, loan + down)).value(mortgageDay[c]).value(paymentsMade)
+                            .cents(down + paymentsMade * mortgagePayment[c]).endRow();
+                }
+            }
+            log.info("Copied {} mortgages", mortgages.size());
+        }
+
+        private void product(CopyRowWriter rows, long id, int user, Long ownerClientId, long price,
+                ProductStatus status, int day) {
+            int rooms = random.nextInt(1, 6);
+            rows.value(id).value(slotId).value(firstUserId + user);
+            if (ownerClientId == null) {
+                rows.nullValue();
+            } else {
+                rows.value(ownerClientId);
+            }
+            String street = STREETS[random.nextInt(STREETS.length)];
+            rows.value(random.nextInt(1, 999) + " " + street + " St").cents(price)
+                    .value(rooms + " bedroom home on " + street + " Street").value(rooms)
+                    .value(400 + rooms * random.nextInt(250, 700)).nullValue().value(status.name())
+                    .value(dayTimestamp(day)).endRow();
+        }
+
+        /**
+         * Every new slot's transaction partitions, up to the window after its current day.
+         */
+        private void partitionTransactions() throws SQLException {
+            try (PreparedStatement ensure = connection.prepareStatement(
+                    "SELECT ensure_client_transaction_partitions(id, 0, ?) FROM bank_state WHERE id >= ?")) {
+                ensure.setInt(1, days);
+                ensure.setLong(2, firstBankStateId);
+                try (ResultSet rs = ensure.executeQuery()) {
+                    int partitions = 0;
+                    while (rs.next()) {
+                        partitions += rs.getInt(1);
+                    }
+                    log.info("Created {} transaction partitions", partitions);
+                }
+            }
+        }
+
+        /**
+         * Written day by day across all clients, the order the simulation itself inserts in.
+         */
+        private void copyTransactions() throws SQLException {
+            long[] perClient = spread(transactions, clients, random);
+            try (CopyRowWriter rows = open("client_transaction (id, client_id, type, amount, game_day, created_at, "
+                    + "bank_state_id)")) {
+                for (int day = 0; day < days; day++) {
+                    String created = dayTimestamp(day);
+                    for (int c = 0; c < clients; c++) {
+                        long count = shareOfDay(perClient[c], day, days);
+                        for (long i = 0; i < count; i++) {
+                            transaction(rows, c, day, i, created);
+                        }
+                    }
+                    if ((day + 1) % 12 == 0) {
+                        log.info("Copied {} transactions through game day {}", rows.rows(), day);
+                    }
+                }
+            }
+        }
+
+        /**
+         * The daily rollup the charts and cashflow read, built in one pass over the new rows.
+         */
+        private void summarizeTransactions() throws SQLException {
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO slot_daily_rollup (user_id, slot_id, client_id, game_day, type, amount, tx_count)
+                    SELECT b.user_id, b.slot_id, t.client_id, t.game_day, t.type, SUM(t.amount), COUNT(*)
+                    FROM client_transaction t
+                      JOIN bank_state b ON b.id = t.bank_state_id
+                    WHERE t.bank_state_id >= ?
+                    GROUP BY b.user_id, b.slot_id, t.client_id, t.game_day, t.type
+                    """)) {
+                insert.setLong(1, firstBankStateId);
+                log.info("Summarized transactions into {} daily rollup rows", insert.executeUpdate());
+            }
+        }
+
+        /**
+         * The day's payday, loan and mortgage payments come first, the rest is everyday spending.
+         */
+        private void transaction(CopyRowWriter rows, int c, int day, long index, String created) {
+            TransactionType type;
+            long amount;
+            if (index == 0) {
+                type = TransactionType.PAYROLL_DEPOSIT;
+                amount = monthlyIncome[c];
+            } else if (index == 1 && day > loanDay[c]) {
+                type = TransactionType.PERSONAL_LOAN_PAYMENT;
+                amount = loanPayment[c];
+            } else if (index == 2 && day > mortgageDay[c]) {
+                type = TransactionType.MORTGAGE_PAYMENT;
+                amount = mortgagePayment[c];
+            } else {
+                int roll = random.nextInt(100);
+                long income = Math.max(monthlyIncome[c], 1_000_00L);
+                if (roll < 70) {
+                    type = TransactionType.SPENDING;
+                    amount = random.nextLong(5_00L, income / 8);
+                } else if (roll < 80) {
+                    type = TransactionType.WITHDRAWAL;
+                    amount = random.nextLong(20, 500) * 100;
+                } else if (roll < 88) {
+                    type = TransactionType.DEPOSIT;
+                    amount = random.nextLong(50_00L, income / 2);
+                } else if (roll < 93) {
+                    type = TransactionType.SAVINGS_DEPOSIT;
+                    amount = random.nextLong(25_00L, income / 5);
+                } else if (roll < 97) {
+                    type = TransactionType.CREDIT_CARD_PAYMENT;
+                    amount = random.nextLong(25_00L, income / 4);
+                } else {
+                    type = TransactionType.PAYMENT_FAILED;
+                    amount = random.nextLong(50_00L, income / 3);
+                }
+            }
+            rows.value(nextTransactionId++).value(firstClientId + c).value(type.name()).cents(amount).value(day)
+                    .value(created).value(firstBankStateId + owner[c]).endRow();
+        }
+
+        private CopyRowWriter open(String target) throws SQLException {
+            return new CopyRowWriter(new PGCopyOutputStream(copy.copyIn(
+                    "COPY " + target + " FROM STDIN (FORMAT csv)")));
+        }
+
+        private long maxId(String table) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                    ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+
+        private long userRoleId() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO roles (name) VALUES ('ROLE_USER') ON CONFLICT (name) DO NOTHING");
+                try (ResultSet rs = statement.executeQuery("SELECT id FROM roles WHERE name = 'ROLE_USER'")) {
+                    rs.next();
+                    return rs.getLong(1);
+                }
+            }
+        }
+
+        private String cardNumber() {
+            StringBuilder number = new StringBuilder(19);
+            for (int i = 0; i < 16; i++) {
+                number.append(random.nextInt(10));
+                if ((i + 1) % 4 == 0 && i < 15) {
+                    number.append(' ');
+                }
+            }
+            return number.toString();
+        }
+
+        /**
+         * When game day {@code day} happened in real time, with the slot's current day ending now.
+         */
+        private String dayTimestamp(int day) {
+            return Timestamp.from(now.minusMillis((days - day) * SimulationConstants.REAL_MS_PER_GAME_DAY))
+                    .toString();
+        }
+
+        private String rate(int basisPoints) {
+            return String.format("%d.%04d", basisPoints / 10_000, basisPoints % 10_000);
+        }
+
+        private String dti(long payment, long income) {
+            return ratio(payment, Math.max(income, 1));
+        }
+
+        private String ratio(long part, long whole) {
+            return rate((int) Math.min(9_999, part * 10_000 / whole));
+        }
+    }
+
+    private record Job(long id, long monthlyCents) {
+    }
+}
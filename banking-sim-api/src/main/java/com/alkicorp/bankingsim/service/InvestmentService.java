@@ -7,8 +7,9 @@ import com.alkicorp.bankingsim.model.InvestmentEvent;
 import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.BankStateRepository;
-import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository.TypeTotalsProjection;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
 import com.alkicorp.bankingsim.web.dto.InvestmentEventResponse;
 import com.alkicorp.bankingsim.web.dto.InvestmentStateResponse;
@@ -19,8 +20,10 @@ import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -31,18 +34,25 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class InvestmentService {
 
+    private static final Set<TransactionType> REPAYMENT_TYPES = EnumSet.of(
+            TransactionType.MORTGAGE_PAYMENT,
+            TransactionType.PERSONAL_LOAN_PAYMENT,
+            TransactionType.AUTO_LOAN_PAYMENT,
+            TransactionType.CREDIT_CARD_PAYMENT);
+    private static final int REPAYMENT_HISTORY_LIMIT = 50;
+
     private final SimulationService simulationService;
     private final BankStateRepository bankStateRepository;
     private final InvestmentEventRepository investmentEventRepository;
-    private final ClientRepository clientRepository;
     private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupRepository rollupRepository;
     private final CurrentUserService currentUserService;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional(readOnly = true)
     public BankState getInvestmentState(int slotId) {
         User user = currentUserService.getCurrentUser();
-        return simulationService.getAndAdvanceState(user, slotId)
+        return simulationService.getCurrentState(user, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                 + "/start to initialize the slot."));
@@ -54,10 +64,13 @@ public class InvestmentService {
         return buildResponse(state);
     }
 
-    @Transactional
     public BankState investInSp500(int slotId, BigDecimal amount) {
         validateAmount(amount);
         User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId, () -> invest(user, slotId, amount));
+    }
+
+    private BankState invest(User user, int slotId, BigDecimal amount) {
         BankState state = simulationService.getAndAdvanceState(user, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
@@ -72,16 +85,19 @@ public class InvestmentService {
         return state;
     }
 
-    @Transactional
     public InvestmentStateResponse investInSp500AndSummarize(int slotId, BigDecimal amount) {
-        BankState state = investInSp500(slotId, amount);
-        return buildResponse(state);
+        validateAmount(amount);
+        User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId, () -> buildResponse(invest(user, slotId, amount)));
     }
 
-    @Transactional
     public BankState divestFromSp500(int slotId, BigDecimal amount) {
         validateAmount(amount);
         User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId, () -> divest(user, slotId, amount));
+    }
+
+    private BankState divest(User user, int slotId, BigDecimal amount) {
         BankState state = simulationService.getAndAdvanceState(user, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
@@ -96,10 +112,10 @@ public class InvestmentService {
         return state;
     }
 
-    @Transactional
     public InvestmentStateResponse divestFromSp500AndSummarize(int slotId, BigDecimal amount) {
-        BankState state = divestFromSp500(slotId, amount);
-        return buildResponse(state);
+        validateAmount(amount);
+        User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId, () -> buildResponse(divest(user, slotId, amount)));
     }
 
     private InvestmentStateResponse buildResponse(BankState state) {
@@ -121,20 +137,8 @@ public class InvestmentService {
                         .build())
                 .toList();
 
-        List<RepaymentIncomeResponse> repayments = buildRepaymentIncome(slotId, user, currentDay);
-
-        BigDecimal repaymentTotal = repayments.stream()
-                .map(RepaymentIncomeResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal repaymentCurrentMonth = repayments.stream()
-                .filter(r -> r.getGameDay() == currentDay)
-                .map(RepaymentIncomeResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        List<RepaymentIncomeResponse> limitedRepayments = repayments.stream()
-                .limit(50)
-                .toList();
+        TypeTotalsProjection repaymentTotals = rollupRepository.sumByTypes(user.getId(), slotId, currentDay,
+                REPAYMENT_TYPES);
 
         return InvestmentStateResponse.builder()
                 .liquidCash(state.getLiquidCash())
@@ -144,28 +148,18 @@ public class InvestmentService {
                 .nextGrowthDay(state.getNextGrowthDay())
                 .gameDay(state.getGameDay())
                 .history(history)
-                .repaymentIncome(limitedRepayments)
-                .repaymentIncomeTotal(repaymentTotal)
-                .repaymentIncomeCurrentMonth(repaymentCurrentMonth)
+                .repaymentIncome(buildRepaymentIncome(slotId, user))
+                .repaymentIncomeTotal(repaymentTotals.getTotal())
+                .repaymentIncomeCurrentMonth(repaymentTotals.getCurrentDay())
                 .build();
     }
 
-    private List<RepaymentIncomeResponse> buildRepaymentIncome(int slotId, User user, int currentDay) {
-        var clients = clientRepository.findBySlotIdAndBankStateUserId(slotId, user.getId());
-        if (clients.isEmpty()) {
-            return List.of();
-        }
-        var repaymentTypes = List.of(
-                TransactionType.MORTGAGE_PAYMENT,
-                TransactionType.PERSONAL_LOAN_PAYMENT,
-                TransactionType.AUTO_LOAN_PAYMENT,
-                TransactionType.CREDIT_CARD_PAYMENT);
-        return transactionRepository.findByClientInAndTypeInOrderByCreatedAtDesc(clients, repaymentTypes).stream()
-                .sorted(Comparator.comparing(com.alkicorp.bankingsim.model.Transaction::getGameDay).reversed()
-                        .thenComparing(Comparator.comparing(com.alkicorp.bankingsim.model.Transaction::getCreatedAt)
-                                .reversed()))
+    private List<RepaymentIncomeResponse> buildRepaymentIncome(int slotId, User user) {
+        String[] types = REPAYMENT_TYPES.stream().map(TransactionType::name).toArray(String[]::new);
+        return transactionRepository.findLatestBySlotAndTypes(slotId, user.getId(), types, REPAYMENT_HISTORY_LIMIT)
+                .stream()
                 .map(tx -> RepaymentIncomeResponse.builder()
-                        .clientName(tx.getClient().getName())
+                        .clientName(tx.getClientName())
                         .type(tx.getType())
                         .amount(tx.getAmount())
                         .gameDay(tx.getGameDay())
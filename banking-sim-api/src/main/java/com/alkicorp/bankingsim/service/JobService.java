@@ -6,15 +6,18 @@ import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.ClientJob;
 import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.JobRepository;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
 import jakarta.validation.ValidationException;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +33,7 @@ public class JobService {
     private final ClientService clientService;
     private final SimulationService simulationService;
     private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional(readOnly = true)
@@ -46,9 +50,12 @@ public class JobService {
         return jobRepository.save(draft);
     }
 
-    @Transactional
     public ClientJob assignJob(int slotId, Long clientId, Long jobId, boolean primary) {
         User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId, () -> assign(user, slotId, clientId, jobId, primary));
+    }
+
+    private ClientJob assign(User user, int slotId, Long clientId, Long jobId, boolean primary) {
         Client client = clientService.getClient(slotId, clientId);
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found"));
@@ -66,26 +73,28 @@ public class JobService {
         cj.setNextPayday(Math.floor(state.getGameDay()) + 1.0);
         cj.setPrimary(primary);
         cj.setCreatedAt(Instant.now(clock));
+        SlotKey slot = new SlotKey(user.getId(), slotId);
         if (primary) {
             clientJobRepository.findByClientId(client.getId()).forEach(existing -> {
                 if (Boolean.TRUE.equals(existing.getPrimary())) {
                     existing.setPrimary(false);
-                    clientJobRepository.save(existing);
+                    eventPublisher.publishEvent(ObligationChangedEvent.of(slot, clientJobRepository.save(existing)));
                 }
             });
         }
         ClientJob saved = clientJobRepository.save(cj);
+        eventPublisher.publishEvent(ObligationChangedEvent.of(slot, saved));
         recalculateMonthlyIncome(client);
         return saved;
     }
 
     private void recalculateMonthlyIncome(Client client) {
         List<ClientJob> jobs = clientJobRepository.findByClientId(client.getId());
-        BigDecimal totalMonthlyIncome = jobs.stream()
+        Money totalMonthlyIncome = Money.of(jobs.stream()
                 .filter(cj -> Boolean.TRUE.equals(cj.getPrimary()))
                 .map(cj -> cj.getJob().getAnnualSalary())
                 .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(SimulationConstants.DAYS_PER_YEAR), 2, java.math.RoundingMode.HALF_UP);
+                .divide(BigDecimal.valueOf(SimulationConstants.DAYS_PER_YEAR), 2, java.math.RoundingMode.HALF_UP));
 
         client.setMonthlyIncomeCache(totalMonthlyIncome);
         clientRepository.save(client);
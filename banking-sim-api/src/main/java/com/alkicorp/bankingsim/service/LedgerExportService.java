@@ -0,0 +1,164 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.repository.LedgerRow;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ValidationException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes a slot's whole ledger straight from a database cursor to the response. Rows are
+ * formatted as they are read and flushed once per fetch batch, so the heap holds one batch
+ * however large the slot is.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerExportService {
+
+    static final int FLUSH_EVERY = 1000;
+
+    private final TransactionRepository transactionRepository;
+    private final SimulationService simulationService;
+    private final CurrentUserService currentUserService;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        public final String contentType;
+        public final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Format must be ndjson or csv.");
+            }
+        }
+    }
+
+    /**
+     * Checks the slot on the request thread, where the caller is known, and returns the body that
+     * streams it later on the async thread.
+     */
+    public StreamingResponseBody exportTransactions(int slotId, Format format) {
+        User user = currentUserService.getCurrentUser();
+        BankState state = simulationService.getCurrentState(user, slotId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
+                                + "/start to initialize the slot."));
+        Long userId = user.getId();
+        Long bankStateId = state.getId();
+        return out -> {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            long started = System.nanoTime();
+            Long rows = transaction.execute(status -> {
+                try (Stream<LedgerRow> ledger = transactionRepository.streamLedger(bankStateId)) {
+                    return format == Format.CSV ? writeCsv(ledger.iterator(), out) : writeNdjson(ledger.iterator(), out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("Exported {} transactions of slot {} for user {} as {} in {} ms", rows, slotId, userId, format,
+                    (System.nanoTime() - started) / 1_000_000L);
+        };
+    }
+
+    long writeNdjson(Iterator<LedgerRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+        json.setRootValueSeparator(null);
+        while (rows.hasNext()) {
+            LedgerRow row = rows.next();
+            json.writeStartObject();
+            json.writeNumberField("id", row.id());
+            json.writeNumberField("clientId", row.clientId());
+            json.writeStringField("clientName", row.clientName());
+            json.writeStringField("type", row.type().name());
+            json.writeNumberField("amount", row.amount());
+            json.writeNumberField("gameDay", row.gameDay());
+            json.writeStringField("createdAt", row.createdAt().toString());
+            json.writeEndObject();
+            json.writeRaw('\n');
+            if (++count % FLUSH_EVERY == 0) {
+                json.flush();
+            }
+        }
+        json.flush();
+        return count;
+    }
+
+    long writeCsv(Iterator<LedgerRow> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        csv.write("id,client_id,client_name,type,amount,game_day,created_at\n");
+        while (rows.hasNext()) {
+            LedgerRow row = rows.next();
+            csv.write(String.valueOf(row.id()));
+            csv.write(',');
+            csv.write(String.valueOf(row.clientId()));
+            csv.write(',');
+            csv.write(csvField(row.clientName()));
+            csv.write(',');
+            csv.write(row.type().name());
+            csv.write(',');
+            csv.write(row.amount().toPlainString());
+            csv.write(',');
+            csv.write(String.valueOf(row.gameDay()));
+            csv.write(',');
+            csv.write(row.createdAt().toString());
+            csv.write('\n');
+            if (++count % FLUSH_EVERY == 0) {
+                csv.flush();
+            }
+        }
+        csv.flush();
+        return count;
+    }
+
+    /**
+     * Quotes a free-text field when it holds a separator, quote or line break.
+     */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+}
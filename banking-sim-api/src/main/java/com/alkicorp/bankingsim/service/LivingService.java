@@ -14,6 +14,7 @@ import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +30,7 @@ public class LivingService {
     private final ProductRepository productRepository;
     private final CurrentUserService currentUserService;
     private final SimulationService simulationService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional(readOnly = true)
@@ -38,8 +40,12 @@ public class LivingService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Living selection not set"));
     }
 
-    @Transactional
     public ClientLiving assignRental(int slotId, Long clientId, Long rentalId) {
+        return simulationService.writeSlot(currentUserService.getCurrentUser(), slotId,
+                () -> rent(slotId, clientId, rentalId));
+    }
+
+    private ClientLiving rent(int slotId, Long clientId, Long rentalId) {
         Client client = clientService.getClient(slotId, clientId);
         Rental rental = rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Rental not found"));
@@ -54,11 +60,15 @@ public class LivingService {
         living.setStartDate(Instant.now(clock));
         living.setNextRentDay(computeNextRentDay(slotId));
         living.setDelinquent(false);
-        return clientLivingRepository.save(living);
+        return save(living);
     }
 
-    @Transactional
     public ClientLiving assignOwnedProperty(int slotId, Long clientId, Long propertyId) {
+        return simulationService.writeSlot(currentUserService.getCurrentUser(), slotId,
+                () -> occupy(slotId, clientId, propertyId));
+    }
+
+    private ClientLiving occupy(int slotId, Long clientId, Long propertyId) {
         Client client = clientService.getClient(slotId, clientId);
         Product product = productRepository.findByIdAndSlotId(propertyId, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found"));
@@ -73,11 +83,15 @@ public class LivingService {
         living.setStartDate(Instant.now(clock));
         living.setNextRentDay(0);
         living.setDelinquent(false);
-        return clientLivingRepository.save(living);
+        return save(living);
     }
 
-    @Transactional
     public ClientLiving clearLiving(int slotId, Long clientId) {
+        return simulationService.writeSlot(currentUserService.getCurrentUser(), slotId,
+                () -> clear(slotId, clientId));
+    }
+
+    private ClientLiving clear(int slotId, Long clientId) {
         Client client = clientService.getClient(slotId, clientId);
         ClientLiving living = clientLivingRepository.findByClientIdAndSlotId(clientId, slotId)
                 .orElse(new ClientLiving());
@@ -90,7 +104,14 @@ public class LivingService {
         living.setStartDate(Instant.now(clock));
         living.setNextRentDay(0);
         living.setDelinquent(false);
-        return clientLivingRepository.save(living);
+        return save(living);
+    }
+
+    private ClientLiving save(ClientLiving living) {
+        ClientLiving saved = clientLivingRepository.save(living);
+        eventPublisher.publishEvent(ObligationChangedEvent.of(saved));
+        eventPublisher.publishEvent(new MandatorySpendChangedEvent(saved.getClient().getId()));
+        return saved;
     }
 
     private int computeNextRentDay(int slotId) {
@@ -15,6 +15,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,13 +29,18 @@ public class LoanService {
     private final ClientService clientService;
     private final CurrentUserService currentUserService;
     private final SimulationService simulationService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock = Clock.systemUTC();
 
-    @Transactional
     public Loan createLoan(int slotId, Long clientId, BigDecimal amount, Integer termYears) {
         validateAmount(amount);
         validateTerm(termYears);
         User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId,
+                () -> insertLoan(user, slotId, clientId, amount, termYears));
+    }
+
+    private Loan insertLoan(User user, int slotId, Long clientId, BigDecimal amount, Integer termYears) {
         Client client = clientService.getClient(slotId, clientId);
         Loan loan = new Loan();
         loan.setSlotId(slotId);
@@ -67,14 +73,18 @@ public class LoanService {
         return loanRepository.findBySlotIdAndUserId(slotId, user.getId());
     }
 
-    @Transactional
     public Loan updateStatus(int slotId, Long loanId, LoanStatus status) {
         User user = currentUserService.getCurrentUser();
-        Loan loan = user.isAdminStatus()
-                ? loanRepository.findByIdAndSlotId(loanId, slotId)
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Loan not found"))
-                : loanRepository.findByIdAndSlotIdAndUserId(loanId, slotId, user.getId())
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Loan not found"));
+        // Admins decide other users' loans, so the change runs on the owner's slot writer.
+        Long ownerId = user.isAdminStatus()
+                ? findLoan(user, slotId, loanId).getUser().getId()
+                : user.getId();
+        return simulationService.writeSlot(ownerId, slotId, () -> decide(user, slotId, loanId, status));
+    }
+
+    private Loan decide(User user, int slotId, Long loanId, LoanStatus status) {
+        double gameDay = simulationService.getAndAdvanceState(user, slotId).map(BankState::getGameDay).orElse(0d);
+        Loan loan = findLoan(user, slotId, loanId);
         if (loan.getStatus() != LoanStatus.PENDING) {
             throw new ValidationException("Loan already processed.");
         }
@@ -87,12 +97,23 @@ public class LoanService {
                     ? loan.getAmount().divide(BigDecimal.valueOf(months), 2, java.math.RoundingMode.HALF_UP)
                     : loan.getAmount();
             loan.setMonthlyPayment(monthlyPayment);
-            loan.setNextPaymentDay((int) Math.floor(simulationService.getAndAdvanceState(user, slotId)
-                    .map(BankState::getGameDay).orElse(0d)) + SimulationConstants.REPAYMENT_PERIOD_DAYS);
+            loan.setNextPaymentDay((int) Math.floor(gameDay) + SimulationConstants.REPAYMENT_PERIOD_DAYS);
         }
         loan.setStatus(status);
         loan.setUpdatedAt(Instant.now(clock));
-        return loanRepository.save(loan);
+        Loan saved = loanRepository.save(loan);
+        eventPublisher.publishEvent(ObligationChangedEvent.of(saved));
+        if (status == LoanStatus.APPROVED) {
+            eventPublisher.publishEvent(new MandatorySpendChangedEvent(saved.getClient().getId()));
+        }
+        return saved;
+    }
+
+    private Loan findLoan(User user, int slotId, Long loanId) {
+        return (user.isAdminStatus()
+                ? loanRepository.findByIdAndSlotId(loanId, slotId)
+                : loanRepository.findByIdAndSlotIdAndUserId(loanId, slotId, user.getId()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Loan not found"));
     }
 
     private void validateAmount(BigDecimal amount) {
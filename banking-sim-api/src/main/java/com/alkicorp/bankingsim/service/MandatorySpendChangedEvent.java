@@ -0,0 +1,9 @@
+package com.alkicorp.bankingsim.service;
+
+/**
+ * Published inside the transaction that changes one of a client's mandatory obligations (loan
+ * approval, mortgage acceptance, living assignment, property sale), so the client's
+ * {@code monthlyMandatoryCache} is recomputed before the change commits.
+ */
+public record MandatorySpendChangedEvent(Long clientId) {
+}
@@ -3,6 +3,7 @@ package com.alkicorp.bankingsim.service;
 import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.ClientLiving;
 import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Mortgage;
 import com.alkicorp.bankingsim.model.enums.LoanStatus;
 import com.alkicorp.bankingsim.model.enums.MortgageStatus;
@@ -11,9 +12,10 @@ import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.LoanRepository;
 import com.alkicorp.bankingsim.repository.MortgageRepository;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.Collection;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,18 +33,63 @@ public class MandatorySpendService {
      * approved personal loans, accepted mortgages, and current rent. Nothing else is included.
      */
     @Transactional
-    public BigDecimal recalcAndPersist(Client client) {
-        BigDecimal total = BigDecimal.ZERO;
+    public Money recalcAndPersist(Client client) {
+        ClientLiving living = clientLivingRepository
+            .findByClientIdAndSlotId(client.getId(), client.getSlotId())
+            .orElse(null);
+        Money total = calculate(client,
+                loanRepository.findByClientId(client.getId()),
+                mortgageRepository.findByClientId(client.getId()),
+                living);
+        if (!Objects.equals(client.getMonthlyMandatoryCache(), total)) {
+            client.setMonthlyMandatoryCache(total);
+            clientRepository.save(client);
+        }
+        return total;
+    }
+
+    /**
+     * The client's cached mandatory spend, computed and stored only if it was never set. Changes
+     * keep the cache current through {@link MandatorySpendChangedEvent}.
+     */
+    @Transactional
+    public Money cached(Client client) {
+        return client.getMonthlyMandatoryCache() != null ? client.getMonthlyMandatoryCache() : recalcAndPersist(client);
+    }
+
+    @EventListener
+    public void onMandatorySpendChanged(MandatorySpendChangedEvent event) {
+        clientRepository.findById(event.clientId()).ifPresent(this::recalcAndPersist);
+    }
+
+    /**
+     * Takes a mortgage that was just paid off out of the client's cached mandatory spend. The
+     * client is updated in place; saving it is up to the caller.
+     */
+    void releasePaidOff(Client client, Mortgage mortgage) {
+        if (client.getMonthlyMandatoryCache() == null || mortgage.getMonthlyPayment() == null) {
+            return;
+        }
+        Money remaining = client.getMonthlyMandatoryCache().minus(Money.of(mortgage.getMonthlyPayment()));
+        client.setMonthlyMandatoryCache(remaining.max(Money.ZERO));
+    }
+
+    /**
+     * Same sum as {@link #recalcAndPersist(Client)} over obligations the caller already holds in memory.
+     */
+    public Money calculate(Client client, Collection<Loan> loans, Collection<Mortgage> mortgages,
+            ClientLiving living) {
+        Money total = Money.ZERO;
 
         // Approved personal loans
-        for (Loan loan : loanRepository.findByClientId(client.getId())) {
+        for (Loan loan : loans) {
             if (loan.getStatus() == LoanStatus.APPROVED && loan.getMonthlyPayment() != null) {
-                total = total.add(loan.getMonthlyPayment());
+                total = total.plus(Money.of(loan.getMonthlyPayment()));
             }
         }
 
         // Accepted mortgages
-        for (Mortgage mortgage : mortgageRepository.findByClientId(client.getId())) {
+        for (Mortgage mortgage : mortgages) {
             if (mortgage.getStatus() == MortgageStatus.ACCEPTED
                     && mortgage.getMonthlyPayment() != null
                     && mortgage.getProduct() != null
@@ -54,23 +101,15 @@ public class MandatorySpendService {
                         && totalPaid.compareTo(mortgage.getPropertyPrice()) >= 0) {
                     continue;
                 }
-                total = total.add(mortgage.getMonthlyPayment());
+                total = total.plus(Money.of(mortgage.getMonthlyPayment()));
             }
         }
 
         // Current rent (if renting)
-        ClientLiving living = clientLivingRepository
-            .findByClientIdAndSlotId(client.getId(), client.getSlotId())
-            .orElse(null);
         if (living != null && living.getMonthlyRentCache() != null) {
-            total = total.add(living.getMonthlyRentCache());
+            total = total.plus(Money.of(living.getMonthlyRentCache()));
         }
 
-        total = total.setScale(2, RoundingMode.HALF_UP);
-        if (!Objects.equals(client.getMonthlyMandatoryCache(), total)) {
-            client.setMonthlyMandatoryCache(total);
-            clientRepository.save(client);
-        }
         return total;
     }
 }
@@ -0,0 +1,108 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Periodically recomputes every client's mandatory spend from its obligations and repairs any
+ * cached value that drifted. Each slot is checked on its writer, so a repair never races an
+ * advance of the same slot.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MandatorySpendVerifier {
+
+    private final BankStateRepository bankStateRepository;
+    private final ClientRepository clientRepository;
+    private final LoanRepository loanRepository;
+    private final MortgageRepository mortgageRepository;
+    private final ClientLivingRepository clientLivingRepository;
+    private final MandatorySpendService mandatorySpendService;
+    private final SlotWriteExecutor slotWriteExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.simulation.mandatory-spend.verify-enabled:true}")
+    private boolean enabled;
+
+    @Scheduled(fixedDelayString = "${app.simulation.mandatory-spend.verify-interval-ms:3600000}",
+            initialDelayString = "${app.simulation.mandatory-spend.verify-interval-ms:3600000}")
+    public void verifyAll() {
+        if (!enabled) {
+            return;
+        }
+        List<SlotKey> slots = bankStateRepository.findAll().stream()
+                .map(state -> new SlotKey(state.getUser().getId(), state.getSlotId()))
+                .toList();
+        CompletableFuture<?>[] checks = slots.stream()
+                .map(key -> slotWriteExecutor.submit(key, () -> verify(key)))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(checks).whenComplete((result, error) -> {
+            if (error != null) {
+                log.error("Mandatory spend verification failed", error);
+            }
+        });
+    }
+
+    /**
+     * Recomputes the mandatory spend of every client in the slot and returns how many cached
+     * values had to be repaired.
+     */
+    int verify(SlotKey key) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Integer repaired = transaction.execute(status -> {
+            List<Client> clients = clientRepository.findBySlotIdAndBankStateUserId(key.slotId(), key.userId());
+            if (clients.isEmpty()) {
+                return 0;
+            }
+            Map<Long, List<Loan>> loans = loanRepository.findBySlotIdAndUserId(key.slotId(), key.userId()).stream()
+                    .collect(Collectors.groupingBy(loan -> loan.getClient().getId()));
+            Map<Long, List<Mortgage>> mortgages = mortgageRepository
+                    .findBySlotIdAndUserId(key.slotId(), key.userId()).stream()
+                    .collect(Collectors.groupingBy(mortgage -> mortgage.getClient().getId()));
+            Map<Long, ClientLiving> livings = clientLivingRepository
+                    .findBySlotIdAndClientBankStateUserId(key.slotId(), key.userId()).stream()
+                    .collect(Collectors.toMap(living -> living.getClient().getId(), Function.identity(),
+                            (a, b) -> a));
+            int drifted = 0;
+            for (Client client : clients) {
+                Money expected = mandatorySpendService.calculate(client,
+                        loans.getOrDefault(client.getId(), List.of()),
+                        mortgages.getOrDefault(client.getId(), List.of()),
+                        livings.get(client.getId()));
+                Money cached = client.getMonthlyMandatoryCache();
+                if (cached == null || cached.compareTo(expected) != 0) {
+                    log.warn("Repairing mandatory spend of client {} in slot {}: cached {}, expected {}",
+                            client.getId(), key.slotId(), cached, expected);
+                    client.setMonthlyMandatoryCache(expected);
+                    drifted++;
+                }
+            }
+            return drifted;
+        });
+        return repaired == null ? 0 : repaired;
+    }
+}
@@ -4,6 +4,7 @@ import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Mortgage;
 import com.alkicorp.bankingsim.model.Product;
 import com.alkicorp.bankingsim.model.Transaction;
@@ -22,9 +23,12 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,16 +43,23 @@ public class MortgageService {
     private final ClientRepository clientRepository;
     private final ClientService clientService;
     private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupService rollupService;
     private final CurrentUserService currentUserService;
     private final SimulationService simulationService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock = Clock.systemUTC();
 
-    @Transactional
     public Mortgage createMortgage(int slotId, Long clientId, Long productId, BigDecimal downPayment,
             Integer termYears) {
         validateTerm(termYears);
         validateDownPayment(downPayment);
         User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId,
+                () -> insertMortgage(user, slotId, clientId, productId, downPayment, termYears));
+    }
+
+    private Mortgage insertMortgage(User user, int slotId, Long clientId, Long productId, BigDecimal downPayment,
+            Integer termYears) {
         Client client = clientService.getClient(slotId, clientId);
         Product product = productRepository.findByIdAndSlotId(productId, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Property not found"));
@@ -93,13 +104,26 @@ public class MortgageService {
         return mortgageRepository.save(mortgage);
     }
 
-    @Transactional
     public List<Mortgage> recalcTotalPaid(int slotId) {
         User user = currentUserService.getCurrentUser();
         if (!user.isAdminStatus()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Admin access required.");
         }
-        List<Mortgage> mortgages = mortgageRepository.findBySlotId(slotId);
+        // Each owner's mortgages are rewritten on that owner's slot writer.
+        Set<Long> ownerIds = new LinkedHashSet<>();
+        for (Mortgage mortgage : mortgageRepository.findBySlotId(slotId)) {
+            ownerIds.add(mortgage.getUser().getId());
+        }
+        for (Long ownerId : ownerIds) {
+            simulationService.writeSlot(ownerId, slotId, () -> {
+                recalcTotalPaid(mortgageRepository.findBySlotIdAndUserId(slotId, ownerId));
+                return null;
+            });
+        }
+        return mortgageRepository.findBySlotId(slotId);
+    }
+
+    private void recalcTotalPaid(List<Mortgage> mortgages) {
         Map<Long, List<Mortgage>> byClient = new HashMap<>();
         for (Mortgage mortgage : mortgages) {
             if (mortgage.getClient() == null || mortgage.getClient().getId() == null) {
@@ -124,7 +148,8 @@ public class MortgageService {
             }
 
             List<Transaction> payments = transactionRepository
-                    .findByClientIdAndTypeInOrderByGameDayAscCreatedAtAsc(
+                    .findByBankStateIdAndClientIdAndTypeInOrderByGameDayAscCreatedAtAsc(
+                            clientMortgages.get(0).getClient().getBankState().getId(),
                             clientId,
                             List.of(TransactionType.MORTGAGE_PAYMENT));
 
@@ -177,7 +202,6 @@ public class MortgageService {
                 mortgageRepository.save(mortgage);
             }
         }
-        return mortgageRepository.findBySlotId(slotId);
     }
 
     @Transactional(readOnly = true)
@@ -189,14 +213,17 @@ public class MortgageService {
         return mortgageRepository.findBySlotIdAndUserId(slotId, user.getId());
     }
 
-    @Transactional
     public Mortgage updateStatus(int slotId, Long mortgageId, MortgageStatus status) {
         User user = currentUserService.getCurrentUser();
-        Mortgage mortgage = user.isAdminStatus()
-                ? mortgageRepository.findByIdAndSlotId(mortgageId, slotId)
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Mortgage not found"))
-                : mortgageRepository.findByIdAndSlotIdAndUserId(mortgageId, slotId, user.getId())
-                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Mortgage not found"));
+        // Admins decide other users' mortgages, so the change runs on the owner's slot writer.
+        Long ownerId = user.isAdminStatus()
+                ? findMortgage(user, slotId, mortgageId).getUser().getId()
+                : user.getId();
+        return simulationService.writeSlot(ownerId, slotId, () -> decide(user, slotId, mortgageId, status));
+    }
+
+    private Mortgage decide(User user, int slotId, Long mortgageId, MortgageStatus status) {
+        Mortgage mortgage = findMortgage(user, slotId, mortgageId);
         if (mortgage.getStatus() != MortgageStatus.PENDING) {
             throw new ValidationException("Mortgage already processed.");
         }
@@ -213,10 +240,10 @@ public class MortgageService {
                             "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                     + "/start to initialize the slot."));
             if (downPayment.compareTo(BigDecimal.ZERO) > 0) {
-                if (downPayment.compareTo(client.getCheckingBalance()) > 0) {
+                if (downPayment.compareTo(client.getCheckingBalance().toBigDecimal()) > 0) {
                     throw new ValidationException("Not enough funds to purchase property.");
                 }
-                client.setCheckingBalance(client.getCheckingBalance().subtract(downPayment));
+                client.setCheckingBalance(client.getCheckingBalance().minus(Money.of(downPayment)));
                 clientRepository.save(client);
                 recordTransaction(client, state, TransactionType.MORTGAGE_DOWN_PAYMENT, downPayment);
             }
@@ -253,7 +280,19 @@ public class MortgageService {
 
         mortgage.setStatus(status);
         mortgage.setUpdatedAt(Instant.now(clock));
-        return mortgageRepository.save(mortgage);
+        Mortgage saved = mortgageRepository.save(mortgage);
+        eventPublisher.publishEvent(ObligationChangedEvent.of(saved));
+        if (status == MortgageStatus.ACCEPTED) {
+            eventPublisher.publishEvent(new MandatorySpendChangedEvent(saved.getClient().getId()));
+        }
+        return saved;
+    }
+
+    private Mortgage findMortgage(User user, int slotId, Long mortgageId) {
+        return (user.isAdminStatus()
+                ? mortgageRepository.findByIdAndSlotId(mortgageId, slotId)
+                : mortgageRepository.findByIdAndSlotIdAndUserId(mortgageId, slotId, user.getId()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Mortgage not found"));
     }
 
     private void validateTerm(Integer termYears) {
@@ -275,6 +314,8 @@ public class MortgageService {
         tx.setAmount(amount.setScale(2, RoundingMode.HALF_UP));
         tx.setGameDay((int) Math.floor(state.getGameDay()));
         tx.setCreatedAt(Instant.now(clock));
-        return transactionRepository.save(tx);
+        Transaction saved = transactionRepository.save(tx);
+        rollupService.record(List.of(saved));
+        return saved;
     }
 }
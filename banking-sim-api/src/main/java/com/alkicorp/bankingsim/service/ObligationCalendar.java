@@ -0,0 +1,227 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankruptcyApplication;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.enums.BankruptcyStatus;
+import com.alkicorp.bankingsim.model.enums.LoanStatus;
+import com.alkicorp.bankingsim.model.enums.MortgageStatus;
+import com.alkicorp.bankingsim.repository.BankruptcyApplicationRepository;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import com.alkicorp.bankingsim.repository.ObligationDueProjection;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-slot index of upcoming obligations by the game day they fall due, so a simulated day only
+ * visits the loans, mortgages, rents, paydays and discharges that are due on it. Dividend and
+ * growth days are not listed: they are two counters on the bank state, already checked directly.
+ *
+ * <p>Entries may err in one direction only. An obligation can be listed although it is no longer
+ * due (the engine re-checks it and reschedules it from its row), but an obligation that is due is
+ * always listed. A slot is indexed from the database at startup or from its aggregate on its
+ * first advance, and kept current through {@link ObligationChangedEvent}s after commit. Like the
+ * slot writers, the index is per instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ObligationCalendar {
+
+    public enum Type {
+        LOAN_PAYMENT,
+        MORTGAGE_PAYMENT,
+        RENT,
+        PAYDAY,
+        BANKRUPTCY_DISCHARGE
+    }
+
+    private final LoanRepository loanRepository;
+    private final MortgageRepository mortgageRepository;
+    private final ClientLivingRepository clientLivingRepository;
+    private final ClientJobRepository clientJobRepository;
+    private final BankruptcyApplicationRepository bankruptcyApplicationRepository;
+
+    private final Map<SlotKey, SlotCalendar> slots = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<SlotKey, SlotCalendar> loaded = new HashMap<>();
+        int entries = 0;
+        entries += index(loaded, Type.LOAN_PAYMENT, loanRepository.findScheduledPayments());
+        entries += index(loaded, Type.MORTGAGE_PAYMENT, mortgageRepository.findScheduledPayments());
+        entries += index(loaded, Type.RENT, clientLivingRepository.findScheduledRent());
+        entries += index(loaded, Type.PAYDAY, clientJobRepository.findScheduledPaydays());
+        entries += index(loaded, Type.BANKRUPTCY_DISCHARGE, bankruptcyApplicationRepository.findScheduledDischarges());
+        // A slot indexed from its aggregate in the meantime is at least as current as these rows.
+        loaded.forEach(slots::putIfAbsent);
+        log.info("Obligation calendar loaded {} obligations across {} slots", entries, loaded.size());
+    }
+
+    /**
+     * Indexes a slot from its freshly loaded aggregate unless it is already indexed.
+     */
+    public void loadIfAbsent(SlotKey key, SlotAggregate aggregate) {
+        slots.computeIfAbsent(key, k -> {
+            SlotCalendar calendar = new SlotCalendar();
+            aggregate.getLoans().forEach(loan -> calendar.schedule(Type.LOAN_PAYMENT, loan.getId(), dueDay(loan)));
+            aggregate.getMortgages().forEach(mortgage -> calendar.schedule(Type.MORTGAGE_PAYMENT, mortgage.getId(),
+                    dueDay(mortgage)));
+            aggregate.getLivings().forEach(living -> calendar.schedule(Type.RENT, living.getId(), dueDay(living)));
+            aggregate.getJobs().forEach(job -> calendar.schedule(Type.PAYDAY, job.getId(), dueDay(job)));
+            aggregate.getBankruptcies().forEach(app -> calendar.schedule(Type.BANKRUPTCY_DISCHARGE, app.getId(),
+                    dueDay(app)));
+            return calendar;
+        });
+    }
+
+    /**
+     * Ids of the obligations of {@code type} due on or before {@code day}, in id order.
+     */
+    public List<Long> due(SlotKey key, Type type, int day) {
+        SlotCalendar calendar = slots.get(key);
+        return calendar == null ? List.of() : calendar.due(type, day);
+    }
+
+    /**
+     * Moves an obligation to {@code dueDay}, or drops it when {@code dueDay} is null. Slots that
+     * are not indexed yet are left alone; they pick the change up when they are loaded.
+     */
+    public void schedule(SlotKey key, Type type, Long id, Integer dueDay) {
+        SlotCalendar calendar = slots.get(key);
+        if (calendar != null && id != null) {
+            calendar.schedule(type, id, dueDay);
+        }
+    }
+
+    public void forget(SlotKey key) {
+        slots.remove(key);
+    }
+
+    /**
+     * Drops the slot's index if the current transaction does not commit. An advance moves
+     * entries as it pays obligations; after a rollback those rows are unpaid again, so the slot
+     * is indexed afresh from its aggregate on its next advance.
+     */
+    public void forgetUnlessCommitted(SlotKey key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    forget(key);
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onObligationChanged(ObligationChangedEvent event) {
+        schedule(event.slot(), event.type(), event.id(), event.dueDay());
+    }
+
+    static Integer dueDay(Loan loan) {
+        return loan.getStatus() == LoanStatus.APPROVED && loan.getMonthlyPayment() != null
+                ? loan.getNextPaymentDay()
+                : null;
+    }
+
+    static Integer dueDay(Mortgage mortgage) {
+        return mortgage.getStatus() == MortgageStatus.ACCEPTED && mortgage.getMonthlyPayment() != null
+                ? mortgage.getNextPaymentDay()
+                : null;
+    }
+
+    static Integer dueDay(ClientLiving living) {
+        if (living.getMonthlyRentCache() == null || living.getMonthlyRentCache().compareTo(BigDecimal.ZERO) <= 0) {
+            return null;
+        }
+        // Rent without a due day yet gets one on the next simulated day.
+        return living.getNextRentDay() == null ? 0 : living.getNextRentDay();
+    }
+
+    static Integer dueDay(ClientJob job) {
+        return Boolean.TRUE.equals(job.getPrimary()) ? floor(job.getNextPayday()) : null;
+    }
+
+    static Integer dueDay(BankruptcyApplication app) {
+        return app.getStatus() == BankruptcyStatus.APPROVED ? floor(app.getDischargeAt()) : null;
+    }
+
+    private static Integer floor(Double day) {
+        return day == null ? null : (int) Math.floor(day);
+    }
+
+    private static int index(Map<SlotKey, SlotCalendar> loaded, Type type, List<ObligationDueProjection> rows) {
+        for (ObligationDueProjection row : rows) {
+            Integer dueDay = row.getDueDay() == null ? null : (int) Math.floor(row.getDueDay().doubleValue());
+            loaded.computeIfAbsent(new SlotKey(row.getUserId(), row.getSlotId()), key -> new SlotCalendar())
+                    .schedule(type, row.getId(), dueDay);
+        }
+        return rows.size();
+    }
+
+    /**
+     * One slot's obligations: for each type, the ids due on each day plus each id's day so an
+     * obligation can be moved without a scan. Request threads reschedule while the slot's writer
+     * reads, hence the lock.
+     */
+    static final class SlotCalendar {
+
+        private final Map<Type, NavigableMap<Integer, Set<Long>>> byDay = new EnumMap<>(Type.class);
+        private final Map<Type, Map<Long, Integer>> dayOf = new EnumMap<>(Type.class);
+
+        synchronized void schedule(Type type, Long id, Integer dueDay) {
+            Map<Long, Integer> days = dayOf.computeIfAbsent(type, t -> new HashMap<>());
+            NavigableMap<Integer, Set<Long>> calendar = byDay.computeIfAbsent(type, t -> new TreeMap<>());
+            Integer previous = dueDay == null ? days.remove(id) : days.put(id, dueDay);
+            if (previous != null) {
+                Set<Long> ids = calendar.get(previous);
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    calendar.remove(previous);
+                }
+            }
+            if (dueDay != null) {
+                calendar.computeIfAbsent(dueDay, day -> new TreeSet<>()).add(id);
+            }
+        }
+
+        synchronized List<Long> due(Type type, int day) {
+            NavigableMap<Integer, Set<Long>> calendar = byDay.get(type);
+            if (calendar == null) {
+                return List.of();
+            }
+            TreeSet<Long> ids = new TreeSet<>();
+            calendar.headMap(day, true).values().forEach(ids::addAll);
+            return new ArrayList<>(ids);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankruptcyApplication;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import com.alkicorp.bankingsim.service.ObligationCalendar.Type;
+
+/**
+ * Published when a request changes when (or whether) an obligation falls due, so the
+ * {@link ObligationCalendar} can reschedule it once the change commits. A null {@code dueDay}
+ * means the obligation is no longer scheduled.
+ */
+public record ObligationChangedEvent(SlotKey slot, Type type, Long id, Integer dueDay) {
+
+    public static ObligationChangedEvent of(Loan loan) {
+        return new ObligationChangedEvent(new SlotKey(loan.getUser().getId(), loan.getSlotId()),
+                Type.LOAN_PAYMENT, loan.getId(), ObligationCalendar.dueDay(loan));
+    }
+
+    public static ObligationChangedEvent of(Mortgage mortgage) {
+        return new ObligationChangedEvent(new SlotKey(mortgage.getUser().getId(), mortgage.getSlotId()),
+                Type.MORTGAGE_PAYMENT, mortgage.getId(), ObligationCalendar.dueDay(mortgage));
+    }
+
+    public static ObligationChangedEvent of(ClientLiving living) {
+        return new ObligationChangedEvent(
+                new SlotKey(living.getClient().getBankState().getUser().getId(), living.getSlotId()),
+                Type.RENT, living.getId(), ObligationCalendar.dueDay(living));
+    }
+
+    public static ObligationChangedEvent of(SlotKey slot, ClientJob job) {
+        return new ObligationChangedEvent(slot, Type.PAYDAY, job.getId(), ObligationCalendar.dueDay(job));
+    }
+
+    public static ObligationChangedEvent of(BankruptcyApplication app) {
+        return new ObligationChangedEvent(
+                new SlotKey(app.getClient().getBankState().getUser().getId(), app.getSlotId()),
+                Type.BANKRUPTCY_DISCHARGE, app.getId(), ObligationCalendar.dueDay(app));
+    }
+}
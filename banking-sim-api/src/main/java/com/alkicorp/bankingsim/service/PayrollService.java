@@ -2,18 +2,20 @@ package com.alkicorp.bankingsim.service;
 
 import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,13 +24,27 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class PayrollService {
 
+    private static final String SET_BASED = "set-based";
+
     private final ClientJobRepository clientJobRepository;
     private final ClientRepository clientRepository;
     private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupService rollupService;
     private final Clock clock = Clock.systemUTC();
 
+    /**
+     * "set-based" (default) pays a whole slot with three statements; "per-job" loads every
+     * ClientJob and saves client, deposit and job once per missed payday.
+     */
+    @Value("${app.simulation.payroll:set-based}")
+    private String mode;
+
     @Transactional
-    public void runPayroll(int slotId, Long userId, double gameDay) {
+    public int runPayroll(int slotId, Long userId, double gameDay) {
+        if (isSetBased()) {
+            return runSetBasedPayroll(slotId, userId, gameDay);
+        }
+        int deposits = 0;
         List<ClientJob> jobs = clientJobRepository.findBySlotIdAndClientBankStateUserId(slotId, userId);
         for (ClientJob cj : jobs) {
             if (!Boolean.TRUE.equals(cj.getPrimary())) {
@@ -37,34 +53,82 @@ public class PayrollService {
             // Use a while loop to handle skipped days or fast-forwarding, or granular ticks
             while (cj.getNextPayday() != null && gameDay >= cj.getNextPayday()) {
                 payClient(cj, cj.getNextPayday());
+                deposits++;
             }
         }
+        return deposits;
+    }
+
+    boolean isSetBased() {
+        return SET_BASED.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Pays every missed payday of the slot's primary jobs in O(1) statements: insert one deposit
+     * per payday and its rollup, credit the balances, then move the paydays. Pending changes are flushed first
+     * and the persistence context is cleared afterwards, so entities loaded earlier in the
+     * transaction must be re-read.
+     */
+    @Transactional
+    public int runSetBasedPayroll(int slotId, Long userId, double gameDay) {
+        int deposits = transactionRepository.insertPayrollDeposits(slotId, userId, gameDay,
+                SimulationConstants.DAYS_PER_YEAR, Instant.now(clock));
+        if (deposits == 0) {
+            return 0;
+        }
+        rollupService.recordSetBasedPayroll(slotId, userId, gameDay);
+        clientRepository.creditPayroll(slotId, userId, gameDay, SimulationConstants.DAYS_PER_YEAR);
+        int jobs = clientJobRepository.advancePaydays(slotId, userId, gameDay);
+        log.info("Processed payroll for slot {} (Day: {}): {} deposits across {} jobs", slotId, gameDay, deposits,
+                jobs);
+        return deposits;
     }
 
     private void payClient(ClientJob cj, double payday) {
+        Transaction tx = accruePay(cj, payday);
+        clientRepository.save(cj.getClient());
+        rollupService.record(List.of(transactionRepository.save(tx)));
+        clientJobRepository.save(cj);
+    }
+
+    /**
+     * Pays every primary job up to {@code gameDay} without touching the repositories; the
+     * returned deposits are left for the caller to save.
+     */
+    List<Transaction> collectPayroll(Collection<ClientJob> jobs, double gameDay) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (ClientJob cj : jobs) {
+            if (!Boolean.TRUE.equals(cj.getPrimary())) {
+                continue;
+            }
+            while (cj.getNextPayday() != null && gameDay >= cj.getNextPayday()) {
+                transactions.add(accruePay(cj, cj.getNextPayday()));
+            }
+        }
+        return transactions;
+    }
+
+    private Transaction accruePay(ClientJob cj, double payday) {
         Client client = cj.getClient();
 
         // One game day equals one month. Every month, the client gets 1/12 of their
         // annual salary.
-        BigDecimal pay = cj.getJob().getAnnualSalary()
-                .divide(BigDecimal.valueOf(SimulationConstants.DAYS_PER_YEAR), 2, RoundingMode.HALF_UP);
+        Money pay = Money.of(cj.getJob().getAnnualSalary()).dividedBy(SimulationConstants.DAYS_PER_YEAR);
 
-        log.info("Processing simplified monthly payroll for client {} (Job: {}, Day: {}): {}",
+        log.debug("Processing simplified monthly payroll for client {} (Job: {}, Day: {}): {}",
                 client.getId(), cj.getJob().getTitle(), payday, pay);
 
-        client.setCheckingBalance(client.getCheckingBalance().add(pay));
-        clientRepository.save(client);
+        client.setCheckingBalance(client.getCheckingBalance().plus(pay));
 
         Transaction tx = new Transaction();
         tx.setClient(client);
         tx.setType(TransactionType.PAYROLL_DEPOSIT);
-        tx.setAmount(pay);
+        tx.setAmount(pay.toBigDecimal());
         tx.setGameDay((int) Math.floor(payday));
         tx.setCreatedAt(Instant.now(clock));
-        transactionRepository.save(tx);
 
         // Advance by exactly 1.0 game day (one in-game month)
         cj.setNextPayday(payday + 1.0);
-        clientJobRepository.save(cj);
+        return tx;
     }
 }
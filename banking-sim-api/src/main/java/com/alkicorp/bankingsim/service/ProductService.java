@@ -4,6 +4,7 @@ import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Product;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.ProductStatus;
@@ -21,6 +22,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,9 +38,11 @@ public class ProductService {
     private final BankStateRepository bankStateRepository;
     private final ClientLivingRepository clientLivingRepository;
     private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupService rollupService;
     private final MortgageRepository mortgageRepository;
     private final SimulationService simulationService;
     private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional
@@ -114,9 +118,12 @@ public class ProductService {
         return productRepository.findByOwnerClientId(client.getId());
     }
 
-    @Transactional
     public Transaction sellOwnedProperty(int slotId, Long clientId, Long productId) {
         User user = currentUserService.getCurrentUser();
+        return simulationService.writeSlot(user, slotId, () -> sell(user, slotId, clientId, productId));
+    }
+
+    private Transaction sell(User user, int slotId, Long clientId, Long productId) {
         Client client = clientService.getClient(slotId, clientId);
         Product product = productRepository.findByIdAndSlotIdAndOwnerClientId(productId, slotId, client.getId())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Owned property not found"));
@@ -147,7 +154,7 @@ public class ProductService {
         }
 
         // Transfer funds
-        client.setCheckingBalance(client.getCheckingBalance().add(salePrice).setScale(2, RoundingMode.HALF_UP));
+        client.setCheckingBalance(client.getCheckingBalance().plus(Money.of(salePrice)));
         clientRepository.save(client);
         state.setLiquidCash(state.getLiquidCash().subtract(salePrice).setScale(2, RoundingMode.HALF_UP));
         bankStateRepository.save(state);
@@ -163,6 +170,7 @@ public class ProductService {
                 clientLivingRepository.delete(living);
             }
         });
+        eventPublisher.publishEvent(new MandatorySpendChangedEvent(client.getId()));
 
         // Record transaction
         Transaction tx = new Transaction();
@@ -171,7 +179,9 @@ public class ProductService {
         tx.setAmount(salePrice.setScale(2, RoundingMode.HALF_UP));
         tx.setGameDay((int) Math.floor(state.getGameDay()));
         tx.setCreatedAt(Instant.now(clock));
-        return transactionRepository.save(tx);
+        Transaction saved = transactionRepository.save(tx);
+        rollupService.record(List.of(saved));
+        return saved;
     }
 
     private void validateDraft(Product draft) {
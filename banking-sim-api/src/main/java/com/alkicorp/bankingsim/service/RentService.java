@@ -2,13 +2,15 @@ package com.alkicorp.bankingsim.service;
 
 import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.ClientLivingRepository;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
-import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,40 +22,52 @@ public class RentService {
 
     private final ClientLivingRepository clientLivingRepository;
     private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupService rollupService;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional
-    public void chargeRent(int slotId, Long userId, double gameDay) {
+    public int chargeRent(int slotId, Long userId, double gameDay) {
         List<ClientLiving> livings = clientLivingRepository.findBySlotIdAndClientBankStateUserId(slotId, userId);
+        List<Transaction> charged = transactionRepository.saveAll(collectRent(livings, gameDay));
+        rollupService.record(charged);
+        clientLivingRepository.saveAll(livings);
+        return charged.size();
+    }
+
+    /**
+     * Debits every living whose rent is due on {@code gameDay} and rolls its next rent day
+     * forward. Balances and livings are updated in place; the returned rows are not saved.
+     */
+    List<Transaction> collectRent(Collection<ClientLiving> livings, double gameDay) {
         int day = (int) Math.floor(gameDay);
+        List<Transaction> transactions = new ArrayList<>();
         for (ClientLiving living : livings) {
-            if (living.getMonthlyRentCache() == null || living.getMonthlyRentCache().compareTo(BigDecimal.ZERO) <= 0) {
+            if (living.getMonthlyRentCache() == null || living.getMonthlyRentCache().signum() <= 0) {
                 continue;
             }
             Integer nextRentDay = living.getNextRentDay();
             if (nextRentDay == null) {
                 living.setNextRentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
-                clientLivingRepository.save(living);
                 continue;
             }
             if (day < nextRentDay) {
                 continue;
             }
-            debitRent(living.getClient(), living.getMonthlyRentCache(), gameDay);
+            transactions.add(debitRent(living.getClient(), Money.of(living.getMonthlyRentCache()), gameDay));
             living.setNextRentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
-            clientLivingRepository.save(living);
         }
+        return transactions;
     }
 
-    private void debitRent(Client client, BigDecimal amount, double gameDay) {
-        BigDecimal payAmount = client.getCheckingBalance().min(amount);
-        client.setCheckingBalance(client.getCheckingBalance().subtract(payAmount));
+    private Transaction debitRent(Client client, Money amount, double gameDay) {
+        Money payAmount = client.getCheckingBalance().min(amount);
+        client.setCheckingBalance(client.getCheckingBalance().minus(payAmount));
         Transaction tx = new Transaction();
         tx.setClient(client);
         tx.setType(payAmount.compareTo(amount) >= 0 ? TransactionType.RENT_PAYMENT : TransactionType.PAYMENT_FAILED);
-        tx.setAmount(payAmount);
+        tx.setAmount(payAmount.toBigDecimal());
         tx.setGameDay((int) Math.floor(gameDay));
         tx.setCreatedAt(Instant.now(clock));
-        transactionRepository.save(tx);
+        return tx;
     }
 }
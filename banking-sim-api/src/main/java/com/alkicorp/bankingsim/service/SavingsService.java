@@ -2,6 +2,7 @@ package com.alkicorp.bankingsim.service;
 
 import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.ClientRepository;
@@ -11,9 +12,9 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -22,32 +23,41 @@ public class SavingsService {
     private final ClientService clientService;
     private final ClientRepository clientRepository;
     private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupService rollupService;
     private final SimulationService simulationService;
     private final CurrentUserService currentUserService;
     private final Clock clock = Clock.systemUTC();
 
-    @Transactional
     public Transaction depositToSavings(int slotId, Long clientId, BigDecimal amount) {
         validateAmount(amount);
+        return simulationService.writeSlot(currentUserService.getCurrentUser(), slotId,
+                () -> moveToSavings(slotId, clientId, amount));
+    }
+
+    private Transaction moveToSavings(int slotId, Long clientId, BigDecimal amount) {
         Client client = clientService.getClient(slotId, clientId);
-        if (amount.compareTo(client.getCheckingBalance()) > 0) {
+        if (amount.compareTo(client.getCheckingBalance().toBigDecimal()) > 0) {
             throw new ValidationException("Insufficient checking balance.");
         }
-        client.setCheckingBalance(client.getCheckingBalance().subtract(amount));
+        client.setCheckingBalance(client.getCheckingBalance().minus(Money.of(amount)));
         client.setSavingsBalance(client.getSavingsBalance().add(amount));
         clientRepository.save(client);
         return record(client, slotId, amount, TransactionType.SAVINGS_DEPOSIT);
     }
 
-    @Transactional
     public Transaction withdrawFromSavings(int slotId, Long clientId, BigDecimal amount) {
         validateAmount(amount);
+        return simulationService.writeSlot(currentUserService.getCurrentUser(), slotId,
+                () -> moveFromSavings(slotId, clientId, amount));
+    }
+
+    private Transaction moveFromSavings(int slotId, Long clientId, BigDecimal amount) {
         Client client = clientService.getClient(slotId, clientId);
         if (amount.compareTo(client.getSavingsBalance()) > 0) {
             throw new ValidationException("Insufficient savings balance.");
         }
         client.setSavingsBalance(client.getSavingsBalance().subtract(amount));
-        client.setCheckingBalance(client.getCheckingBalance().add(amount));
+        client.setCheckingBalance(client.getCheckingBalance().plus(Money.of(amount)));
         clientRepository.save(client);
         return record(client, slotId, amount, TransactionType.SAVINGS_WITHDRAWAL);
     }
@@ -61,7 +71,9 @@ public class SavingsService {
         tx.setAmount(amount.setScale(2, RoundingMode.HALF_UP));
         tx.setGameDay(gameDay);
         tx.setCreatedAt(Instant.now(clock));
-        return transactionRepository.save(tx);
+        Transaction saved = transactionRepository.save(tx);
+        rollupService.record(List.of(saved));
+        return saved;
     }
 
     private void validateAmount(BigDecimal amount) {
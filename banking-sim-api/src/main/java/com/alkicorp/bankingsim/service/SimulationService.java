@@ -3,18 +3,17 @@ package com.alkicorp.bankingsim.service;
 import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
-import com.alkicorp.bankingsim.model.InvestmentEvent;
 import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Mortgage;
 import com.alkicorp.bankingsim.model.Transaction;
-import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
-import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.BankStateRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
 import com.alkicorp.bankingsim.repository.LoanRepository;
 import com.alkicorp.bankingsim.repository.MortgageRepository;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -27,19 +26,36 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
 public class SimulationService {
 
+    private static final String PER_DAY_ENGINE = "per-day";
     private static final BigDecimal STARTING_CASH = BigDecimal.valueOf(100_000).setScale(2, RoundingMode.HALF_UP);
 
     private final BankStateRepository bankStateRepository;
     private final ClientRepository clientRepository;
     private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupService rollupService;
     private final InvestmentEventRepository investmentEventRepository;
     private final LoanRepository loanRepository;
     private final MortgageRepository mortgageRepository;
@@ -47,10 +63,47 @@ public class SimulationService {
     private final RentService rentService;
     private final SpendingService spendingService;
     private final BankruptcyService bankruptcyService;
+    private final SlotSimulationEngine slotSimulationEngine;
+    private final ObligationCalendar obligationCalendar;
+    private final ActiveSlotRegistry activeSlotRegistry;
+    private final SlotWriteExecutor slotWriteExecutor;
+    private final PlatformTransactionManager transactionManager;
     private final Clock clock = Clock.systemUTC();
+    private final SingleFlight<SlotKey, Optional<Duration>> advanceFlight = new SingleFlight<>();
 
-    @Transactional
+    /**
+     * "in-memory" (default) catches a slot up through {@link SlotSimulationEngine}; "per-day"
+     * keeps the original path that queries and saves through the repositories day by day.
+     */
+    @Value("${app.simulation.engine:in-memory}")
+    private String engine;
+
+    /**
+     * When the background {@link SlotTicker} runs, read endpoints serve the persisted state
+     * instead of catching the slot up on the request thread.
+     */
+    @Value("${app.simulation.ticker.enabled:true}")
+    private boolean tickerEnabled;
+
+    @Value("${app.simulation.slot-writer.await-timeout-ms:30000}")
+    private long awaitTimeoutMs;
+
+    /**
+     * Resets run on the slot's writer like advances, so a background catch-up can never
+     * interleave with the deletes.
+     */
     public BankState resetSlot(User user, int slotId) {
+        SlotKey key = new SlotKey(user.getId(), slotId);
+        await(key, slotWriteExecutor.submit(key, () -> {
+            BankState reset = newTransaction().execute(status -> reset(user, slotId));
+            obligationCalendar.forget(key);
+            return reset;
+        }));
+        return bankStateRepository.findBySlotIdAndUserId(slotId, user.getId())
+                .orElseThrow(() -> new IllegalStateException("Bank state missing after reset of slot " + slotId));
+    }
+
+    private BankState reset(User user, int slotId) {
         // #region agent log
         System.out.println("  → Resetting slot " + slotId + " (clearing existing data and preparing fresh state)");
         try (FileWriter fw = new FileWriter(
@@ -74,9 +127,11 @@ public class SimulationService {
         } catch (IOException e) {
         }
         // #endregion
-        if (!clients.isEmpty()) {
-            transactionRepository.deleteByClientIn(clients);
-        }
+        rollupService.deleteSlot(slotId, user.getId());
+        bankStateRepository.findBySlotIdAndUserId(slotId, user.getId()).ifPresent(existing -> {
+            transactionRepository.truncatePartitions(existing.getId());
+            transactionRepository.deleteArchive(existing.getId());
+        });
         clientRepository.deleteBySlotIdAndBankStateUserId(slotId, user.getId());
         investmentEventRepository.deleteBySlotIdAndUserId(slotId, user.getId());
         // #region agent log
@@ -164,6 +219,8 @@ public class SimulationService {
         state.setLastUpdateTimestamp(Instant.now(clock));
         state.setNextDividendDay(SimulationConstants.DAYS_PER_YEAR - 1);
         state.setNextGrowthDay(SimulationConstants.DAYS_PER_YEAR - 1);
+        state.setRngSeed(ThreadLocalRandom.current().nextLong());
+        state.setTransactionsCompactedBefore(0);
         // #region agent log
         System.out.println("  → Saving bank state to database for slot " + slotId
                 + (state.getId() == null ? " (new record)" : " (updating existing record ID: " + state.getId() + ")"));
@@ -179,6 +236,7 @@ public class SimulationService {
         }
         // #endregion
         BankState saved = bankStateRepository.save(state);
+        transactionRepository.ensurePartitions(saved.getId(), 0, 0);
         // #region agent log
         System.out.println("  ✓ Successfully saved bank state (ID: " + saved.getId() + ") for slot " + slotId);
         try (FileWriter fw = new FileWriter(
@@ -194,13 +252,32 @@ public class SimulationService {
         return saved;
     }
 
-    @Transactional
+    /**
+     * Catches the slot up on its single writer and returns the state. Inside a transaction it
+     * only reads: waiting on the writer there would hold a pooled connection while the writer
+     * needs another one, so slot requests are caught up by {@link #catchUp} before any
+     * transaction opens, and work on a writer (see {@link #writeSlot}) already has been.
+     */
     public Optional<BankState> getAndAdvanceState(User user, int slotId) {
-        return bankStateRepository.findBySlotIdAndUserId(slotId, user.getId())
-                .map(this::advanceTime);
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                && awaitAdvance(new SlotKey(user.getId(), slotId)).isEmpty()) {
+            return Optional.empty();
+        }
+        return bankStateRepository.findBySlotIdAndUserId(slotId, user.getId());
+    }
+
+    /**
+     * Brings a slot up to date for a request, before the request opens a transaction. With the
+     * ticker enabled this only marks the slot active; otherwise it waits for the catch-up.
+     */
+    public void catchUp(User user, int slotId) {
+        if (tickerEnabled) {
+            activeSlotRegistry.touch(user.getId(), slotId, Instant.now(clock));
+            return;
+        }
+        awaitAdvance(new SlotKey(user.getId(), slotId));
     }
 
-    @Transactional
     public List<BankState> listAndAdvanceSlots(User user, List<Integer> slotIds) {
         List<BankState> results = new ArrayList<>();
         for (Integer slotId : slotIds) {
@@ -209,12 +286,124 @@ public class SimulationService {
         return results;
     }
 
-    private BankState advanceTime(BankState state) {
+    /**
+     * Read path. With the ticker enabled this only loads the persisted state and marks the slot
+     * active so the ticker keeps it current; otherwise it behaves like {@link #getAndAdvanceState}.
+     */
+    public Optional<BankState> getCurrentState(User user, int slotId) {
+        if (!tickerEnabled) {
+            return getAndAdvanceState(user, slotId);
+        }
+        activeSlotRegistry.touch(user.getId(), slotId, Instant.now(clock));
+        return bankStateRepository.findBySlotIdAndUserId(slotId, user.getId());
+    }
+
+    /**
+     * Background catch-up of one slot. Returns how far behind real time the slot was, or empty
+     * when the slot no longer has a bank state.
+     */
+    public Optional<Duration> advanceSlot(Long userId, int slotId) {
+        return awaitAdvance(new SlotKey(userId, slotId));
+    }
+
+    /**
+     * Callers arriving while the slot's advance is queued or running join it through
+     * {@link #advanceFlight} instead of starting their own catch-up.
+     */
+    private Optional<Duration> awaitAdvance(SlotKey key) {
+        return await(key, advanceFlight.execute(key, () -> slotWriteExecutor.submitAdvance(key,
+                () -> newTransaction().execute(status -> advanceStored(key)))));
+    }
+
+    /**
+     * Runs a change to a slot's rows on the slot's writer, so it cannot interleave with the
+     * ticker's catch-up or another request's change. The slot is caught up first; {@code work}
+     * then runs in its own transaction with the caller's security context. Calls made from work
+     * that is already on a writer run inline.
+     */
+    public <T> T writeSlot(User user, int slotId, Supplier<T> work) {
+        return writeSlot(user.getId(), slotId, work);
+    }
+
+    public <T> T writeSlot(Long userId, int slotId, Supplier<T> work) {
+        if (slotWriteExecutor.isWriting()) {
+            return work.get();
+        }
+        SlotKey key = new SlotKey(userId, slotId);
+        SecurityContext context = SecurityContextHolder.getContext();
+        return await(key, slotWriteExecutor.submit(key, () -> {
+            SecurityContextHolder.setContext(context);
+            try {
+                newTransaction().execute(status -> advanceStored(key));
+                return newTransaction().execute(status -> work.get());
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }));
+    }
+
+    public SingleFlight<SlotKey, Optional<Duration>> getAdvanceFlight() {
+        return advanceFlight;
+    }
+
+    private Optional<Duration> advanceStored(SlotKey key) {
+        return bankStateRepository.findBySlotIdAndUserId(key.slotId(), key.userId()).map(state -> {
+            Instant last = state.getLastUpdateTimestamp();
+            advanceTime(state);
+            return last == null ? Duration.ZERO : Duration.between(last, state.getLastUpdateTimestamp());
+        });
+    }
+
+    private <T> T await(SlotKey key, CompletableFuture<T> work) {
+        try {
+            return work.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Slot " + key.slotId() + " is busy. Please retry.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Interrupted while waiting for slot " + key.slotId() + ".");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    /**
+     * Catches the slot up to real time and then simulates {@code days} further game days with
+     * the same rules, in one transaction on the slot's writer. Completes with the new game day
+     * and the transaction rows written, or empty when the slot has no bank state.
+     */
+    public CompletableFuture<Optional<FastForwardStep>> fastForward(Long userId, int slotId, int days) {
+        SlotKey key = new SlotKey(userId, slotId);
+        return slotWriteExecutor.submit(key, () -> newTransaction().execute(status -> bankStateRepository
+                .findBySlotIdAndUserId(slotId, userId)
+                .map(state -> {
+                    long written = advanceTime(state) + advanceBy(state, days, Instant.now(clock));
+                    return new FastForwardStep(state.getGameDay(), written);
+                })));
+    }
+
+    /**
+     * Advances the slot to real time; like {@link #advanceBy}, returns the transaction rows written.
+     */
+    private long advanceTime(BankState state) {
         Instant now = Instant.now(clock);
         Instant last = Optional.ofNullable(state.getLastUpdateTimestamp()).orElse(now);
         long elapsedMillis = Duration.between(last, now).toMillis();
-        double elapsedGameDays = elapsedMillis / (double) SimulationConstants.REAL_MS_PER_GAME_DAY;
+        return advanceBy(state, elapsedMillis / (double) SimulationConstants.REAL_MS_PER_GAME_DAY, now);
+    }
 
+    private long advanceBy(BankState state, double elapsedGameDays, Instant now) {
         double previousDayValue = Optional.ofNullable(state.getGameDay()).orElse(0d);
         int previousWholeDay = (int) Math.floor(previousDayValue);
         double newDayValue = previousDayValue + elapsedGameDays;
@@ -222,7 +411,17 @@ public class SimulationService {
 
         state.setGameDay(newDayValue);
         state.setLastUpdateTimestamp(now);
+        if (currentWholeDay > previousWholeDay) {
+            transactionRepository.ensurePartitions(state.getId(), previousWholeDay, currentWholeDay);
+        }
 
+        if (currentWholeDay > previousWholeDay && !PER_DAY_ENGINE.equalsIgnoreCase(engine)) {
+            long written = slotSimulationEngine.advance(state, previousWholeDay, currentWholeDay, newDayValue)
+                    .transactionsWritten();
+            bankStateRepository.save(state);
+            return written;
+        }
+        long written = 0;
         if (currentWholeDay > previousWholeDay) {
             List<Client> clients = Objects.requireNonNull(
                     Optional.ofNullable(
@@ -230,187 +429,58 @@ public class SimulationService {
                             .orElse(Collections.emptyList()),
                     "Clients list cannot be null");
             for (int day = previousWholeDay + 1; day <= currentWholeDay; day++) {
-                processMonthlyLiquidCashGrowth(state);
-                if ((day + 1) % SimulationConstants.DAYS_PER_YEAR == 0) {
-                    processSp500Growth(state, day);
-                    processSp500Dividend(state, day);
+                BankAccruals.growLiquidCash(state);
+                if (BankAccruals.isYearEnd(day)) {
+                    BankAccruals.collectSp500Returns(state, day, (type, amount, gameDay) -> investmentEventRepository
+                            .save(slotSimulationEngine.investmentEvent(state, type, amount, gameDay)));
                 }
                 for (Client client : clients) {
                     client.setDailyWithdrawn(BigDecimal.ZERO);
                 }
-                rentService.chargeRent(state.getSlotId(), state.getUser().getId(), day);
-                processLoanRepayments(state, day);
-                processMortgageRepayments(state, day);
-                final int dayValue = day; // capture loop value for lambda use
-                clients.forEach(c -> spendingService.generateSpending(state.getSlotId(), c.getId(), dayValue));
+                written += rentService.chargeRent(state.getSlotId(), state.getUser().getId(), day);
+                written += processLoanRepayments(state, day);
+                written += processMortgageRepayments(state, day);
+                for (Client client : clients) {
+                    written += spendingService.generateSpending(state.getSlotId(), client.getId(), day).size();
+                }
                 bankruptcyService.checkDischarge(state.getSlotId(), newDayValue);
             }
         }
         // Run payroll with the fractional clock to support more granular triggers
         // and catch up if time was skipped.
-        payrollService.runPayroll(state.getSlotId(), state.getUser().getId(), newDayValue);
+        written += payrollService.runPayroll(state.getSlotId(), state.getUser().getId(), newDayValue);
 
-        return bankStateRepository.save(state);
+        bankStateRepository.save(state);
+        return written;
     }
 
-    private void processMonthlyLiquidCashGrowth(BankState state) {
-        BigDecimal currentCash = state.getLiquidCash();
-        if (currentCash == null || currentCash.compareTo(BigDecimal.ZERO) <= 0) {
-            return;
-        }
-        BigDecimal growthAmount = currentCash.multiply(SimulationConstants.LIQUID_CASH_MONTHLY_GROWTH)
-                .setScale(2, RoundingMode.HALF_UP);
-        state.setLiquidCash(currentCash.add(growthAmount));
-    }
-
-    private void processSp500Growth(BankState state, int day) {
-        BigDecimal invested = state.getInvestedSp500();
-        if (invested.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal growthAmount = invested.multiply(SimulationConstants.SP500_ANNUAL_GROWTH)
-                    .setScale(2, RoundingMode.HALF_UP);
-            state.setInvestedSp500(invested.add(growthAmount));
-            recordInvestmentEvent(state.getSlotId(), state.getUser(), InvestmentEventType.GROWTH, growthAmount, day);
-        }
-        state.setNextGrowthDay(day + SimulationConstants.DAYS_PER_YEAR);
-    }
-
-    private void processSp500Dividend(BankState state, int day) {
-        BigDecimal invested = state.getInvestedSp500();
-        if (invested.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal dividendAmount = invested.multiply(SimulationConstants.SP500_ANNUAL_DIVIDEND)
-                    .setScale(2, RoundingMode.HALF_UP);
-            state.setLiquidCash(state.getLiquidCash().add(dividendAmount));
-            recordInvestmentEvent(state.getSlotId(), state.getUser(), InvestmentEventType.DIVIDEND, dividendAmount,
-                    day);
-        }
-        state.setNextDividendDay(day + SimulationConstants.DAYS_PER_YEAR);
-    }
-
-    private void processLoanRepayments(BankState state, int day) {
+    private int processLoanRepayments(BankState state, int day) {
         List<Loan> loans = loanRepository.findBySlotIdAndUserId(state.getSlotId(), state.getUser().getId());
-        for (Loan loan : loans) {
-            if (loan.getNextPaymentDay() == null || loan.getMonthlyPayment() == null) {
-                continue;
-            }
-            if (loan.getStatus() != com.alkicorp.bankingsim.model.enums.LoanStatus.APPROVED) {
-                continue;
-            }
-            if (day < loan.getNextPaymentDay()) {
-                continue;
-            }
-            Client client = loan.getClient();
-            BigDecimal amountDue = loan.getMonthlyPayment();
-            BigDecimal payAmount = client.getCheckingBalance().min(amountDue);
-            Instant now = Instant.now(clock);
-            if (payAmount.compareTo(BigDecimal.ZERO) > 0) {
-                client.setCheckingBalance(client.getCheckingBalance().subtract(payAmount));
-                Transaction tx = new Transaction();
-                tx.setClient(client);
-                tx.setType(TransactionType.PERSONAL_LOAN_PAYMENT);
-                tx.setAmount(payAmount.setScale(2, RoundingMode.HALF_UP));
-                tx.setGameDay(day);
-                tx.setCreatedAt(now);
-                transactionRepository.save(tx);
-                state.setLiquidCash(state.getLiquidCash().add(payAmount));
-                loan.setLastPaymentStatus(payAmount.compareTo(amountDue) >= 0 ? "PAID" : "PARTIAL");
-                if (payAmount.compareTo(amountDue) < 0) {
-                    loan.setMissedPayments(loan.getMissedPayments() + 1);
-                }
-            } else {
-                loan.setLastPaymentStatus("MISSED");
-                loan.setMissedPayments(loan.getMissedPayments() + 1);
-            }
-            loan.setNextPaymentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
-            loan.setUpdatedAt(now);
+        List<Transaction> payments = new ArrayList<>();
+        slotSimulationEngine.collectLoanPayments(loans, day, bankCredit(state), payments::add, loan -> {
             loanRepository.save(loan);
-            clientRepository.save(client);
-        }
+            clientRepository.save(loan.getClient());
+        });
+        rollupService.record(transactionRepository.saveAll(payments));
+        return payments.size();
     }
 
-    private void processMortgageRepayments(BankState state, int day) {
+    private int processMortgageRepayments(BankState state, int day) {
         List<Mortgage> mortgages = mortgageRepository.findBySlotIdAndUserId(state.getSlotId(), state.getUser().getId());
-        mortgages.sort(java.util.Comparator
-                .comparing(Mortgage::getUpdatedAt, java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder()))
-                .reversed());
-        java.util.Set<Long> paidProductIds = new java.util.HashSet<>();
-        for (Mortgage mortgage : mortgages) {
-            if (mortgage.getNextPaymentDay() == null || mortgage.getMonthlyPayment() == null) {
-                continue;
-            }
-            if (mortgage.getStatus() != com.alkicorp.bankingsim.model.enums.MortgageStatus.ACCEPTED) {
-                continue;
-            }
-            if (mortgage.getProduct() == null
-                    || mortgage.getProduct().getStatus() != com.alkicorp.bankingsim.model.enums.ProductStatus.OWNED
-                    || mortgage.getProduct().getOwnerClient() == null
-                    || mortgage.getProduct().getOwnerClient().getId() == null
-                    || !mortgage.getProduct().getOwnerClient().getId().equals(mortgage.getClient().getId())) {
-                continue;
-            }
-            Long productId = mortgage.getProduct().getId();
-            if (productId != null && paidProductIds.contains(productId)) {
-                continue;
-            }
-            if (day < mortgage.getNextPaymentDay()) {
-                continue;
-            }
-            Client client = mortgage.getClient();
-            BigDecimal amountDue = mortgage.getMonthlyPayment();
-            BigDecimal payAmount = client.getCheckingBalance().min(amountDue);
-            Instant now = Instant.now(clock);
-            if (payAmount.compareTo(BigDecimal.ZERO) > 0) {
-                client.setCheckingBalance(client.getCheckingBalance().subtract(payAmount));
-                Transaction tx = new Transaction();
-                tx.setClient(client);
-                tx.setType(TransactionType.MORTGAGE_PAYMENT);
-                tx.setAmount(payAmount.setScale(2, RoundingMode.HALF_UP));
-                tx.setGameDay(day);
-                tx.setCreatedAt(now);
-                transactionRepository.save(tx);
-                state.setLiquidCash(state.getLiquidCash().add(payAmount));
-                mortgage.setLastPaymentStatus(payAmount.compareTo(amountDue) >= 0 ? "PAID" : "PARTIAL");
-                if (payAmount.compareTo(amountDue) < 0) {
-                    mortgage.setMissedPayments(mortgage.getMissedPayments() + 1);
-                }
-                BigDecimal totalPaid = mortgage.getTotalPaid() == null
-                        ? BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP)
-                        : mortgage.getTotalPaid();
-                BigDecimal updatedPaid = totalPaid.add(payAmount).setScale(2, RoundingMode.HALF_UP);
-                if (mortgage.getPropertyPrice() != null
-                        && updatedPaid.compareTo(mortgage.getPropertyPrice()) >= 0) {
-                    updatedPaid = mortgage.getPropertyPrice();
-                    mortgage.setNextPaymentDay(null);
-                    mortgage.setLastPaymentStatus("PAID_OFF");
-                }
-                mortgage.setTotalPaid(updatedPaid);
-            } else {
-                mortgage.setLastPaymentStatus("MISSED");
-                mortgage.setMissedPayments(mortgage.getMissedPayments() + 1);
-            }
-            Integer paymentsMade = mortgage.getPaymentsMade();
-            mortgage.setPaymentsMade((paymentsMade == null ? 0 : paymentsMade) + 1);
-            if (mortgage.getNextPaymentDay() != null) {
-                mortgage.setNextPaymentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
-            }
-            mortgage.setUpdatedAt(now);
-            mortgageRepository.save(mortgage);
-            clientRepository.save(client);
-            if (productId != null) {
-                paidProductIds.add(productId);
-            }
-        }
+        List<Transaction> payments = new ArrayList<>();
+        slotSimulationEngine.collectMortgagePayments(mortgages, day, bankCredit(state), payments::add,
+                mortgage -> {
+                    mortgageRepository.save(mortgage);
+                    clientRepository.save(mortgage.getClient());
+                });
+        rollupService.record(transactionRepository.saveAll(payments));
+        return payments.size();
+    }
+
+    private Consumer<Money> bankCredit(BankState state) {
+        return amount -> state.setLiquidCash(state.getLiquidCash().add(amount.toBigDecimal()));
     }
 
-    private void recordInvestmentEvent(int slotId, User user, InvestmentEventType type, BigDecimal amount,
-            int gameDay) {
-        InvestmentEvent event = new InvestmentEvent();
-        event.setSlotId(slotId);
-        event.setUser(user);
-        event.setType(type);
-        event.setAsset("S&P 500");
-        event.setAmount(amount);
-        event.setGameDay(gameDay);
-        event.setCreatedAt(Instant.now(clock));
-        investmentEventRepository.save(event);
+    public record FastForwardStep(double gameDay, long transactionsWritten) {
     }
 }
@@ -0,0 +1,60 @@
+package com.alkicorp.bankingsim.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one: the first caller starts the work, every
+ * caller that arrives before it completes joins the same future. Hits count joined calls, misses
+ * count calls that started new work.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> work) {
+        CompletableFuture<V> joined = inFlight.get(key);
+        if (joined != null) {
+            hits.increment();
+            return joined;
+        }
+        CompletableFuture<V> placeholder = new CompletableFuture<>();
+        joined = inFlight.putIfAbsent(key, placeholder);
+        if (joined != null) {
+            hits.increment();
+            return joined;
+        }
+        misses.increment();
+        try {
+            work.get().whenComplete((value, error) -> {
+                inFlight.remove(key, placeholder);
+                if (error != null) {
+                    placeholder.completeExceptionally(error);
+                } else {
+                    placeholder.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, placeholder);
+            placeholder.completeExceptionally(e);
+        }
+        return placeholder;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
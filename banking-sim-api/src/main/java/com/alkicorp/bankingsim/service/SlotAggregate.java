@@ -0,0 +1,137 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.BankruptcyApplication;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import com.alkicorp.bankingsim.service.SpendingCategoryCatalog.Category;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * Everything a slot catch-up reads or writes, loaded once so the simulated days can run
+ * against memory instead of re-querying each repository per day.
+ */
+@Getter
+public class SlotAggregate {
+
+    private final BankState state;
+    private final List<Client> clients;
+    private final List<ClientJob> jobs;
+    private final List<ClientLiving> livings;
+    private final List<Loan> loans;
+    private final List<Mortgage> mortgages;
+    private final List<BankruptcyApplication> bankruptcies;
+    private final List<Category> categories;
+    private final List<Transaction> transactions = new ArrayList<>();
+    private final List<InvestmentEvent> investmentEvents = new ArrayList<>();
+    private int payrollDeposits;
+
+    private final Map<Long, List<ClientJob>> jobsByClient;
+    private final Map<Long, ClientLiving> livingByClient;
+    private final Map<Long, List<Loan>> loansByClient;
+    private final Map<Long, List<Mortgage>> mortgagesByClient;
+    private final Map<Long, Set<Integer>> spendingDaysByClient = new HashMap<>();
+
+    private final Map<Long, ClientJob> jobsById;
+    private final Map<Long, ClientLiving> livingsById;
+    private final Map<Long, Loan> loansById;
+    private final Map<Long, Mortgage> mortgagesById;
+    private final Map<Long, BankruptcyApplication> bankruptciesById;
+
+    public SlotAggregate(BankState state,
+            List<Client> clients,
+            List<ClientJob> jobs,
+            List<ClientLiving> livings,
+            List<Loan> loans,
+            List<Mortgage> mortgages,
+            List<BankruptcyApplication> bankruptcies,
+            List<Category> categories) {
+        this.state = state;
+        this.clients = clients;
+        this.jobs = jobs;
+        this.livings = livings;
+        this.loans = loans;
+        this.mortgages = mortgages;
+        this.bankruptcies = bankruptcies;
+        this.categories = categories;
+        this.jobsByClient = groupByClient(jobs, cj -> cj.getClient().getId());
+        this.livingByClient = livings.stream()
+                .collect(Collectors.toMap(l -> l.getClient().getId(), Function.identity(), (a, b) -> a));
+        this.loansByClient = groupByClient(loans, loan -> loan.getClient().getId());
+        this.mortgagesByClient = groupByClient(mortgages, mortgage -> mortgage.getClient().getId());
+        this.jobsById = indexById(jobs, ClientJob::getId);
+        this.livingsById = indexById(livings, ClientLiving::getId);
+        this.loansById = indexById(loans, Loan::getId);
+        this.mortgagesById = indexById(mortgages, Mortgage::getId);
+        this.bankruptciesById = indexById(bankruptcies, BankruptcyApplication::getId);
+    }
+
+    public SlotKey slotKey() {
+        return new SlotKey(state.getUser().getId(), state.getSlotId());
+    }
+
+    public List<ClientJob> jobsOf(Client client) {
+        return jobsByClient.getOrDefault(client.getId(), List.of());
+    }
+
+    public ClientLiving livingOf(Client client) {
+        return livingByClient.get(client.getId());
+    }
+
+    public List<Loan> loansOf(Client client) {
+        return loansByClient.getOrDefault(client.getId(), List.of());
+    }
+
+    public List<Mortgage> mortgagesOf(Client client) {
+        return mortgagesByClient.getOrDefault(client.getId(), List.of());
+    }
+
+    public void markSpent(Long clientId, Integer gameDay) {
+        spendingDaysByClient.computeIfAbsent(clientId, id -> new HashSet<>()).add(gameDay);
+    }
+
+    public boolean hasSpent(Client client, int gameDay) {
+        return spendingDaysByClient.getOrDefault(client.getId(), Set.of()).contains(gameDay);
+    }
+
+    public void addTransactions(Collection<Transaction> newTransactions) {
+        transactions.addAll(newTransactions);
+    }
+
+    public void addPayrollDeposits(int count) {
+        payrollDeposits += count;
+    }
+
+    /**
+     * Transaction rows this advance wrote: the ones it drafted plus the set-based payroll
+     * deposits inserted straight into the table.
+     */
+    public long transactionsWritten() {
+        return transactions.size() + (long) payrollDeposits;
+    }
+
+    private static <T> Map<Long, List<T>> groupByClient(List<T> rows, Function<T, Long> clientId) {
+        return rows.stream().collect(Collectors.groupingBy(clientId));
+    }
+
+    private static <T> Map<Long, T> indexById(List<T> rows, Function<T, Long> id) {
+        Map<Long, T> index = new HashMap<>();
+        rows.forEach(row -> index.put(id.apply(row), row));
+        return index;
+    }
+}
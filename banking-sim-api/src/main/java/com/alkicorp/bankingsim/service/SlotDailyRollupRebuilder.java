@@ -0,0 +1,40 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import com.alkicorp.bankingsim.web.dto.RollupRebuildResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Recomputes every slot's daily rollup from its transactions. Each slot is rebuilt in its own
+ * transaction on the slot's writer, so a rebuild never races an advance of the same slot.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotDailyRollupRebuilder {
+
+    private final BankStateRepository bankStateRepository;
+    private final SlotDailyRollupService rollupService;
+    private final SlotWriteExecutor slotWriteExecutor;
+
+    public RollupRebuildResponse rebuildAll() {
+        List<SlotKey> slots = bankStateRepository.findAll().stream()
+                .filter(state -> state.getUser() != null)
+                .map(state -> new SlotKey(state.getUser().getId(), state.getSlotId()))
+                .toList();
+        List<CompletableFuture<Integer>> rebuilds = slots.stream()
+                .map(key -> slotWriteExecutor.submit(key, () -> rollupService.rebuild(key.slotId(), key.userId())))
+                .toList();
+        long rows = rebuilds.stream().mapToLong(CompletableFuture::join).sum();
+        log.info("Rebuilt daily rollups of {} slots ({} rows)", slots.size(), rows);
+        return RollupRebuildResponse.builder()
+                .slots(slots.size())
+                .rows(rows)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps {@code slot_daily_rollup} in step with {@code client_transaction}. Every path that saves
+ * transactions hands them here in the same transaction, so the per-day totals the charts and
+ * cashflow read never drift from the rows they summarize.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotDailyRollupService {
+
+    // Upserts lock rows in one order, so concurrent writers to the same clients cannot deadlock.
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::clientId)
+            .thenComparing(Key::gameDay)
+            .thenComparing(Key::type);
+
+    private final SlotDailyRollupRepository rollupRepository;
+
+    /**
+     * Adds the transactions to their client's daily totals: one statement per call, however
+     * many rows. The transactions' clients must already be saved.
+     */
+    @Transactional
+    public void record(Collection<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        Map<Key, Total> totals = new TreeMap<>(KEY_ORDER);
+        for (Transaction tx : transactions) {
+            Key key = new Key(tx.getClient().getId(), tx.getGameDay(), tx.getType());
+            totals.computeIfAbsent(key, k -> new Total()).add(tx.getAmount());
+        }
+        int size = totals.size();
+        Long[] clientIds = new Long[size];
+        Integer[] gameDays = new Integer[size];
+        String[] types = new String[size];
+        BigDecimal[] amounts = new BigDecimal[size];
+        Long[] counts = new Long[size];
+        int i = 0;
+        for (Map.Entry<Key, Total> entry : totals.entrySet()) {
+            clientIds[i] = entry.getKey().clientId();
+            gameDays[i] = entry.getKey().gameDay();
+            types[i] = entry.getKey().type().name();
+            amounts[i] = entry.getValue().amount;
+            counts[i] = entry.getValue().count;
+            i++;
+        }
+        rollupRepository.add(clientIds, gameDays, types, amounts, counts);
+    }
+
+    /**
+     * The set-based payroll's deposits; call before the paydays move.
+     */
+    @Transactional
+    public void recordSetBasedPayroll(int slotId, Long userId, double gameDay) {
+        rollupRepository.addPayrollDeposits(slotId, userId, gameDay, SimulationConstants.DAYS_PER_YEAR);
+    }
+
+    @Transactional
+    public void deleteSlot(int slotId, Long userId) {
+        rollupRepository.deleteBySlotIdAndUserId(slotId, userId);
+    }
+
+    /**
+     * Backfill or repair: recomputes the slot's totals from its transactions.
+     */
+    @Transactional
+    public int rebuild(int slotId, Long userId) {
+        rollupRepository.deleteBySlotIdAndUserId(slotId, userId);
+        return rollupRepository.insertFromTransactions(slotId, userId);
+    }
+
+    private record Key(Long clientId, Integer gameDay, TransactionType type) {
+    }
+
+    private static final class Total {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long count;
+
+        void add(BigDecimal value) {
+            amount = amount.add(value);
+            count++;
+        }
+    }
+}
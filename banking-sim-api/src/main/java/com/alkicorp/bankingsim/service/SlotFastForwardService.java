@@ -0,0 +1,212 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import com.alkicorp.bankingsim.service.SimulationService.FastForwardStep;
+import com.alkicorp.bankingsim.web.dto.FastForwardResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Simulates a number of game days for a slot on demand instead of waiting for real time. The
+ * days run in the background as chunks, each one {@link SimulationService#fastForward}
+ * transaction on the slot's writer, so payroll, rent, repayments and spending follow the same
+ * rules as a regular catch-up. Progress goes out to Server-Sent Event subscribers after each
+ * chunk. One fast-forward per slot runs at a time; the last one stays available for status.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotFastForwardService {
+
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+    static final String FAILED = "FAILED";
+
+    private final SimulationService simulationService;
+    private final BankStateRepository bankStateRepository;
+    private final CurrentUserService currentUserService;
+    private final Executor fastForwardExecutor;
+    private final Clock clock = Clock.systemUTC();
+    private final Map<SlotKey, Job> jobs = new ConcurrentHashMap<>();
+
+    @Value("${app.simulation.fast-forward.chunk-days:12}")
+    private int chunkDays;
+
+    @Value("${app.simulation.fast-forward.max-days:1200}")
+    private int maxDays;
+
+    @Value("${app.simulation.fast-forward.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    public FastForwardResponse start(int slotId, int days) {
+        if (days < 1 || days > maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "days must be between 1 and " + maxDays + ".");
+        }
+        User user = currentUserService.getCurrentUser();
+        if (bankStateRepository.findBySlotIdAndUserId(slotId, user.getId()).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
+                            + "/start to initialize the slot.");
+        }
+        SlotKey key = new SlotKey(user.getId(), slotId);
+        Job job = new Job(key, days, Instant.now(clock));
+        Job previous = jobs.compute(key, (k, current) -> current != null && current.isRunning() ? current : job);
+        if (previous != job) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Slot " + slotId + " is already fast-forwarding.");
+        }
+        fastForwardExecutor.execute(() -> run(job));
+        return job.snapshot();
+    }
+
+    public FastForwardResponse status(int slotId) {
+        return job(slotId).snapshot();
+    }
+
+    /**
+     * Streams {@code progress} events while the fast-forward runs and a final {@code summary}
+     * event once it has finished.
+     */
+    public SseEmitter subscribe(int slotId) {
+        Job job = job(slotId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    private Job job(int slotId) {
+        User user = currentUserService.getCurrentUser();
+        Job job = jobs.get(new SlotKey(user.getId(), slotId));
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No fast-forward for slot " + slotId + ".");
+        }
+        return job;
+    }
+
+    void run(Job job) {
+        SlotKey key = job.key;
+        long started = System.nanoTime();
+        try {
+            while (job.daysCompleted < job.daysRequested) {
+                int chunk = Math.min(chunkDays, job.daysRequested - job.daysCompleted);
+                FastForwardStep step = simulationService.fastForward(key.userId(), key.slotId(), chunk).join()
+                        .orElseThrow(() -> new IllegalStateException(
+                                "Slot " + key.slotId() + " no longer has a bank state."));
+                job.progress(chunk, step.gameDay(), step.transactionsWritten(), System.nanoTime() - started);
+            }
+            job.finish(COMPLETED, null, Instant.now(clock));
+            log.info("Fast-forwarded slot {} of user {} by {} days in {} ms ({} transactions)", key.slotId(),
+                    key.userId(), job.daysRequested, job.wallTimeMillis, job.transactionsWritten);
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            log.error("Fast-forward of slot {} of user {} failed after {} days", key.slotId(), key.userId(),
+                    job.daysCompleted, cause);
+            job.finish(FAILED, cause.getMessage(), Instant.now(clock));
+        }
+    }
+
+    static final class Job {
+
+        private final SlotKey key;
+        private final int daysRequested;
+        private final Instant startedAt;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile String status = RUNNING;
+        private volatile int daysCompleted;
+        private volatile long transactionsWritten;
+        private volatile long wallTimeMillis;
+        private volatile Double gameDay;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        Job(SlotKey key, int daysRequested, Instant startedAt) {
+            this.key = key;
+            this.daysRequested = daysRequested;
+            this.startedAt = startedAt;
+        }
+
+        boolean isRunning() {
+            return RUNNING.equals(status);
+        }
+
+        synchronized void progress(int days, double gameDay, long transactionsWritten, long elapsedNanos) {
+            this.daysCompleted += days;
+            this.gameDay = gameDay;
+            this.transactionsWritten += transactionsWritten;
+            this.wallTimeMillis = elapsedNanos / 1_000_000L;
+            publish("progress", snapshot());
+        }
+
+        synchronized void finish(String status, String error, Instant finishedAt) {
+            this.status = status;
+            this.error = error;
+            this.finishedAt = finishedAt;
+            FastForwardResponse summary = snapshot();
+            publish("summary", summary);
+            emitters.forEach(SseEmitter::complete);
+            emitters.clear();
+        }
+
+        synchronized void subscribe(SseEmitter emitter) {
+            if (!isRunning()) {
+                send(emitter, "summary", snapshot());
+                emitter.complete();
+                return;
+            }
+            emitters.add(emitter);
+            emitter.onCompletion(() -> emitters.remove(emitter));
+            emitter.onTimeout(() -> emitters.remove(emitter));
+            send(emitter, "progress", snapshot());
+        }
+
+        FastForwardResponse snapshot() {
+            return FastForwardResponse.builder()
+                    .slotId(key.slotId())
+                    .status(status)
+                    .daysRequested(daysRequested)
+                    .daysCompleted(daysCompleted)
+                    .transactionsWritten(transactionsWritten)
+                    .wallTimeMillis(wallTimeMillis)
+                    .daysPerSecond(wallTimeMillis > 0 ? daysCompleted * 1000d / wallTimeMillis : 0d)
+                    .gameDay(gameDay)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+
+        private void publish(String event, FastForwardResponse data) {
+            for (SseEmitter emitter : emitters) {
+                send(emitter, event, data);
+            }
+        }
+
+        private void send(SseEmitter emitter, String event, FastForwardResponse data) {
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data));
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; stop sending to it.
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
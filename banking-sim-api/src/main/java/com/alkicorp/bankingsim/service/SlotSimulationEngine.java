@@ -0,0 +1,345 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.BankruptcyApplication;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
+import com.alkicorp.bankingsim.model.enums.LoanStatus;
+import com.alkicorp.bankingsim.model.enums.MortgageStatus;
+import com.alkicorp.bankingsim.model.enums.ProductStatus;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.BankruptcyApplicationRepository;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import com.alkicorp.bankingsim.service.ObligationCalendar.Type;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Runs the daily simulation rules for a slot. {@link #advance} loads the slot aggregate once,
+ * plays every elapsed day in memory and writes the outcome back in one pass; the per-day
+ * path in {@link SimulationService} shares the individual rules below. Each day only visits the
+ * obligations the {@link ObligationCalendar} lists as due.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotSimulationEngine {
+
+    private static final Comparator<Mortgage> MORTGAGE_PAYMENT_ORDER = Comparator
+            .comparing(Mortgage::getUpdatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .reversed();
+
+    private final ClientRepository clientRepository;
+    private final ClientJobRepository clientJobRepository;
+    private final ClientLivingRepository clientLivingRepository;
+    private final LoanRepository loanRepository;
+    private final MortgageRepository mortgageRepository;
+    private final BankruptcyApplicationRepository bankruptcyApplicationRepository;
+    private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupService rollupService;
+    private final InvestmentEventRepository investmentEventRepository;
+    private final PayrollService payrollService;
+    private final RentService rentService;
+    private final SpendingService spendingService;
+    private final MandatorySpendService mandatorySpendService;
+    private final SpendingCategoryCatalog spendingCategoryCatalog;
+    private final BankruptcyService bankruptcyService;
+    private final ObligationCalendar obligationCalendar;
+    private final Clock clock = Clock.systemUTC();
+
+    /**
+     * Simulates whole days {@code (fromDay, toDay]} and the payroll due by {@code gameDay}.
+     */
+    @Transactional
+    public SlotAggregate advance(BankState state, int fromDay, int toDay, double gameDay) {
+        SlotAggregate aggregate = load(state, fromDay, toDay);
+        SlotKey key = aggregate.slotKey();
+        obligationCalendar.loadIfAbsent(key, aggregate);
+        obligationCalendar.forgetUnlessCommitted(key);
+        // Nothing a client does depends on the bank's own balance, so repayments are tallied per
+        // day and the bank-level accruals run afterwards in a single fast-forward.
+        BigDecimal[] bankCredits = new BigDecimal[toDay - fromDay];
+        for (int day = fromDay + 1; day <= toDay; day++) {
+            bankCredits[day - fromDay - 1] = simulateDay(aggregate, day, gameDay);
+        }
+        BankAccruals.fastForward(state, fromDay, toDay, bankCredits, (type, amount, day) -> aggregate
+                .getInvestmentEvents().add(investmentEvent(state, type, amount, day)));
+        List<ClientJob> paydays = due(key, Type.PAYDAY, (int) Math.floor(gameDay), aggregate.getJobsById());
+        if (payrollService.isSetBased()) {
+            // Write the simulated days first; the payroll statements then work on the stored rows.
+            flush(aggregate);
+            if (!paydays.isEmpty()) {
+                aggregate.addPayrollDeposits(
+                        payrollService.runSetBasedPayroll(state.getSlotId(), state.getUser().getId(), gameDay));
+                // The loaded jobs are stale now; move them in the calendar the way the statements did.
+                reschedule(key, Type.PAYDAY, paydays, ClientJob::getId, job -> {
+                    Integer dueDay = ObligationCalendar.dueDay(job);
+                    return dueDay == null || job.getNextPayday() > gameDay
+                            ? dueDay
+                            : (int) Math.floor(job.getNextPayday() + Math.floor(gameDay - job.getNextPayday()) + 1);
+                });
+            }
+            return aggregate;
+        }
+        aggregate.addTransactions(payrollService.collectPayroll(paydays, gameDay));
+        reschedule(key, Type.PAYDAY, paydays, ClientJob::getId, ObligationCalendar::dueDay);
+        flush(aggregate);
+        return aggregate;
+    }
+
+    SlotAggregate load(BankState state, int fromDay, int toDay) {
+        int slotId = state.getSlotId();
+        Long userId = state.getUser().getId();
+        List<Client> clients = clientRepository.findBySlotIdAndBankStateUserId(slotId, userId);
+        Set<Long> clientIds = new HashSet<>();
+        clients.forEach(client -> clientIds.add(client.getId()));
+
+        List<BankruptcyApplication> bankruptcies = bankruptcyApplicationRepository.findBySlotId(slotId).stream()
+                .filter(app -> clientIds.contains(app.getClient().getId()))
+                .toList();
+        SlotAggregate aggregate = new SlotAggregate(
+                state,
+                clients,
+                clientJobRepository.findBySlotIdAndClientBankStateUserId(slotId, userId),
+                clientLivingRepository.findBySlotIdAndClientBankStateUserId(slotId, userId),
+                loanRepository.findBySlotIdAndUserId(slotId, userId),
+                new ArrayList<>(mortgageRepository.findBySlotIdAndUserId(slotId, userId)),
+                bankruptcies,
+                spendingCategoryCatalog.activeCategories());
+        if (!clientIds.isEmpty()) {
+            transactionRepository.findClientDaysByType(state.getId(), clientIds, TransactionType.SPENDING, fromDay + 1,
+                    toDay)
+                    .forEach(row -> aggregate.markSpent(row.getClientId(), row.getGameDay()));
+        }
+        return aggregate;
+    }
+
+    /**
+     * Runs one day of client activity and returns what the bank collected that day, or null.
+     */
+    BigDecimal simulateDay(SlotAggregate aggregate, int day, double gameDay) {
+        long[] collectedCents = new long[1];
+        for (Client client : aggregate.getClients()) {
+            client.setDailyWithdrawn(BigDecimal.ZERO);
+        }
+        SlotKey key = aggregate.slotKey();
+        List<ClientLiving> rents = due(key, Type.RENT, day, aggregate.getLivingsById());
+        aggregate.addTransactions(rentService.collectRent(rents, day));
+        reschedule(key, Type.RENT, rents, ClientLiving::getId, ObligationCalendar::dueDay);
+        List<Loan> loans = due(key, Type.LOAN_PAYMENT, day, aggregate.getLoansById());
+        collectLoanPayments(loans, day, amount -> collectedCents[0] += amount.cents(),
+                aggregate.getTransactions()::add, loan -> { });
+        reschedule(key, Type.LOAN_PAYMENT, loans, Loan::getId, ObligationCalendar::dueDay);
+        List<Mortgage> mortgages = due(key, Type.MORTGAGE_PAYMENT, day, aggregate.getMortgagesById());
+        collectMortgagePayments(mortgages, day, amount -> collectedCents[0] += amount.cents(),
+                aggregate.getTransactions()::add, mortgage -> { });
+        reschedule(key, Type.MORTGAGE_PAYMENT, mortgages, Mortgage::getId, ObligationCalendar::dueDay);
+        for (Client client : aggregate.getClients()) {
+            if (aggregate.hasSpent(client, day)) {
+                continue;
+            }
+            Money monthlyIncome = spendingService.resolveMonthlyIncome(client, aggregate.jobsOf(client));
+            Money mandatory = client.getMonthlyMandatoryCache();
+            if (mandatory == null) {
+                mandatory = mandatorySpendService.calculate(client, aggregate.loansOf(client),
+                        aggregate.mortgagesOf(client), aggregate.livingOf(client));
+                client.setMonthlyMandatoryCache(mandatory);
+            }
+            aggregate.addTransactions(spendingService.draftSpending(client, day, monthlyIncome, mandatory,
+                    aggregate.getCategories()));
+        }
+        List<BankruptcyApplication> discharges = due(key, Type.BANKRUPTCY_DISCHARGE, (int) Math.floor(gameDay),
+                aggregate.getBankruptciesById());
+        for (BankruptcyApplication app : discharges) {
+            bankruptcyService.discharge(app, gameDay);
+        }
+        reschedule(key, Type.BANKRUPTCY_DISCHARGE, discharges, BankruptcyApplication::getId,
+                ObligationCalendar::dueDay);
+        return collectedCents[0] == 0L ? null : BigDecimal.valueOf(collectedCents[0], 2);
+    }
+
+    /**
+     * The aggregate's obligations of {@code type} the calendar lists as due by {@code day}. Ids
+     * whose rows are gone are dropped from the calendar.
+     */
+    private <T> List<T> due(SlotKey key, Type type, int day, Map<Long, T> byId) {
+        List<T> due = new ArrayList<>();
+        for (Long id : obligationCalendar.due(key, type, day)) {
+            T obligation = byId.get(id);
+            if (obligation == null) {
+                obligationCalendar.schedule(key, type, id, null);
+            } else {
+                due.add(obligation);
+            }
+        }
+        return due;
+    }
+
+    private <T> void reschedule(SlotKey key, Type type, List<T> obligations, Function<T, Long> id,
+            Function<T, Integer> dueDay) {
+        for (T obligation : obligations) {
+            obligationCalendar.schedule(key, type, id.apply(obligation), dueDay.apply(obligation));
+        }
+    }
+
+    void flush(SlotAggregate aggregate) {
+        // Updated rows are managed entities and go out with the next flush; only the new
+        // rows need an explicit save.
+        transactionRepository.saveAll(aggregate.getTransactions());
+        investmentEventRepository.saveAll(aggregate.getInvestmentEvents());
+        rollupService.record(aggregate.getTransactions());
+    }
+
+    /**
+     * Collects every approved loan due on {@code day}. Amounts received go to
+     * {@code bankCredits}, new payment rows to {@code transactions}, and each loan that was due
+     * is handed to {@code collected}.
+     */
+    void collectLoanPayments(List<Loan> loans, int day, Consumer<Money> bankCredits,
+            Consumer<Transaction> transactions, Consumer<Loan> collected) {
+        for (Loan loan : loans) {
+            if (loan.getNextPaymentDay() == null || loan.getMonthlyPayment() == null) {
+                continue;
+            }
+            if (loan.getStatus() != LoanStatus.APPROVED) {
+                continue;
+            }
+            if (day < loan.getNextPaymentDay()) {
+                continue;
+            }
+            Client client = loan.getClient();
+            Money amountDue = Money.of(loan.getMonthlyPayment());
+            Money payAmount = client.getCheckingBalance().min(amountDue);
+            Instant now = Instant.now(clock);
+            if (payAmount.isPositive()) {
+                client.setCheckingBalance(client.getCheckingBalance().minus(payAmount));
+                transactions.accept(repayment(client, TransactionType.PERSONAL_LOAN_PAYMENT, payAmount, day, now));
+                bankCredits.accept(payAmount);
+                loan.setLastPaymentStatus(payAmount.compareTo(amountDue) >= 0 ? "PAID" : "PARTIAL");
+                if (payAmount.compareTo(amountDue) < 0) {
+                    loan.setMissedPayments(loan.getMissedPayments() + 1);
+                }
+            } else {
+                loan.setLastPaymentStatus("MISSED");
+                loan.setMissedPayments(loan.getMissedPayments() + 1);
+            }
+            loan.setNextPaymentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
+            loan.setUpdatedAt(now);
+            collected.accept(loan);
+        }
+    }
+
+    /**
+     * Collects accepted mortgages due on {@code day}, most recently updated first and at most
+     * one mortgage per property. Paid-off mortgages stop scheduling further payments.
+     */
+    void collectMortgagePayments(List<Mortgage> mortgages, int day, Consumer<Money> bankCredits,
+            Consumer<Transaction> transactions, Consumer<Mortgage> collected) {
+        mortgages.sort(MORTGAGE_PAYMENT_ORDER);
+        Set<Long> paidProductIds = new HashSet<>();
+        for (Mortgage mortgage : mortgages) {
+            if (mortgage.getNextPaymentDay() == null || mortgage.getMonthlyPayment() == null) {
+                continue;
+            }
+            if (mortgage.getStatus() != MortgageStatus.ACCEPTED) {
+                continue;
+            }
+            if (mortgage.getProduct() == null
+                    || mortgage.getProduct().getStatus() != ProductStatus.OWNED
+                    || mortgage.getProduct().getOwnerClient() == null
+                    || mortgage.getProduct().getOwnerClient().getId() == null
+                    || !mortgage.getProduct().getOwnerClient().getId().equals(mortgage.getClient().getId())) {
+                continue;
+            }
+            Long productId = mortgage.getProduct().getId();
+            if (productId != null && paidProductIds.contains(productId)) {
+                continue;
+            }
+            if (day < mortgage.getNextPaymentDay()) {
+                continue;
+            }
+            Client client = mortgage.getClient();
+            Money amountDue = Money.of(mortgage.getMonthlyPayment());
+            Money payAmount = client.getCheckingBalance().min(amountDue);
+            Instant now = Instant.now(clock);
+            if (payAmount.isPositive()) {
+                client.setCheckingBalance(client.getCheckingBalance().minus(payAmount));
+                transactions.accept(repayment(client, TransactionType.MORTGAGE_PAYMENT, payAmount, day, now));
+                bankCredits.accept(payAmount);
+                mortgage.setLastPaymentStatus(payAmount.compareTo(amountDue) >= 0 ? "PAID" : "PARTIAL");
+                if (payAmount.compareTo(amountDue) < 0) {
+                    mortgage.setMissedPayments(mortgage.getMissedPayments() + 1);
+                }
+                Money updatedPaid = Money.orZero(mortgage.getTotalPaid()).plus(payAmount);
+                if (mortgage.getPropertyPrice() != null
+                        && updatedPaid.compareTo(Money.of(mortgage.getPropertyPrice())) >= 0) {
+                    updatedPaid = Money.of(mortgage.getPropertyPrice());
+                    mortgage.setNextPaymentDay(null);
+                    mortgage.setLastPaymentStatus("PAID_OFF");
+                    mandatorySpendService.releasePaidOff(client, mortgage);
+                }
+                mortgage.setTotalPaid(updatedPaid.toBigDecimal());
+            } else {
+                mortgage.setLastPaymentStatus("MISSED");
+                mortgage.setMissedPayments(mortgage.getMissedPayments() + 1);
+            }
+            Integer paymentsMade = mortgage.getPaymentsMade();
+            mortgage.setPaymentsMade((paymentsMade == null ? 0 : paymentsMade) + 1);
+            if (mortgage.getNextPaymentDay() != null) {
+                mortgage.setNextPaymentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
+            }
+            mortgage.setUpdatedAt(now);
+            collected.accept(mortgage);
+            if (productId != null) {
+                paidProductIds.add(productId);
+            }
+        }
+    }
+
+    private Transaction repayment(Client client, TransactionType type, Money amount, int day, Instant now) {
+        Transaction tx = new Transaction();
+        tx.setClient(client);
+        tx.setType(type);
+        tx.setAmount(amount.toBigDecimal());
+        tx.setGameDay(day);
+        tx.setCreatedAt(now);
+        return tx;
+    }
+
+    InvestmentEvent investmentEvent(BankState state, InvestmentEventType type, BigDecimal amount, int gameDay) {
+        InvestmentEvent event = new InvestmentEvent();
+        event.setSlotId(state.getSlotId());
+        event.setUser(state.getUser());
+        event.setType(type);
+        event.setAsset("S&P 500");
+        event.setAmount(amount);
+        event.setGameDay(gameDay);
+        event.setCreatedAt(Instant.now(clock));
+        return event;
+    }
+}
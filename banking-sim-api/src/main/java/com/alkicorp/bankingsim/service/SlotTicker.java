@@ -0,0 +1,108 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotActivity;
+import com.alkicorp.bankingsim.web.dto.SimulationStatsResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps active slots current in the background so read endpoints never pay for catch-up.
+ * Each tick hands every active slot to a bounded pool; a slot whose previous advance is still
+ * running is skipped rather than queued twice.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotTicker {
+
+    private final SimulationService simulationService;
+    private final ActiveSlotRegistry activeSlotRegistry;
+    private final ThreadPoolTaskExecutor slotTickerExecutor;
+    private final Clock clock = Clock.systemUTC();
+
+    @Value("${app.simulation.ticker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.simulation.ticker.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${app.simulation.ticker.interval-ms:5000}")
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now(clock);
+        int evicted = activeSlotRegistry.evictIdleBefore(now.minusMillis(idleTimeoutMs));
+        if (evicted > 0) {
+            log.debug("Stopped ticking {} idle slot(s)", evicted);
+        }
+        for (SlotActivity activity : activeSlotRegistry.snapshot()) {
+            if (!activity.getInFlight().compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                slotTickerExecutor.execute(() -> advance(activity));
+            } catch (RejectedExecutionException e) {
+                activity.getInFlight().set(false);
+                log.warn("Slot ticker queue is full; slot {} of user {} waits for the next tick",
+                        activity.getKey().slotId(), activity.getKey().userId());
+            }
+        }
+    }
+
+    private void advance(SlotActivity activity) {
+        Instant startedAt = Instant.now(clock);
+        try {
+            Optional<Duration> lag = simulationService.advanceSlot(activity.getKey().userId(),
+                    activity.getKey().slotId());
+            if (lag.isEmpty()) {
+                activeSlotRegistry.remove(activity.getKey());
+                return;
+            }
+            activity.recordAdvance(startedAt, lag.get().toMillis(),
+                    Duration.between(startedAt, Instant.now(clock)).toMillis());
+        } catch (RuntimeException e) {
+            log.error("Background advance failed for slot {} of user {}", activity.getKey().slotId(),
+                    activity.getKey().userId(), e);
+        } finally {
+            activity.getInFlight().set(false);
+        }
+    }
+
+    public SimulationStatsResponse getStats() {
+        List<SimulationStatsResponse.SlotLag> slots = activeSlotRegistry.snapshot().stream()
+                .sorted(Comparator.comparingLong(SlotActivity::getLagMillis).reversed())
+                .map(activity -> SimulationStatsResponse.SlotLag.builder()
+                        .userId(activity.getKey().userId())
+                        .slotId(activity.getKey().slotId())
+                        .lagMillis(activity.getLagMillis())
+                        .lastAdvanceMillis(activity.getLastAdvanceMillis())
+                        .advances(activity.getAdvances())
+                        .lastAdvancedAt(activity.getLastAdvancedAt())
+                        .lastSeen(activity.getLastSeen())
+                        .build())
+                .collect(Collectors.toList());
+        return SimulationStatsResponse.builder()
+                .tickerEnabled(enabled)
+                .poolSize(slotTickerExecutor.getMaxPoolSize())
+                .activeWorkers(slotTickerExecutor.getActiveCount())
+                .queuedAdvances(slotTickerExecutor.getThreadPoolExecutor().getQueue().size())
+                .coalescedAdvances(simulationService.getAdvanceFlight().getHits())
+                .startedAdvances(simulationService.getAdvanceFlight().getMisses())
+                .advancesInFlight(simulationService.getAdvanceFlight().getInFlight())
+                .slots(slots)
+                .build();
+    }
+}
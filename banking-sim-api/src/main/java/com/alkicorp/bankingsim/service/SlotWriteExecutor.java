@@ -0,0 +1,99 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single writer per slot. Work for one (user, slot) runs strictly in submission order, one task
+ * at a time, on a pool shared by all slots: each slot's mailbox only ever has its head task on
+ * the pool, so different slots spread across workers without a global lock.
+ * <p>
+ * Advances are coalesced: while an advance is queued but not yet started, later advance
+ * requests for the same slot get the same future instead of queueing another catch-up.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotWriteExecutor {
+
+    private static final ThreadLocal<SlotKey> WRITING = new ThreadLocal<>();
+
+    private final Executor slotWriterExecutor;
+    private final Map<SlotKey, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public <T> CompletableFuture<T> submit(SlotKey key, Supplier<T> task) {
+        return enqueue(key, task, false);
+    }
+
+    public <T> CompletableFuture<T> submitAdvance(SlotKey key, Supplier<T> advance) {
+        return enqueue(key, advance, true);
+    }
+
+    /**
+     * True while the calling thread is running a task for some slot, so work that is already
+     * serialized does not queue behind itself.
+     */
+    public boolean isWriting() {
+        return WRITING.get() != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> enqueue(SlotKey key, Supplier<T> task, boolean advance) {
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(key, k -> new Mailbox());
+            synchronized (mailbox) {
+                if (mailbox.retired) {
+                    continue;
+                }
+                if (advance && mailbox.queuedAdvance != null) {
+                    return (CompletableFuture<T>) mailbox.queuedAdvance;
+                }
+                CompletableFuture<T> future = new CompletableFuture<>();
+                if (advance) {
+                    mailbox.queuedAdvance = future;
+                }
+                CompletableFuture<Void> step = mailbox.tail.handleAsync((ignored, error) -> {
+                    if (advance) {
+                        synchronized (mailbox) {
+                            if (mailbox.queuedAdvance == future) {
+                                mailbox.queuedAdvance = null;
+                            }
+                        }
+                    }
+                    WRITING.set(key);
+                    try {
+                        future.complete(task.get());
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    } finally {
+                        WRITING.remove();
+                    }
+                    return null;
+                }, slotWriterExecutor);
+                mailbox.tail = step;
+                step.whenComplete((v, e) -> retireIfIdle(key, mailbox, step));
+                return future;
+            }
+        }
+    }
+
+    private void retireIfIdle(SlotKey key, Mailbox mailbox, CompletableFuture<?> step) {
+        synchronized (mailbox) {
+            if (mailbox.tail == step) {
+                mailbox.retired = true;
+                mailboxes.remove(key, mailbox);
+            }
+        }
+    }
+
+    private static final class Mailbox {
+        private CompletableFuture<?> tail = CompletableFuture.completedFuture(null);
+        private CompletableFuture<?> queuedAdvance;
+        private boolean retired;
+    }
+}
@@ -0,0 +1,82 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.SpendingCategory;
+import com.alkicorp.bankingsim.repository.SpendingCategoryRepository;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Component;
+
+/**
+ * Immutable snapshot of the active spending categories, so the simulation draws spending without
+ * querying the admin-managed table for every client and day. Admin edits swap in a fresh
+ * snapshot and notify the other nodes through {@link #CHANNEL}; see
+ * {@link SpendingCategoryCatalogListener}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpendingCategoryCatalog {
+
+    static final String CHANNEL = "spending_category_catalog";
+
+    private final SpendingCategoryRepository spendingCategoryRepository;
+    private final DataSource dataSource;
+    private final AtomicReference<List<Category>> snapshot = new AtomicReference<>();
+
+    public List<Category> activeCategories() {
+        List<Category> current = snapshot.get();
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Reloads the snapshot after a local edit has committed and tells the other nodes to do the
+     * same.
+     */
+    public void refresh() {
+        reload();
+        notifyPeers();
+    }
+
+    List<Category> reload() {
+        List<Category> loaded = spendingCategoryRepository.findAllByOrderByIdAsc().stream()
+                .filter(category -> Boolean.TRUE.equals(category.getDefaultActive()))
+                .map(Category::of)
+                .toList();
+        snapshot.set(loaded);
+        log.debug("Loaded {} active spending categories", loaded.size());
+        return loaded;
+    }
+
+    private void notifyPeers() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("NOTIFY " + CHANNEL);
+            }
+        } catch (SQLException e) {
+            log.warn("Could not notify other nodes of the spending category change", e);
+        }
+    }
+
+    /**
+     * One active category with its income shares as plain doubles, ready for the spending draw.
+     */
+    public record Category(Long id, String name, double minPctIncome, double maxPctIncome, double variability) {
+
+        static Category of(SpendingCategory category) {
+            return new Category(category.getId(), category.getName(),
+                    category.getMinPctIncome().doubleValue(),
+                    category.getMaxPctIncome().doubleValue(),
+                    category.getVariability() != null ? category.getVariability().doubleValue() : 0d);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.alkicorp.bankingsim.service;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps one connection LISTENing on the catalog channel and reloads the
+ * {@link SpendingCategoryCatalog} whenever another node edits a category. Does nothing on
+ * databases other than PostgreSQL.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpendingCategoryCatalogListener {
+
+    private final SpendingCategoryCatalog catalog;
+    private final DataSource dataSource;
+
+    @Value("${app.spending.catalog.listen-enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.spending.catalog.poll-ms:5000}")
+    private int pollMs;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || worker != null) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::listen, "spending-catalog-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isWrapperFor(PGConnection.class)) {
+                    log.info("Spending category notifications need PostgreSQL; relying on local refreshes");
+                    return;
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + SpendingCategoryCatalog.CHANNEL);
+                }
+                // Anything edited while no connection was listening is picked up here.
+                catalog.reload();
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(pollMs);
+                    if (notifications != null && notifications.length > 0) {
+                        catalog.reload();
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Spending category listener lost its connection; retrying", e);
+                pause();
+            } catch (RuntimeException e) {
+                // A failed reload (e.g. a DataAccessException) must not kill the listener thread.
+                log.warn("Spending category reload failed; retrying", e);
+                pause();
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pollMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.service.SpendingCategoryCatalog.Category;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Monthly spending draw in long cents. Every client-day draws from its own
+ * {@link SplittableRandom}, derived from the slot's seed, so a slot replays the same spending and
+ * no two threads share a generator. Amounts collect in a per-thread buffer and only become
+ * {@link Transaction} rows at the end.
+ */
+public final class SpendingDraw {
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private SpendingDraw() {
+    }
+
+    /**
+     * Draws the client's spending for {@code gameDay} and debits the checking balance in place.
+     * The returned transactions are not saved.
+     */
+    public static List<Transaction> draw(Client client, int gameDay, Money monthlyIncome, Money mandatory,
+            List<Category> categories, Instant now) {
+        long disposable = Math.max(0L, monthlyIncome.cents() - mandatory.cents());
+        if (disposable == 0L || categories.isEmpty()) {
+            return List.of();
+        }
+        int events = Math.max(1, SimulationConstants.SPENDING_EVENTS_PER_MONTH);
+        Buffers buffers = BUFFERS.get().ensure(categories.size() * events, events);
+        long[] amounts = buffers.amounts;
+        SplittableRandom random = new SplittableRandom(seed(slotSeed(client), client.getId(), gameDay));
+
+        long balance = client.getCheckingBalance().cents();
+        int count = 0;
+        for (Category category : categories) {
+            double basePct = category.minPctIncome()
+                    + random.nextDouble() * (category.maxPctIncome() - category.minPctIncome());
+            double variability = category.variability();
+            double swing = variability > 0 ? random.nextDouble() * 2 * variability - variability : 0d;
+            double pct = Math.max(0d, basePct * (1 + swing));
+            // Spending is a share of what is left after mandatory payments, capped by the balance.
+            long available = Math.min(Math.round(disposable * pct), balance);
+            if (available <= 0) {
+                continue;
+            }
+            count = split(available, events, random, buffers.weights, amounts, count);
+            balance -= available;
+        }
+        if (count == 0) {
+            return List.of();
+        }
+
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Transaction tx = new Transaction();
+            tx.setClient(client);
+            tx.setType(TransactionType.SPENDING);
+            tx.setAmount(BigDecimal.valueOf(amounts[i], 2));
+            tx.setGameDay(gameDay);
+            tx.setCreatedAt(now);
+            transactions.add(tx);
+        }
+        client.setCheckingBalance(Money.ofCents(balance));
+        return transactions;
+    }
+
+    /**
+     * Splits {@code total} cents into up to {@code events} randomly weighted portions, appended to
+     * {@code amounts} from {@code count}; returns the new count. Empty portions are dropped.
+     */
+    private static int split(long total, int events, SplittableRandom random, double[] weights, long[] amounts,
+            int count) {
+        if (events <= 1) {
+            amounts[count] = total;
+            return count + 1;
+        }
+        double weightSum = 0d;
+        for (int i = 0; i < events; i++) {
+            weights[i] = 0.5 + random.nextDouble();
+            weightSum += weights[i];
+        }
+        long remaining = total;
+        for (int i = 0; i < events; i++) {
+            long portion = i == events - 1 ? remaining : Math.min(Math.round(total * weights[i] / weightSum), remaining);
+            remaining -= portion;
+            if (portion > 0) {
+                amounts[count++] = portion;
+            }
+        }
+        return count;
+    }
+
+    static long seed(long slotSeed, long clientId, int gameDay) {
+        return mix(mix(slotSeed ^ mix(clientId)) + gameDay);
+    }
+
+    private static long slotSeed(Client client) {
+        BankState state = client.getBankState();
+        if (state != null && state.getRngSeed() != null) {
+            return state.getRngSeed();
+        }
+        // Slots started before seeds were stored derive one from their owner and number.
+        long userId = state != null && state.getUser() != null ? state.getUser().getId() : 0L;
+        int slotId = client.getSlotId() != null ? client.getSlotId() : 0;
+        return mix(userId * 31 + slotId);
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Buffers {
+
+        private long[] amounts = new long[0];
+        private double[] weights = new double[0];
+
+        Buffers ensure(int amountCapacity, int weightCapacity) {
+            if (amounts.length < amountCapacity) {
+                amounts = new long[amountCapacity];
+            }
+            if (weights.length < weightCapacity) {
+                weights = new double[weightCapacity];
+            }
+            return this;
+        }
+    }
+}
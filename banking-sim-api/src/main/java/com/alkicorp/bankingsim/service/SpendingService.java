@@ -1,20 +1,18 @@
 package com.alkicorp.bankingsim.service;
 
 import com.alkicorp.bankingsim.model.Client;
-import com.alkicorp.bankingsim.model.SpendingCategory;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
-import com.alkicorp.bankingsim.repository.SpendingCategoryRepository;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import com.alkicorp.bankingsim.service.SpendingCategoryCatalog.Category;
 import java.time.Clock;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Random;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -25,13 +23,13 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class SpendingService {
 
-    private final SpendingCategoryRepository spendingCategoryRepository;
+    private final SpendingCategoryCatalog spendingCategoryCatalog;
     private final ClientRepository clientRepository;
     private final ClientJobRepository clientJobRepository;
     private final TransactionRepository transactionRepository;
+    private final SlotDailyRollupService rollupService;
     private final MandatorySpendService mandatorySpendService;
     private final Clock clock = Clock.systemUTC();
-    private final Random random = new Random();
 
     @Transactional
     public List<Transaction> generateSpending(int slotId, Long clientId) {
@@ -50,114 +48,33 @@ public class SpendingService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Client not found"));
 
         // Avoid double-charging the same simulated day
-        if (transactionRepository.existsByClientIdAndTypeAndGameDay(clientId, TransactionType.SPENDING, gameDay)) {
+        if (transactionRepository.existsByBankStateIdAndClientIdAndTypeAndGameDay(client.getBankState().getId(), clientId,
+                TransactionType.SPENDING, gameDay)) {
             return List.of();
         }
 
-        BigDecimal monthlyIncome = resolveMonthlyIncome(client);
-        // Use central service for mandatory spend (loans, mortgages, rent)
-        BigDecimal mandatory = mandatorySpendService.recalcAndPersist(client);
+        Money monthlyIncome = resolveMonthlyIncome(client);
+        // Mandatory spend (loans, mortgages, rent) is kept current when obligations change
+        Money mandatory = mandatorySpendService.cached(client);
 
-        BigDecimal disposableCalc = monthlyIncome.subtract(mandatory);
-        if (disposableCalc.compareTo(BigDecimal.ZERO) < 0) {
-            disposableCalc = BigDecimal.ZERO;
+        List<Transaction> transactions = draftSpending(client, gameDay, monthlyIncome, mandatory,
+                spendingCategoryCatalog.activeCategories());
+        if (transactions.isEmpty()) {
+            return transactions;
         }
-
-        List<SpendingCategory> categories = spendingCategoryRepository.findAllByOrderByIdAsc();
-        BigDecimal disposable = disposableCalc;
-        return categories.stream()
-                .filter(cat -> Boolean.TRUE.equals(cat.getDefaultActive()))
-                .flatMap(cat -> spendInCategory(client, gameDay, disposable, cat).stream())
-                .toList();
-    }
-
-    private List<Transaction> spendInCategory(Client client, double gameDay, BigDecimal disposable,
-            SpendingCategory cat) {
-        if (disposable.compareTo(BigDecimal.ZERO) <= 0) {
-            return List.of();
-        }
-
-        double basePct = cat.getMinPctIncome().doubleValue() +
-                random.nextDouble() * (cat.getMaxPctIncome().doubleValue() - cat.getMinPctIncome().doubleValue());
-        double variability = cat.getVariability() != null ? cat.getVariability().doubleValue() : 0d;
-        double swing = variability > 0 ? (random.nextDouble() * 2 * variability - variability) : 0d; // range [-var,
-                                                                                                     // +var]
-        double pct = Math.max(0d, basePct * (1 + swing));
-
-        // Calculate spending based on DISPOSABLE income (remainder after mandatory
-        // payments)
-        // not total monthly income
-        BigDecimal target = disposable.multiply(BigDecimal.valueOf(pct));
-
-        // In this simulation, 1 game day = 1 month (12 days per year).
-        // Split the monthly target into multiple events to spread spending across the month.
-        BigDecimal available = target.min(client.getCheckingBalance());
-        if (available.compareTo(BigDecimal.ZERO) <= 0) {
-            return List.of();
-        }
-
-        int events = Math.max(1, SimulationConstants.SPENDING_EVENTS_PER_MONTH);
-        List<BigDecimal> splits = splitAmount(available, events);
-
-        List<Transaction> transactions = new ArrayList<>();
-        BigDecimal remainingBalance = client.getCheckingBalance();
-        Instant now = Instant.now(clock);
-        for (BigDecimal split : splits) {
-            if (remainingBalance.compareTo(BigDecimal.ZERO) <= 0) {
-                break;
-            }
-            BigDecimal amount = split.min(remainingBalance).setScale(2, RoundingMode.HALF_UP);
-            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
-            }
-            remainingBalance = remainingBalance.subtract(amount);
-            Transaction tx = new Transaction();
-            tx.setClient(client);
-            tx.setType(TransactionType.SPENDING);
-            tx.setAmount(amount);
-            tx.setGameDay((int) Math.floor(gameDay));
-            tx.setCreatedAt(now);
-            transactions.add(transactionRepository.save(tx));
-        }
-
-        if (!transactions.isEmpty()) {
-            client.setCheckingBalance(remainingBalance);
-            clientRepository.save(client);
-        }
-
-        return transactions;
+        List<Transaction> saved = transactionRepository.saveAll(transactions);
+        clientRepository.save(client);
+        rollupService.record(saved);
+        return saved;
     }
 
-    private List<BigDecimal> splitAmount(BigDecimal total, int events) {
-        if (events <= 1) {
-            return List.of(total);
-        }
-        double[] weights = new double[events];
-        double weightSum = 0d;
-        for (int i = 0; i < events; i++) {
-            double weight = 0.5 + random.nextDouble(); // 0.5 - 1.5
-            weights[i] = weight;
-            weightSum += weight;
-        }
-        List<BigDecimal> splits = new ArrayList<>(events);
-        BigDecimal remaining = total;
-        for (int i = 0; i < events; i++) {
-            BigDecimal portion;
-            if (i == events - 1) {
-                portion = remaining;
-            } else {
-                double ratio = weights[i] / weightSum;
-                portion = total.multiply(BigDecimal.valueOf(ratio)).setScale(2, RoundingMode.HALF_UP);
-                if (portion.compareTo(remaining) > 0) {
-                    portion = remaining;
-                }
-                remaining = remaining.subtract(portion);
-            }
-            if (portion.compareTo(BigDecimal.ZERO) > 0) {
-                splits.add(portion);
-            }
-        }
-        return splits;
+    /**
+     * Draws this month's spending for the client across the active categories and debits the
+     * checking balance in place. The returned transactions are not saved.
+     */
+    List<Transaction> draftSpending(Client client, int gameDay, Money monthlyIncome, Money mandatory,
+            List<Category> categories) {
+        return SpendingDraw.draw(client, gameDay, monthlyIncome, mandatory, categories, Instant.now(clock));
     }
 
     /**
@@ -166,19 +83,27 @@ public class SpendingService {
      * This keeps spending working even when the cache was never prefilled
      * elsewhere.
      */
-    private BigDecimal resolveMonthlyIncome(Client client) {
-        if (client.getMonthlyIncomeCache() != null
-                && client.getMonthlyIncomeCache().compareTo(BigDecimal.ZERO) > 0) {
+    private Money resolveMonthlyIncome(Client client) {
+        if (client.getMonthlyIncomeCache() != null && client.getMonthlyIncomeCache().isPositive()) {
             return client.getMonthlyIncomeCache();
         }
-        BigDecimal monthlyIncome = clientJobRepository.findByClientId(client.getId()).stream()
-                .filter(cj -> Boolean.TRUE.equals(cj.getPrimary()))
-                .map(cj -> cj.getJob().getAnnualSalary().divide(BigDecimal.valueOf(SimulationConstants.DAYS_PER_YEAR),
-                        2,
-                        RoundingMode.HALF_UP))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        client.setMonthlyIncomeCache(monthlyIncome);
+        Money monthlyIncome = resolveMonthlyIncome(client, clientJobRepository.findByClientId(client.getId()));
         clientRepository.save(client);
         return monthlyIncome;
     }
+
+    Money resolveMonthlyIncome(Client client, Collection<ClientJob> jobs) {
+        if (client.getMonthlyIncomeCache() != null && client.getMonthlyIncomeCache().isPositive()) {
+            return client.getMonthlyIncomeCache();
+        }
+        Money monthlyIncome = Money.ZERO;
+        for (ClientJob cj : jobs) {
+            if (Boolean.TRUE.equals(cj.getPrimary())) {
+                monthlyIncome = monthlyIncome.plus(
+                        Money.of(cj.getJob().getAnnualSalary()).dividedBy(SimulationConstants.DAYS_PER_YEAR));
+            }
+        }
+        client.setMonthlyIncomeCache(monthlyIncome);
+        return monthlyIncome;
+    }
 }
@@ -0,0 +1,108 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository.CompactionProjection;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import com.alkicorp.bankingsim.web.dto.TransactionCompactionResponse;
+import jakarta.validation.ValidationException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Applies the transaction retention policy. Each slot's transactions older than the retention
+ * period, counted in whole game years, are archived and replaced by one summary row per client,
+ * game day and type. Cashflow and charts read the daily rollup, which compaction leaves as it is,
+ * so their totals do not change. Each slot is compacted on its writer, so compaction never races
+ * an advance or a reset of the same slot.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionCompactor {
+
+    private final BankStateRepository bankStateRepository;
+    private final TransactionRepository transactionRepository;
+    private final SlotWriteExecutor slotWriteExecutor;
+    private final PlatformTransactionManager transactionManager;
+    private final Clock clock = Clock.systemUTC();
+
+    @Value("${app.transactions.retention-years:0}")
+    private int retentionYears;
+
+    @Scheduled(fixedDelayString = "${app.transactions.compaction-interval-ms:3600000}",
+            initialDelayString = "${app.transactions.compaction-interval-ms:3600000}")
+    public void compactOnSchedule() {
+        if (retentionYears > 0) {
+            compactAll();
+        }
+    }
+
+    public TransactionCompactionResponse compactAll() {
+        if (retentionYears <= 0) {
+            throw new ValidationException("Transaction retention is off: set app.transactions.retention-years.");
+        }
+        List<SlotKey> slots = bankStateRepository.findAll().stream()
+                .filter(state -> state.getUser() != null)
+                .map(state -> new SlotKey(state.getUser().getId(), state.getSlotId()))
+                .toList();
+        List<CompletableFuture<Compaction>> compactions = slots.stream()
+                .map(key -> slotWriteExecutor.submit(key, () -> compact(key)))
+                .toList();
+        long archivedRows = 0;
+        long summaryRows = 0;
+        for (CompletableFuture<Compaction> compaction : compactions) {
+            Compaction done = compaction.join();
+            archivedRows += done.archivedRows();
+            summaryRows += done.summaryRows();
+        }
+        log.info("Compacted transactions of {} slots: {} rows archived into {} summary rows", slots.size(),
+                archivedRows, summaryRows);
+        return TransactionCompactionResponse.builder()
+                .slots(slots.size())
+                .archivedRows(archivedRows)
+                .summaryRows(summaryRows)
+                .build();
+    }
+
+    /**
+     * Compacts the slot's game years that fell out of retention since its last compaction.
+     */
+    Compaction compact(SlotKey key) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Compaction result = transaction.execute(status -> bankStateRepository
+                .findBySlotIdAndUserId(key.slotId(), key.userId())
+                .map(this::compact)
+                .orElse(Compaction.NONE));
+        return result == null ? Compaction.NONE : result;
+    }
+
+    private Compaction compact(BankState state) {
+        int currentYear = (int) Math.floor(state.getGameDay()) / SimulationConstants.DAYS_PER_YEAR;
+        int beforeDay = (currentYear - retentionYears) * SimulationConstants.DAYS_PER_YEAR;
+        int fromDay = state.getTransactionsCompactedBefore();
+        if (beforeDay <= fromDay) {
+            return Compaction.NONE;
+        }
+        CompactionProjection compacted = transactionRepository.compact(state.getId(), fromDay, beforeDay,
+                Instant.now(clock));
+        state.setTransactionsCompactedBefore(beforeDay);
+        return new Compaction(compacted.getArchivedRows(), compacted.getSummaryRows());
+    }
+
+    record Compaction(long archivedRows, long summaryRows) {
+        static final Compaction NONE = new Compaction(0, 0);
+    }
+}
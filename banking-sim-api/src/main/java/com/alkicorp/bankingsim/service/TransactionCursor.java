@@ -0,0 +1,38 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Transaction;
+import jakarta.validation.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Where a page of a client's history ended: the (created_at, id) of its last row, newest first.
+ * Handed out as an opaque URL-safe token; the next page starts strictly after it, so rows written
+ * in between never shift or repeat later pages.
+ */
+public record TransactionCursor(Instant createdAt, long id) {
+
+    private static final char SEPARATOR = '_';
+
+    public static TransactionCursor after(Transaction tx) {
+        return new TransactionCursor(tx.getCreatedAt(), tx.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            return new TransactionCursor(Instant.parse(raw.substring(0, split)),
+                    Long.parseLong(raw.substring(split + 1)));
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+            throw new ValidationException("Invalid cursor.");
+        }
+    }
+}
@@ -33,10 +33,11 @@ public class BankruptcyController {
 
     @PatchMapping("/bankruptcy/applications/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public BankruptcyApplicationResponse decide(@PathVariable Long id, @RequestBody BankruptcyApplicationRequest request) {
+    public BankruptcyApplicationResponse decide(@PathVariable int slotId, @PathVariable Long id,
+                                                @RequestBody BankruptcyApplicationRequest request) {
         BankruptcyStatus status = BankruptcyStatus.valueOf(request.getNotes() != null && request.getNotes().equalsIgnoreCase("DENY")
             ? "DENIED" : "APPROVED");
-        return toResponse(bankruptcyService.decide(id, status));
+        return toResponse(bankruptcyService.decide(slotId, id, status));
     }
 
     @GetMapping("/bankruptcy/applications")
@@ -1,16 +1,23 @@
 package com.alkicorp.bankingsim.web;
 
 import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.service.ClientService;
+import com.alkicorp.bankingsim.service.ClientService.TransactionPage;
 import com.alkicorp.bankingsim.service.ProductService;
 import com.alkicorp.bankingsim.web.dto.ClientResponse;
 import com.alkicorp.bankingsim.web.dto.CreateClientRequest;
 import com.alkicorp.bankingsim.web.dto.MoneyRequest;
 import com.alkicorp.bankingsim.web.dto.MonthlyCashflowResponse;
 import com.alkicorp.bankingsim.web.dto.ProductResponse;
+import com.alkicorp.bankingsim.web.dto.TransactionPageResponse;
 import com.alkicorp.bankingsim.web.dto.TransactionResponse;
 import jakarta.validation.Valid;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -34,8 +41,8 @@ public class ClientController {
     @GetMapping
     @Transactional(readOnly = true)
     public List<ClientResponse> listClients(@PathVariable int slotId) {
-        return clientService.getClients(slotId).stream()
-                .map(this::toResponse)
+        return clientService.getClientListings(slotId).stream()
+                .map(listing -> toResponse(listing.client(), listing.primaryJob()))
                 .collect(Collectors.toList());
     }
 
@@ -58,6 +65,23 @@ public class ClientController {
         return txs.stream().map(this::toResponse).collect(Collectors.toList());
     }
 
+    @GetMapping(value = "/{clientId}/transactions", params = "limit")
+    @Transactional(readOnly = true)
+    public TransactionPageResponse getTransactionPage(@PathVariable int slotId,
+            @PathVariable Long clientId,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(name = "type", required = false) List<TransactionType> types,
+            @RequestParam(required = false) Integer fromDay,
+            @RequestParam(required = false) Integer toDay) {
+        TransactionPage page = clientService.getTransactionPage(clientId, slotId, types, fromDay, toDay, cursor,
+                limit);
+        return TransactionPageResponse.builder()
+                .transactions(page.transactions().stream().map(this::toResponse).toList())
+                .nextCursor(page.nextCursor())
+                .build();
+    }
+
     @GetMapping("/{clientId}/monthly-cashflow")
     @Transactional(readOnly = true)
     public MonthlyCashflowResponse getMonthlyCashflow(@PathVariable int slotId,
@@ -117,31 +141,30 @@ public class ClientController {
     }
 
     private ClientResponse toResponse(Client client) {
-        var primaryJobOpt = clientService.getPrimaryJob(client);
+        return toResponse(client, clientService.getPrimaryJob(client).orElse(null));
+    }
+
+    private ClientResponse toResponse(Client client, ClientJob primaryJob) {
+        Job job = primaryJob == null ? null : primaryJob.getJob();
         return ClientResponse.builder()
                 .id(client.getId())
                 .name(client.getName())
-                .checkingBalance(client.getCheckingBalance())
+                .checkingBalance(client.getCheckingBalance().toBigDecimal())
                 .savingsBalance(client.getSavingsBalance())
                 .dailyWithdrawn(client.getDailyWithdrawn())
-                .monthlyIncome(client.getMonthlyIncomeCache())
-                .monthlyMandatory(client.getMonthlyMandatoryCache())
+                .monthlyIncome(toBigDecimal(client.getMonthlyIncomeCache()))
+                .monthlyMandatory(toBigDecimal(client.getMonthlyMandatoryCache()))
                 .monthlyDiscretionary(client.getMonthlyDiscretionaryTarget())
                 .cardNumber(client.getCardNumber())
                 .cardExpiry(client.getCardExpiry())
                 .cardCvv(client.getCardCvv())
                 .employmentStatus(client.getEmploymentStatus())
-                .primaryJobId(primaryJobOpt.map(cj -> cj.getJob() != null ? cj.getJob().getId() : null).orElse(null))
-                .primaryJobTitle(
-                        primaryJobOpt.map(cj -> cj.getJob() != null ? cj.getJob().getTitle() : null).orElse(null))
-                .primaryJobEmployer(
-                        primaryJobOpt.map(cj -> cj.getJob() != null ? cj.getJob().getEmployer() : null).orElse(null))
-                .primaryJobAnnualSalary(primaryJobOpt
-                        .map(cj -> cj.getJob() != null ? cj.getJob().getAnnualSalary() : null).orElse(null))
-                .primaryJobPayCycleDays(primaryJobOpt
-                        .map(cj -> cj.getJob() != null ? cj.getJob().getPayCycleDays() : null).orElse(null))
-                .primaryJobStartDate(
-                        primaryJobOpt.map(com.alkicorp.bankingsim.model.ClientJob::getStartDate).orElse(null))
+                .primaryJobId(job != null ? job.getId() : null)
+                .primaryJobTitle(job != null ? job.getTitle() : null)
+                .primaryJobEmployer(job != null ? job.getEmployer() : null)
+                .primaryJobAnnualSalary(job != null ? job.getAnnualSalary() : null)
+                .primaryJobPayCycleDays(job != null ? job.getPayCycleDays() : null)
+                .primaryJobStartDate(primaryJob != null ? primaryJob.getStartDate() : null)
                 .bankrupt(client.getBankrupt())
                 .bankruptUntil(client.getBankruptUntil())
                 .purchasingBlockReason(client.getPurchasingBlockReason())
@@ -158,4 +181,8 @@ public class ClientController {
                 .createdAt(tx.getCreatedAt())
                 .build();
     }
+
+    private static BigDecimal toBigDecimal(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
 }
@@ -0,0 +1,37 @@
+package com.alkicorp.bankingsim.web;
+
+import com.alkicorp.bankingsim.service.LedgerExportService;
+import com.alkicorp.bankingsim.service.LedgerExportService.Format;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/slots/{slotId}/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final LedgerExportService ledgerExportService;
+
+    @GetMapping("/transactions")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@PathVariable int slotId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        Format parsed = Format.parse(format);
+        StreamingResponseBody body = ledgerExportService.exportTransactions(slotId, parsed);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(parsed.contentType))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("slot-" + slotId + "-transactions." + parsed.extension)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
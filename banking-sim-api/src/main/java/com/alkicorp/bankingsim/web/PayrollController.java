@@ -26,12 +26,15 @@ public class PayrollController {
     @PreAuthorize("hasRole('ADMIN')")
     public void run(@PathVariable int slotId) {
         User user = currentUserService.getCurrentUser();
-        double currentGameDay = simulationService.getAndAdvanceState(user, slotId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId + "/start to initialize the slot."))
-            .getGameDay();
+        simulationService.writeSlot(user, slotId, () -> {
+            double currentGameDay = simulationService.getAndAdvanceState(user, slotId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId + "/start to initialize the slot."))
+                .getGameDay();
 
-        // Use the up-to-date simulated day so any due paychecks post immediately.
-        payrollService.runPayroll(slotId, user.getId(), currentGameDay);
+            // Use the up-to-date simulated day so any due paychecks post immediately.
+            payrollService.runPayroll(slotId, user.getId(), currentGameDay);
+            return null;
+        });
     }
 }
@@ -0,0 +1,42 @@
+package com.alkicorp.bankingsim.web;
+
+import com.alkicorp.bankingsim.service.SlotDailyRollupRebuilder;
+import com.alkicorp.bankingsim.service.SlotTicker;
+import com.alkicorp.bankingsim.service.TransactionCompactor;
+import com.alkicorp.bankingsim.web.dto.RollupRebuildResponse;
+import com.alkicorp.bankingsim.web.dto.SimulationStatsResponse;
+import com.alkicorp.bankingsim.web.dto.TransactionCompactionResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/simulation")
+@RequiredArgsConstructor
+public class SimulationAdminController {
+
+    private final SlotTicker slotTicker;
+    private final SlotDailyRollupRebuilder rollupRebuilder;
+    private final TransactionCompactor transactionCompactor;
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public SimulationStatsResponse stats() {
+        return slotTicker.getStats();
+    }
+
+    @PostMapping("/rollups/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public RollupRebuildResponse rebuildRollups() {
+        return rollupRebuilder.rebuildAll();
+    }
+
+    @PostMapping("/transactions/compact")
+    @PreAuthorize("hasRole('ADMIN')")
+    public TransactionCompactionResponse compactTransactions() {
+        return transactionCompactor.compactAll();
+    }
+}
@@ -0,0 +1,49 @@
+package com.alkicorp.bankingsim.web;
+
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.service.SimulationService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Catches the request's slot up before the controller runs, so no request transaction is open
+ * while it waits on the slot's writer.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotCatchUpInterceptor implements HandlerInterceptor {
+
+    private final SimulationService simulationService;
+    private final CurrentUserService currentUserService;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request
+                .getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String slotId = variables == null ? null : variables.get("slotId");
+        if (slotId == null) {
+            return true;
+        }
+        int slot;
+        try {
+            slot = Integer.parseInt(slotId);
+        } catch (NumberFormatException e) {
+            // Left to the controller's argument binding to reject.
+            return true;
+        }
+        simulationService.catchUp(currentUserService.getCurrentUser(), slot);
+        return true;
+    }
+}
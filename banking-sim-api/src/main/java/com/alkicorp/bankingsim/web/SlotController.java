@@ -1,12 +1,15 @@
 package com.alkicorp.bankingsim.web;
 
 import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.SlotFastForwardService;
 import com.alkicorp.bankingsim.web.dto.BankStateResponse;
+import com.alkicorp.bankingsim.web.dto.FastForwardResponse;
 import com.alkicorp.bankingsim.web.dto.SlotSummaryResponse;
 import com.alkicorp.bankingsim.web.dto.UpdateMortgageRateRequest;
-import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,7 +17,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/slots")
@@ -22,10 +28,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class SlotController {
 
     private final BankService bankService;
+    private final SlotFastForwardService slotFastForwardService;
 
     @GetMapping
     public List<SlotSummaryResponse> listSlots() {
-        return bankService.getSlotSummaries(Arrays.asList(1, 2, 3));
+        return bankService.getSlotSummaries();
     }
 
     @PostMapping("/{slotId}/start")
@@ -44,4 +51,23 @@ public class SlotController {
                                                 @RequestBody UpdateMortgageRateRequest request) {
         return bankService.updateMortgageRate(slotId, request.getMortgageRate());
     }
+
+    @PostMapping("/{slotId}/fast-forward")
+    @PreAuthorize("hasRole('ADMIN')")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public FastForwardResponse fastForward(@PathVariable int slotId, @RequestParam int days) {
+        return slotFastForwardService.start(slotId, days);
+    }
+
+    @GetMapping("/{slotId}/fast-forward")
+    @PreAuthorize("hasRole('ADMIN')")
+    public FastForwardResponse fastForwardStatus(@PathVariable int slotId) {
+        return slotFastForwardService.status(slotId);
+    }
+
+    @GetMapping(value = "/{slotId}/fast-forward/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter fastForwardEvents(@PathVariable int slotId) {
+        return slotFastForwardService.subscribe(slotId);
+    }
 }
@@ -2,6 +2,7 @@ package com.alkicorp.bankingsim.web;
 
 import com.alkicorp.bankingsim.model.SpendingCategory;
 import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.service.SpendingCategoryCatalog;
 import com.alkicorp.bankingsim.service.SpendingService;
 import com.alkicorp.bankingsim.web.dto.SpendingCategoryRequest;
 import java.util.List;
@@ -22,6 +23,7 @@ public class SpendingController {
 
     private final SpendingService spendingService;
     private final com.alkicorp.bankingsim.repository.SpendingCategoryRepository spendingCategoryRepository;
+    private final SpendingCategoryCatalog spendingCategoryCatalog;
 
     @PostMapping("/clients/{clientId}/spendings/run")
     public List<Transaction> runSpending(@PathVariable int slotId, @PathVariable Long clientId) {
@@ -44,7 +46,9 @@ public class SpendingController {
         cat.setMandatory(request.getMandatory());
         cat.setDefaultActive(request.getDefaultActive());
         cat.setCreatedAt(java.time.Instant.now());
-        return spendingCategoryRepository.save(cat);
+        SpendingCategory saved = spendingCategoryRepository.save(cat);
+        spendingCategoryCatalog.refresh();
+        return saved;
     }
 
     @PutMapping("/spending-categories/{id}")
@@ -57,6 +61,8 @@ public class SpendingController {
         cat.setVariability(request.getVariability());
         cat.setMandatory(request.getMandatory());
         cat.setDefaultActive(request.getDefaultActive());
-        return spendingCategoryRepository.save(cat);
+        SpendingCategory saved = spendingCategoryRepository.save(cat);
+        spendingCategoryCatalog.refresh();
+        return saved;
     }
 }
@@ -0,0 +1,21 @@
+package com.alkicorp.bankingsim.web.dto;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class FastForwardResponse {
+    int slotId;
+    String status;
+    int daysRequested;
+    int daysCompleted;
+    long transactionsWritten;
+    long wallTimeMillis;
+    double daysPerSecond;
+    Double gameDay;
+    Instant startedAt;
+    Instant finishedAt;
+    String error;
+}
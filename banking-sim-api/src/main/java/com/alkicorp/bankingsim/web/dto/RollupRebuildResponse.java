@@ -0,0 +1,11 @@
+package com.alkicorp.bankingsim.web.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class RollupRebuildResponse {
+    int slots;
+    long rows;
+}
@@ -0,0 +1,31 @@
+package com.alkicorp.bankingsim.web.dto;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class SimulationStatsResponse {
+    boolean tickerEnabled;
+    int poolSize;
+    int activeWorkers;
+    int queuedAdvances;
+    long coalescedAdvances;
+    long startedAdvances;
+    int advancesInFlight;
+    List<SlotLag> slots;
+
+    @Value
+    @Builder
+    public static class SlotLag {
+        Long userId;
+        int slotId;
+        long lagMillis;
+        long lastAdvanceMillis;
+        long advances;
+        Instant lastAdvancedAt;
+        Instant lastSeen;
+    }
+}
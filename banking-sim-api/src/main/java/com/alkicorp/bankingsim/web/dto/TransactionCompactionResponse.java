@@ -0,0 +1,12 @@
+package com.alkicorp.bankingsim.web.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class TransactionCompactionResponse {
+    int slots;
+    long archivedRows;
+    long summaryRows;
+}
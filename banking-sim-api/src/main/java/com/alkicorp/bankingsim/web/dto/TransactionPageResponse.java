@@ -0,0 +1,12 @@
+package com.alkicorp.bankingsim.web.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class TransactionPageResponse {
+    List<TransactionResponse> transactions;
+    String nextCursor;
+}
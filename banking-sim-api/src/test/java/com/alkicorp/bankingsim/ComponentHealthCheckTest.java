@@ -2,6 +2,7 @@ package com.alkicorp.bankingsim;
 
 import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.service.*;
 import org.junit.jupiter.api.*;
@@ -250,9 +251,8 @@ public class ComponentHealthCheckTest {
             reporter.pass("resetAndGetState() - resets and returns state");
 
             // Test getSlotSummaries
-            var summaries = bankService.getSlotSummaries(List.of(TEST_SLOT_ID));
-            Assertions.assertFalse(summaries.isEmpty());
-            Assertions.assertEquals(TEST_SLOT_ID, summaries.get(0).getSlotId());
+            var summaries = bankService.getSlotSummaries();
+            Assertions.assertTrue(summaries.stream().anyMatch(s -> s.getSlotId() == TEST_SLOT_ID));
             reporter.pass("getSlotSummaries() - returns slot summaries");
         } catch (Exception e) {
             reporter.fail("BankService error: " + e.getMessage());
@@ -291,7 +291,7 @@ public class ComponentHealthCheckTest {
             Assertions.assertNotNull(deposit);
             Assertions.assertEquals(TransactionType.DEPOSIT, deposit.getType());
             var updatedClient = clientService.getClient(TEST_SLOT_ID, client.getId());
-            Assertions.assertTrue(updatedClient.getCheckingBalance().compareTo(new BigDecimal("100.00")) == 0);
+            Assertions.assertTrue(updatedClient.getCheckingBalance().compareTo(Money.of(new BigDecimal("100.00"))) == 0);
             reporter.pass("deposit() - processes deposits correctly");
 
             // Test withdraw
@@ -299,7 +299,7 @@ public class ComponentHealthCheckTest {
             Assertions.assertNotNull(withdrawal);
             Assertions.assertEquals(TransactionType.WITHDRAWAL, withdrawal.getType());
             updatedClient = clientService.getClient(TEST_SLOT_ID, client.getId());
-            Assertions.assertTrue(updatedClient.getCheckingBalance().compareTo(new BigDecimal("50.00")) == 0);
+            Assertions.assertTrue(updatedClient.getCheckingBalance().compareTo(Money.of(new BigDecimal("50.00"))) == 0);
             reporter.pass("withdraw() - processes withdrawals correctly");
 
             // Test getTransactions
@@ -0,0 +1,145 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
+import com.alkicorp.bankingsim.repository.JobRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.service.SimulationConstants;
+import com.alkicorp.bankingsim.service.SimulationService;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * A batched slot catch-up against a real database: 1,000 clients with a job, 12 game days
+ * behind, must write at least a payroll row per client-day.
+ */
+@SpringBootTest(properties = "app.simulation.ticker.enabled=false")
+@ActiveProfiles("test")
+class SlotCatchUpWriteTest {
+
+    private static final int SLOT_ID = 2001;
+    private static final int CLIENTS = 1_000;
+    private static final int DAYS_BEHIND = 12;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SimulationService simulationService;
+    @Autowired
+    private BankStateRepository bankStateRepository;
+    @Autowired
+    private ClientRepository clientRepository;
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private ClientJobRepository clientJobRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private InvestmentEventRepository investmentEventRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long jobId;
+
+    @AfterEach
+    void tearDown() {
+        // Slot resets keep client_jobs, so drop them here for the next run's reset.
+        jdbcTemplate.update("delete from client_jobs where slot_id = ?", SLOT_ID);
+        jdbcTemplate.update("delete from jobs where id = ?", jobId);
+    }
+
+    @Test
+    void catchUpWritesEveryClientDay() {
+        User user = ensureUser();
+        BankState state = simulationService.resetSlot(user, SLOT_ID);
+        seedClients(state);
+        Instant behind = Instant.now().minusMillis(DAYS_BEHIND * SimulationConstants.REAL_MS_PER_GAME_DAY);
+        state.setLastUpdateTimestamp(behind);
+        bankStateRepository.save(state);
+
+        long rowsBefore = transactionRepository.count() + investmentEventRepository.count();
+        simulationService.getAndAdvanceState(user, SLOT_ID);
+        long rows = transactionRepository.count() + investmentEventRepository.count() - rowsBefore;
+
+        Assertions.assertTrue(rows >= (long) CLIENTS * DAYS_BEHIND, "expected at least one payroll row per client-day");
+    }
+
+    private void seedClients(BankState state) {
+        Instant now = Instant.now();
+        // Job maps spending_profile as a plain string, so the row goes in over JDBC like the seed data.
+        jobId = jdbcTemplate.queryForObject("""
+            insert into jobs (title, employer, annual_salary, pay_cycle_days, created_at)
+            values ('Catch-up Analyst', 'Alkicorp', 60000.00, 1, ?)
+            returning id
+            """, Long.class, Timestamp.from(now));
+        Job job = jobRepository.findById(jobId).orElseThrow();
+
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Client client = new Client();
+            client.setBankState(state);
+            client.setSlotId(SLOT_ID);
+            client.setName("Client " + i);
+            client.setCheckingBalance(Money.of(new BigDecimal("5000.00")));
+            client.setDailyWithdrawn(BigDecimal.ZERO.setScale(2));
+            client.setSavingsBalance(BigDecimal.ZERO.setScale(2));
+            client.setMonthlyIncomeCache(Money.ZERO);
+            client.setMonthlyMandatoryCache(Money.ZERO);
+            client.setMonthlyDiscretionaryTarget(BigDecimal.ZERO.setScale(2));
+            client.setEmploymentStatus("ACTIVE");
+            client.setBankrupt(false);
+            client.setMissedPaymentStreak(0);
+            client.setCardNumber(String.format("4000%012d", i));
+            client.setCardExpiry("12/30");
+            client.setCardCvv("123");
+            client.setCreatedAt(now);
+            clients.add(client);
+        }
+        clients = clientRepository.saveAll(clients);
+
+        List<ClientJob> clientJobs = new ArrayList<>();
+        for (Client client : clients) {
+            ClientJob clientJob = new ClientJob();
+            clientJob.setClient(client);
+            clientJob.setSlotId(SLOT_ID);
+            clientJob.setJob(job);
+            clientJob.setStartDate(now);
+            clientJob.setNextPayday(1.0);
+            clientJob.setPrimary(true);
+            clientJob.setCreatedAt(now);
+            clientJobs.add(clientJob);
+        }
+        clientJobRepository.saveAll(clientJobs);
+    }
+
+    private User ensureUser() {
+        return userRepository.findByUsernameIgnoreCase("bench-user")
+            .orElseGet(() -> {
+                User user = new User();
+                user.setUsername("bench-user");
+                user.setEmail("bench-user@example.com");
+                user.setPasswordHash("test-password-hash");
+                return userRepository.save(user);
+            });
+    }
+}
@@ -0,0 +1,82 @@
+package com.alkicorp.bankingsim.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Property check: every Money operation must land on the same cents as the BigDecimal
+ * expression it replaces, rounded with {@code setScale(2, HALF_UP)}.
+ */
+class MoneyTest {
+
+    private static final BigDecimal[] RATES = {
+        new BigDecimal("0.0025"), new BigDecimal("0.07"), new BigDecimal("0.015"), new BigDecimal("1.5"),
+        new BigDecimal("-0.333"), new BigDecimal("0.123456789")
+    };
+
+    static LongStream seeds() {
+        return LongStream.range(0, 500);
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    void operations_matchBigDecimalHalfUp(long seed) {
+        Random random = new Random(seed);
+        BigDecimal a = randomAmount(random);
+        BigDecimal b = randomAmount(random);
+        BigDecimal rate = RATES[random.nextInt(RATES.length)];
+        int divisor = 1 + random.nextInt(24);
+
+        assertEquals(a.add(b), Money.of(a).plus(Money.of(b)).toBigDecimal());
+        assertEquals(a.subtract(b), Money.of(a).minus(Money.of(b)).toBigDecimal());
+        assertEquals(a.min(b), Money.of(a).min(Money.of(b)).toBigDecimal());
+        assertEquals(a.multiply(rate).setScale(2, RoundingMode.HALF_UP), Money.of(a).times(rate).toBigDecimal());
+        assertEquals(a.divide(BigDecimal.valueOf(divisor), 2, RoundingMode.HALF_UP),
+                Money.of(a).dividedBy(divisor).toBigDecimal());
+        assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(Money.of(a).compareTo(Money.of(b))));
+    }
+
+    @Test
+    void of_roundsHalfUpToCents() {
+        assertEquals(Money.ofCents(1235), Money.of(new BigDecimal("12.345")));
+        assertEquals(Money.ofCents(-1235), Money.of(new BigDecimal("-12.345")));
+        assertEquals(Money.ofCents(1234), Money.of(new BigDecimal("12.3449")));
+        assertEquals("12.30", Money.of(new BigDecimal("12.3")).toString());
+    }
+
+    @Test
+    void times_fallsBackForRatesBeyondLongScale() {
+        BigDecimal rate = new BigDecimal("1E+2");
+        assertEquals(new BigDecimal("1234.00"), Money.of(new BigDecimal("12.34")).times(rate).toBigDecimal());
+    }
+
+    @Test
+    void overflowThrows() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E+30")));
+    }
+
+    @Test
+    void converter_mapsNumericColumnsBothWays() {
+        MoneyConverter converter = new MoneyConverter();
+        assertEquals(new BigDecimal("42.10"), converter.convertToDatabaseColumn(Money.ofCents(4210)));
+        assertEquals(Money.ofCents(4210), converter.convertToEntityAttribute(new BigDecimal("42.1")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    private static BigDecimal randomAmount(Random random) {
+        long cents = random.nextInt(4) == 0 ? random.nextInt(1000) : (long) (random.nextDouble() * 2_000_000_000L);
+        return BigDecimal.valueOf(random.nextBoolean() ? cents : -cents, 2);
+    }
+}
@@ -0,0 +1,109 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.alkicorp.bankingsim.model.BankState;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Property check: for random balances, day ranges and repayment credits, the fast-forward must
+ * leave exactly the same BigDecimals (value and scale) and returns as the day-by-day rules.
+ */
+class BankAccrualsTest {
+
+    static LongStream seeds() {
+        return LongStream.range(0, 500);
+    }
+
+    @ParameterizedTest
+    @MethodSource("seeds")
+    void fastForward_matchesDayByDayRules(long seed) {
+        Random random = new Random(seed);
+        BigDecimal cash = randomAmount(random);
+        BigDecimal invested = randomAmount(random);
+        int fromDay = random.nextInt(120);
+        int toDay = fromDay + random.nextInt(400);
+        BigDecimal[] credits = randomCredits(random, toDay - fromDay);
+
+        assertSameOutcome(seed, cash, invested, fromDay, toDay, credits);
+    }
+
+    @Test
+    void fastForward_fallsBackWhenCentsOverflow() {
+        BigDecimal[] credits = new BigDecimal[3000];
+        credits[5] = new BigDecimal("12.34");
+
+        assertSameOutcome(-1, new BigDecimal("987654321.99"), new BigDecimal("5000000.00"), 0, 3000, credits);
+    }
+
+    @Test
+    void fastForward_keepsUnscaledBalancesOnTheSlowPath() {
+        assertSameOutcome(-2, BigDecimal.ZERO, BigDecimal.ZERO, 3, 40, new BigDecimal[37]);
+    }
+
+    private void assertSameOutcome(long seed, BigDecimal cash, BigDecimal invested, int fromDay, int toDay,
+            BigDecimal[] credits) {
+        BankState iterative = state(cash, invested);
+        List<String> iterativeReturns = new ArrayList<>();
+        for (int day = fromDay + 1; day <= toDay; day++) {
+            BankAccruals.growLiquidCash(iterative);
+            if (BankAccruals.isYearEnd(day)) {
+                BankAccruals.collectSp500Returns(iterative, day,
+                        (type, amount, gameDay) -> iterativeReturns.add(type + " " + amount + " " + gameDay));
+            }
+            BigDecimal credit = credits[day - fromDay - 1];
+            if (credit != null) {
+                iterative.setLiquidCash(iterative.getLiquidCash().add(credit));
+            }
+        }
+
+        BankState fast = state(cash, invested);
+        List<String> fastReturns = new ArrayList<>();
+        BankAccruals.fastForward(fast, fromDay, toDay, credits,
+                (type, amount, gameDay) -> fastReturns.add(type + " " + amount + " " + gameDay));
+
+        String context = "seed " + seed + " cash " + cash + " invested " + invested + " days (" + fromDay + ", "
+                + toDay + "]";
+        assertEquals(iterative.getLiquidCash(), fast.getLiquidCash(), context);
+        assertEquals(iterative.getInvestedSp500(), fast.getInvestedSp500(), context);
+        assertEquals(iterative.getNextGrowthDay(), fast.getNextGrowthDay(), context);
+        assertEquals(iterative.getNextDividendDay(), fast.getNextDividendDay(), context);
+        assertEquals(iterativeReturns, fastReturns, context);
+    }
+
+    private BankState state(BigDecimal cash, BigDecimal invested) {
+        BankState state = new BankState();
+        state.setSlotId(1);
+        state.setLiquidCash(cash);
+        state.setInvestedSp500(invested);
+        state.setNextGrowthDay(11);
+        state.setNextDividendDay(11);
+        return state;
+    }
+
+    private BigDecimal randomAmount(Random random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> new BigDecimal("0.00");
+            case 1 -> BigDecimal.valueOf(-random.nextInt(1_000_000), 2);
+            case 2 -> BigDecimal.valueOf(random.nextInt(100), 2);
+            default -> BigDecimal.valueOf(Math.abs(random.nextLong() % 10_000_000_000L), 2);
+        };
+    }
+
+    private BigDecimal[] randomCredits(Random random, int days) {
+        BigDecimal[] credits = new BigDecimal[days];
+        for (int i = 0; i < days; i++) {
+            if (random.nextInt(4) == 0) {
+                credits[i] = BigDecimal.valueOf(random.nextInt(500_000), 2);
+            }
+        }
+        return credits;
+    }
+}
@@ -0,0 +1,88 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.BankStateRepository.SlotSummaryProjection;
+import com.alkicorp.bankingsim.web.dto.SlotSummaryResponse;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BankServiceTest {
+
+    @Mock
+    private SimulationService simulationService;
+    @Mock
+    private BankStateRepository bankStateRepository;
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @InjectMocks
+    private BankService bankService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bankService, "defaultSlots", List.of(1, 2, 3));
+        User user = new User();
+        user.setId(7L);
+        when(currentUserService.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    void getSlotSummaries_listsDefaultAndStartedSlotsFromOneQuery() {
+        when(bankStateRepository.findSlotSummaries(7L)).thenReturn(List.of(
+                slot(2, 14.5, "1200.00", 3),
+                slot(9, 0.0, "5000.00", 0)));
+
+        List<SlotSummaryResponse> summaries = bankService.getSlotSummaries();
+
+        assertEquals(List.of(1, 2, 3, 9), summaries.stream().map(SlotSummaryResponse::getSlotId).toList());
+        SlotSummaryResponse started = summaries.get(1);
+        assertEquals(3, started.getClientCount());
+        assertEquals(14.5, started.getGameDay());
+        assertEquals(new BigDecimal("1200.00"), started.getLiquidCash());
+        assertTrue(started.isHasData());
+        assertFalse(summaries.get(0).isHasData());
+        assertEquals(BigDecimal.ZERO, summaries.get(0).getLiquidCash());
+        assertFalse(summaries.get(3).isHasData());
+        verifyNoInteractions(simulationService);
+    }
+
+    private static SlotSummaryProjection slot(int slotId, double gameDay, String liquidCash, long clientCount) {
+        return new SlotSummaryProjection() {
+            @Override
+            public Integer getSlotId() {
+                return slotId;
+            }
+
+            @Override
+            public Double getGameDay() {
+                return gameDay;
+            }
+
+            @Override
+            public BigDecimal getLiquidCash() {
+                return new BigDecimal(liquidCash);
+            }
+
+            @Override
+            public long getClientCount() {
+                return clientCount;
+            }
+        };
+    }
+}
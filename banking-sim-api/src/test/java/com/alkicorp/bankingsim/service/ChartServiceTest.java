@@ -0,0 +1,103 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository.DailyActivityProjection;
+import com.alkicorp.bankingsim.web.dto.ActivityChartResponse;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChartServiceTest {
+
+    private static final long USER_ID = 3L;
+    private static final int SLOT_ID = 1;
+
+    @Mock
+    private SimulationService simulationService;
+    @Mock
+    private ClientRepository clientRepository;
+    @Mock
+    private SlotDailyRollupRepository rollupRepository;
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private ChartService service;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        service = new ChartService(simulationService, clientRepository, rollupRepository, currentUserService);
+        user = new User();
+        user.setId(USER_ID);
+        when(currentUserService.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    void getActivityChart_buildsRunningTotalsFromDailySums() {
+        stateAtDay(4.6);
+        when(rollupRepository.sumDailyActivity(eq(SLOT_ID), eq(USER_ID), eq(4), any())).thenReturn(List.of(
+                day(0, "500.00", "0.00"),
+                day(2, "300.10", "100.05"),
+                day(4, "0.00", "50.00")));
+
+        ActivityChartResponse chart = service.getActivityChart(SLOT_ID);
+
+        assertEquals(List.of(0, 1, 2, 3, 4), chart.getDays());
+        assertEquals(List.of(500.0, 500.0, 800.1, 800.1, 800.1), chart.getCumulativeDeposits());
+        assertEquals(List.of(0.0, 0.0, 100.05, 100.05, 150.05), chart.getCumulativeWithdrawals());
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void getActivityChart_withoutHistoryIsFlat() {
+        stateAtDay(2.0);
+        when(rollupRepository.sumDailyActivity(eq(SLOT_ID), eq(USER_ID), eq(2), any())).thenReturn(List.of());
+
+        ActivityChartResponse chart = service.getActivityChart(SLOT_ID);
+
+        assertEquals(List.of(0, 1, 2), chart.getDays());
+        assertEquals(List.of(0.0, 0.0, 0.0), chart.getCumulativeDeposits());
+        assertEquals(List.of(0.0, 0.0, 0.0), chart.getCumulativeWithdrawals());
+    }
+
+    private void stateAtDay(double gameDay) {
+        BankState state = new BankState();
+        state.setGameDay(gameDay);
+        when(simulationService.getCurrentState(user, SLOT_ID)).thenReturn(Optional.of(state));
+    }
+
+    private static DailyActivityProjection day(int gameDay, String deposits, String withdrawals) {
+        return new DailyActivityProjection() {
+            @Override
+            public Integer getGameDay() {
+                return gameDay;
+            }
+
+            @Override
+            public BigDecimal getDeposits() {
+                return new BigDecimal(deposits);
+            }
+
+            @Override
+            public BigDecimal getWithdrawals() {
+                return new BigDecimal(withdrawals);
+            }
+        };
+    }
+}
@@ -1,8 +1,12 @@
 package com.alkicorp.bankingsim.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -11,10 +15,17 @@ import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.service.ClientService.TransactionPage;
+import jakarta.validation.ValidationException;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +33,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +42,7 @@ class ClientServiceTest {
 
     private static final int SLOT_ID = 42;
     private static final long CLIENT_ID = 7L;
+    private static final long BANK_STATE_ID = 5L;
 
     @Mock
     private ClientRepository clientRepository;
@@ -37,6 +51,8 @@ class ClientServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
     @Mock
+    private SlotDailyRollupService rollupService;
+    @Mock
     private SimulationService simulationService;
     @Mock
     private CurrentUserService currentUserService;
@@ -48,41 +64,110 @@ class ClientServiceTest {
 
     @BeforeEach
     void setup() {
-        when(currentUserService.getCurrentUser()).thenReturn(user);
+        lenient().when(currentUserService.getCurrentUser()).thenReturn(user);
+        ReflectionTestUtils.setField(clientService, "unpagedLimit", 1000);
+        ReflectionTestUtils.setField(clientService, "maxPageSize", 200);
     }
 
     @Test
-    void getClients_advancesSimulationFirst() {
-        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(new BankState()));
+    void getClients_readsCurrentStateWithoutAdvancing() {
+        when(simulationService.getCurrentState(user, SLOT_ID)).thenReturn(Optional.of(new BankState()));
         when(clientRepository.findBySlotIdAndBankStateUserId(SLOT_ID, user.getId())).thenReturn(Collections.emptyList());
 
         clientService.getClients(SLOT_ID);
 
-        verify(simulationService).getAndAdvanceState(user, SLOT_ID);
+        verify(simulationService).getCurrentState(user, SLOT_ID);
         verify(clientRepository).findBySlotIdAndBankStateUserId(SLOT_ID, user.getId());
         verifyNoMoreInteractions(simulationService);
     }
 
     @Test
     void getClients_throwsWhenBankStateMissing() {
-        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.empty());
+        when(simulationService.getCurrentState(user, SLOT_ID)).thenReturn(Optional.empty());
 
         assertThrows(ResponseStatusException.class, () -> clientService.getClients(SLOT_ID));
     }
 
     @Test
     void getTransactions_advancesSimulationBeforeFetching() {
-        Client client = new Client();
-        client.setId(CLIENT_ID);
+        Client client = client();
         when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(new BankState()));
         when(clientRepository.findByIdAndSlotIdAndBankStateUserId(CLIENT_ID, SLOT_ID, user.getId()))
             .thenReturn(Optional.of(client));
-        when(transactionRepository.findByClientOrderByCreatedAtDesc(client)).thenReturn(Collections.emptyList());
+        when(transactionRepository.findByBankStateIdAndClientIdOrderByCreatedAtDescIdDesc(eq(BANK_STATE_ID), eq(CLIENT_ID),
+            argThat(limit -> limit.max() == 1000)))
+            .thenReturn(Collections.emptyList());
 
         clientService.getTransactions(CLIENT_ID, SLOT_ID);
 
         verify(simulationService).getAndAdvanceState(user, SLOT_ID);
         verify(clientRepository).findByIdAndSlotIdAndBankStateUserId(CLIENT_ID, SLOT_ID, user.getId());
-        verify(transactionRepository).findByClientOrderByCreatedAtDesc(client);
+        verify(transactionRepository).findByBankStateIdAndClientIdOrderByCreatedAtDescIdDesc(eq(BANK_STATE_ID), eq(CLIENT_ID),
+            any(Limit.class));
+    }
+
+    @Test
+    void getTransactionPage_returnsCursorOfLastRowWhenMoreFollow() {
+        stubClient();
+        List<Transaction> rows = List.of(tx(30L, "2025-01-03T00:00:00Z"), tx(20L, "2025-01-02T00:00:00Z"),
+            tx(10L, "2025-01-01T00:00:00Z"));
+        when(transactionRepository.findPage(eq(BANK_STATE_ID), eq(CLIENT_ID), eq(List.of(TransactionType.SPENDING)), eq(0), eq(5),
+            argThat(limit -> limit.max() == 3)))
+            .thenReturn(rows);
+
+        TransactionPage page = clientService.getTransactionPage(CLIENT_ID, SLOT_ID,
+            List.of(TransactionType.SPENDING), null, 5, null, 2);
+
+        assertEquals(rows.subList(0, 2), page.transactions());
+        TransactionCursor cursor = TransactionCursor.decode(page.nextCursor());
+        assertEquals(Instant.parse("2025-01-02T00:00:00Z"), cursor.createdAt());
+        assertEquals(20L, cursor.id());
+    }
+
+    @Test
+    void getTransactionPage_continuesAfterTheCursorAndEndsWithoutOne() {
+        stubClient();
+        Instant createdAt = Instant.parse("2025-01-02T00:00:00Z");
+        String cursor = new TransactionCursor(createdAt, 20L).encode();
+        List<Transaction> rows = List.of(tx(10L, "2025-01-01T00:00:00Z"));
+        when(transactionRepository.findPageAfter(eq(BANK_STATE_ID), eq(CLIENT_ID), eq(EnumSet.allOf(TransactionType.class)), eq(0),
+            eq(Integer.MAX_VALUE), eq(createdAt), eq(20L), argThat(limit -> limit.max() == 3))).thenReturn(rows);
+
+        TransactionPage page = clientService.getTransactionPage(CLIENT_ID, SLOT_ID, null, null, null, cursor, 2);
+
+        assertEquals(rows, page.transactions());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getTransactionPage_rejectsBadLimitsAndCursors() {
+        assertThrows(ValidationException.class,
+            () -> clientService.getTransactionPage(CLIENT_ID, SLOT_ID, null, null, null, null, 201));
+        assertThrows(ValidationException.class,
+            () -> clientService.getTransactionPage(CLIENT_ID, SLOT_ID, null, 9, 3, null, 10));
+        assertThrows(ValidationException.class,
+            () -> clientService.getTransactionPage(CLIENT_ID, SLOT_ID, null, null, null, "not-a-cursor", 10));
+    }
+
+    private void stubClient() {
+        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(new BankState()));
+        when(clientRepository.findByIdAndSlotIdAndBankStateUserId(CLIENT_ID, SLOT_ID, user.getId()))
+            .thenReturn(Optional.of(client()));
+    }
+
+    private static Client client() {
+        BankState state = new BankState();
+        state.setId(BANK_STATE_ID);
+        Client client = new Client();
+        client.setId(CLIENT_ID);
+        client.setBankState(state);
+        return client;
+    }
+
+    private static Transaction tx(Long id, String createdAt) {
+        Transaction tx = new Transaction();
+        tx.setId(id);
+        tx.setCreatedAt(Instant.parse(createdAt));
+        return tx;
     }
 }
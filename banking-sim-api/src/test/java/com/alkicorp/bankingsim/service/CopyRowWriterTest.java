@@ -0,0 +1,22 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class CopyRowWriterTest {
+
+    @Test
+    void writesCsvRowsWithCentsAndNulls() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CopyRowWriter rows = new CopyRowWriter(out)) {
+            rows.nullValue().value(7L).cents(123_456L).cents(-5L).value(true).nullValue().endRow();
+            rows.value("Alex Roy").cents(0).value(1.5).endRow();
+            assertEquals(2, rows.rows());
+        }
+
+        assertEquals(",7,1234.56,-0.05,t,\nAlex Roy,0.00,1.5\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,43 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class DatasetGeneratorTest {
+
+    @Test
+    void spread_addsUpToTheTotalAndIsReproducibleForTheSameSeed() {
+        long[] parts = DatasetGenerator.spread(50_000_003L, 1_000, new SplittableRandom(42));
+
+        assertEquals(50_000_003L, Arrays.stream(parts).sum());
+        assertArrayEquals(parts, DatasetGenerator.spread(50_000_003L, 1_000, new SplittableRandom(42)));
+    }
+
+    @Test
+    void spread_isSkewedTowardsAFewHeavyClients() {
+        long[] parts = DatasetGenerator.spread(1_000_000L, 10_000, new SplittableRandom(7));
+        long[] sorted = Arrays.stream(parts).sorted().toArray();
+        long topFifth = Arrays.stream(sorted, sorted.length * 4 / 5, sorted.length).sum();
+
+        assertTrue(topFifth > 400_000L, "top 20% hold " + topFifth);
+        assertTrue(sorted[0] > 0, "every client gets some history");
+    }
+
+    @Test
+    void shareOfDay_spreadsACountEvenlyOverTheDays() {
+        int days = 120;
+        long total = IntStream.range(0, days).mapToLong(day -> DatasetGenerator.shareOfDay(517, day, days)).sum();
+
+        assertEquals(517, total);
+        IntStream.range(0, days).forEach(day -> {
+            long share = DatasetGenerator.shareOfDay(517, day, days);
+            assertTrue(share == 4 || share == 5, "day " + day + " got " + share);
+        });
+    }
+}
@@ -0,0 +1,123 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository.TypeTotalsProjection;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository.LatestTransactionProjection;
+import com.alkicorp.bankingsim.web.dto.InvestmentStateResponse;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class InvestmentServiceTest {
+
+    private static final long USER_ID = 3L;
+    private static final int SLOT_ID = 1;
+
+    @Mock
+    private SimulationService simulationService;
+    @Mock
+    private BankStateRepository bankStateRepository;
+    @Mock
+    private InvestmentEventRepository investmentEventRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private SlotDailyRollupRepository rollupRepository;
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @InjectMocks
+    private InvestmentService investmentService;
+
+    @Test
+    void getInvestmentStateResponse_readsRepaymentTotalsAndLatestRowsFromTheDatabase() {
+        User user = new User();
+        user.setId(USER_ID);
+        BankState state = new BankState();
+        state.setUser(user);
+        state.setSlotId(SLOT_ID);
+        state.setGameDay(14.6);
+        state.setNextDividendDay(24);
+        state.setNextGrowthDay(24);
+        when(currentUserService.getCurrentUser()).thenReturn(user);
+        when(simulationService.getCurrentState(user, SLOT_ID)).thenReturn(Optional.of(state));
+        when(investmentEventRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(List.of());
+        when(rollupRepository.sumByTypes(eq(USER_ID), eq(SLOT_ID), eq(14), any()))
+                .thenReturn(totals("1800.00", "250.00"));
+        when(transactionRepository.findLatestBySlotAndTypes(eq(SLOT_ID), eq(USER_ID), any(), anyInt()))
+                .thenReturn(List.of(repayment("Alice", TransactionType.MORTGAGE_PAYMENT, "250.00", 14)));
+
+        InvestmentStateResponse response = investmentService.getInvestmentStateResponse(SLOT_ID);
+
+        assertEquals(new BigDecimal("1800.00"), response.getRepaymentIncomeTotal());
+        assertEquals(new BigDecimal("250.00"), response.getRepaymentIncomeCurrentMonth());
+        assertEquals(1, response.getRepaymentIncome().size());
+        assertEquals("Alice", response.getRepaymentIncome().get(0).getClientName());
+        assertEquals(TransactionType.MORTGAGE_PAYMENT, response.getRepaymentIncome().get(0).getType());
+        assertEquals(14, response.getRepaymentIncome().get(0).getGameDay());
+    }
+
+    private static TypeTotalsProjection totals(String total, String currentDay) {
+        return new TypeTotalsProjection() {
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+
+            @Override
+            public BigDecimal getCurrentDay() {
+                return new BigDecimal(currentDay);
+            }
+        };
+    }
+
+    private static LatestTransactionProjection repayment(String clientName, TransactionType type, String amount,
+            int gameDay) {
+        return new LatestTransactionProjection() {
+            @Override
+            public String getClientName() {
+                return clientName;
+            }
+
+            @Override
+            public TransactionType getType() {
+                return type;
+            }
+
+            @Override
+            public BigDecimal getAmount() {
+                return new BigDecimal(amount);
+            }
+
+            @Override
+            public Integer getGameDay() {
+                return gameDay;
+            }
+
+            @Override
+            public Instant getCreatedAt() {
+                return Instant.EPOCH;
+            }
+        };
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -16,6 +17,7 @@ import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.ClientJob;
 import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.JobRepository;
@@ -23,12 +25,14 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class JobServiceTest {
@@ -45,6 +49,8 @@ class JobServiceTest {
     private SimulationService simulationService;
     @Mock
     private CurrentUserService currentUserService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private JobService jobService;
@@ -63,7 +69,7 @@ class JobServiceTest {
 
         client = new Client();
         client.setId(100L);
-        client.setMonthlyIncomeCache(BigDecimal.ZERO);
+        client.setMonthlyIncomeCache(Money.ZERO);
     }
 
     @Test
@@ -76,6 +82,8 @@ class JobServiceTest {
         when(currentUserService.getCurrentUser()).thenReturn(user);
         when(clientService.getClient(1, 100L)).thenReturn(client);
         when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(simulationService.writeSlot(eq(user), eq(1), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
         when(simulationService.getAndAdvanceState(user, 1)).thenReturn(Optional.of(bankState));
 
         // Mock return of saved client job
@@ -94,7 +102,7 @@ class JobServiceTest {
         jobService.assignJob(1, 100L, 1L, true);
 
         // Should match exactly 5000.00
-        assertEquals(new BigDecimal("5000.00"), client.getMonthlyIncomeCache());
+        assertEquals(Money.of(new BigDecimal("5000.00")), client.getMonthlyIncomeCache());
         // One save for the new job. No saves for existing jobs (since list was empty)
         verify(clientJobRepository, times(1)).save(any(ClientJob.class));
         verify(clientRepository).save(client);
@@ -118,11 +126,13 @@ class JobServiceTest {
         existingCj.setPrimary(true);
 
         // Client already has partial income
-        client.setMonthlyIncomeCache(new BigDecimal("5000.00"));
+        client.setMonthlyIncomeCache(Money.of(new BigDecimal("5000.00")));
 
         when(currentUserService.getCurrentUser()).thenReturn(user);
         when(clientService.getClient(1, 100L)).thenReturn(client);
         when(jobRepository.findById(2L)).thenReturn(Optional.of(job2));
+        when(simulationService.writeSlot(eq(user), eq(1), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
         when(simulationService.getAndAdvanceState(user, 1)).thenReturn(Optional.of(bankState));
 
         ClientJob newCj = new ClientJob();
@@ -146,7 +156,7 @@ class JobServiceTest {
         jobService.assignJob(1, 100L, 2L, true);
 
         // Should be exactly 2500.00 (replaces 5000.00)
-        assertEquals(new BigDecimal("2500.00"), client.getMonthlyIncomeCache());
+        assertEquals(Money.of(new BigDecimal("2500.00")), client.getMonthlyIncomeCache());
         verify(clientRepository).save(client);
     }
 }
@@ -0,0 +1,130 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.LedgerRow;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.service.LedgerExportService.Format;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ValidationException;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+class LedgerExportServiceTest {
+
+    private static final long USER_ID = 3L;
+    private static final int SLOT_ID = 1;
+    private static final long BANK_STATE_ID = 5L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TransactionRepository transactionRepository;
+    private SimulationService simulationService;
+    private CurrentUserService currentUserService;
+    private LedgerExportService exportService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionRepository = mock(TransactionRepository.class);
+        simulationService = mock(SimulationService.class);
+        currentUserService = mock(CurrentUserService.class);
+        exportService = new LedgerExportService(transactionRepository, simulationService, currentUserService,
+                mock(PlatformTransactionManager.class), objectMapper);
+        user = new User();
+        user.setId(USER_ID);
+        when(currentUserService.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    void exportTransactions_writesOneJsonObjectPerLineAndClosesTheCursor() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(simulationService.getCurrentState(user, SLOT_ID)).thenReturn(Optional.of(state()));
+        when(transactionRepository.streamLedger(BANK_STATE_ID)).thenReturn(Stream.of(
+                row(10L, 7L, "Alice", TransactionType.DEPOSIT, "100.00", 2),
+                row(11L, 8L, "Bob", TransactionType.WITHDRAWAL, "40.50", 3)).onClose(() -> closed.set(true)));
+
+        String body = write(exportService.exportTransactions(SLOT_ID, Format.NDJSON));
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(10L, first.get("id").asLong());
+        assertEquals(7L, first.get("clientId").asLong());
+        assertEquals("Alice", first.get("clientName").asText());
+        assertEquals("DEPOSIT", first.get("type").asText());
+        assertTrue(lines[0].contains("\"amount\":100.00,"));
+        assertEquals(2, first.get("gameDay").asInt());
+        assertEquals("1970-01-01T00:00:00Z", first.get("createdAt").asText());
+        assertEquals("Bob", objectMapper.readTree(lines[1]).get("clientName").asText());
+        assertTrue(body.endsWith("\n"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportTransactions_quotesCsvNamesThatHoldSeparatorsOrQuotes() throws Exception {
+        when(simulationService.getCurrentState(user, SLOT_ID)).thenReturn(Optional.of(state()));
+        when(transactionRepository.streamLedger(BANK_STATE_ID)).thenReturn(Stream.of(
+                row(10L, 7L, "Smith, \"Al\"", TransactionType.SPENDING, "12.5", 4),
+                row(11L, 8L, "Bob", TransactionType.DEPOSIT, "3000.00", 5)));
+
+        String body = write(exportService.exportTransactions(SLOT_ID, Format.CSV));
+
+        assertEquals("id,client_id,client_name,type,amount,game_day,created_at\n"
+                + "10,7,\"Smith, \"\"Al\"\"\",SPENDING,12.5,4,1970-01-01T00:00:00Z\n"
+                + "11,8,Bob,DEPOSIT,3000.00,5,1970-01-01T00:00:00Z\n", body);
+        verify(transactionRepository).streamLedger(BANK_STATE_ID);
+    }
+
+    @Test
+    void exportTransactions_rejectsASlotThatWasNeverStartedBeforeStreaming() {
+        when(simulationService.getCurrentState(user, SLOT_ID)).thenReturn(Optional.empty());
+
+        assertThrows(ResponseStatusException.class, () -> exportService.exportTransactions(SLOT_ID, Format.CSV));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void parse_acceptsEitherCaseAndRejectsOtherFormats() {
+        assertEquals(Format.CSV, Format.parse("CSV"));
+        assertEquals(Format.NDJSON, Format.parse("ndjson"));
+        assertThrows(ValidationException.class, () -> Format.parse("xml"));
+    }
+
+    private static BankState state() {
+        BankState state = new BankState();
+        state.setId(BANK_STATE_ID);
+        return state;
+    }
+
+    private static String write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static LedgerRow row(Long id, Long clientId, String clientName, TransactionType type, String amount,
+            int gameDay) {
+        return new LedgerRow(id, clientId, clientName, type, new BigDecimal(amount), gameDay, Instant.EPOCH);
+    }
+}
@@ -3,6 +3,7 @@ package com.alkicorp.bankingsim.service;
 import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.ClientLiving;
 import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Mortgage;
 import com.alkicorp.bankingsim.model.enums.LoanStatus;
 import com.alkicorp.bankingsim.model.enums.MortgageStatus;
@@ -75,11 +76,11 @@ class MandatorySpendServiceTest {
         when(clientLivingRepository.findByClientIdAndSlotId(1L, 101)).thenReturn(Optional.of(living));
 
         // Act
-        BigDecimal result = mandatorySpendService.recalcAndPersist(client);
+        Money result = mandatorySpendService.recalcAndPersist(client);
 
         // Assert
         // Total = 100 (Loan) + 2000 (Mortgage) + 500 (Rent) = 2600
-        BigDecimal expected = BigDecimal.valueOf(2600.00).setScale(2);
+        Money expected = Money.of(BigDecimal.valueOf(2600.00));
         assertEquals(expected, result);
 
         verify(clientRepository).save(client);
@@ -102,9 +103,9 @@ class MandatorySpendServiceTest {
         when(clientLivingRepository.findByClientIdAndSlotId(1L, 101)).thenReturn(Optional.empty());
 
         // Act
-        BigDecimal result = mandatorySpendService.recalcAndPersist(client);
+        Money result = mandatorySpendService.recalcAndPersist(client);
 
         // Assert
-        assertEquals(BigDecimal.ZERO.setScale(2), result);
+        assertEquals(Money.ZERO, result);
     }
 }
@@ -0,0 +1,78 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.model.enums.LoanStatus;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class MandatorySpendVerifierTest {
+
+    private static final SlotKey SLOT = new SlotKey(5L, 1);
+
+    private final ClientRepository clientRepository = mock(ClientRepository.class);
+    private final LoanRepository loanRepository = mock(LoanRepository.class);
+    private final MortgageRepository mortgageRepository = mock(MortgageRepository.class);
+    private final ClientLivingRepository clientLivingRepository = mock(ClientLivingRepository.class);
+    private final MandatorySpendService mandatorySpendService = new MandatorySpendService(clientRepository,
+            clientLivingRepository, loanRepository, mortgageRepository);
+    private final MandatorySpendVerifier verifier = new MandatorySpendVerifier(mock(BankStateRepository.class),
+            clientRepository, loanRepository, mortgageRepository, clientLivingRepository, mandatorySpendService,
+            new SlotWriteExecutor(Runnable::run), mock(PlatformTransactionManager.class));
+
+    @Test
+    void verify_repairsOnlyDriftedCaches() {
+        Client current = client(1L, "350.00");
+        Client drifted = client(2L, "0.00");
+        Client unset = client(3L, null);
+        when(clientRepository.findBySlotIdAndBankStateUserId(SLOT.slotId(), SLOT.userId()))
+                .thenReturn(List.of(current, drifted, unset));
+        when(loanRepository.findBySlotIdAndUserId(SLOT.slotId(), SLOT.userId()))
+                .thenReturn(List.of(loan(current, "100.00"), loan(drifted, "75.00")));
+        when(mortgageRepository.findBySlotIdAndUserId(SLOT.slotId(), SLOT.userId())).thenReturn(List.of());
+        when(clientLivingRepository.findBySlotIdAndClientBankStateUserId(SLOT.slotId(), SLOT.userId()))
+                .thenReturn(List.of(living(current, "250.00")));
+
+        assertEquals(2, verifier.verify(SLOT));
+
+        assertEquals(Money.of(new BigDecimal("350.00")), current.getMonthlyMandatoryCache());
+        assertEquals(Money.of(new BigDecimal("75.00")), drifted.getMonthlyMandatoryCache());
+        assertEquals(Money.ZERO, unset.getMonthlyMandatoryCache());
+    }
+
+    private static Client client(Long id, String mandatory) {
+        Client client = new Client();
+        client.setId(id);
+        client.setMonthlyMandatoryCache(mandatory == null ? null : Money.of(new BigDecimal(mandatory)));
+        return client;
+    }
+
+    private static Loan loan(Client client, String payment) {
+        Loan loan = new Loan();
+        loan.setClient(client);
+        loan.setStatus(LoanStatus.APPROVED);
+        loan.setMonthlyPayment(new BigDecimal(payment));
+        return loan;
+    }
+
+    private static ClientLiving living(Client client, String rent) {
+        ClientLiving living = new ClientLiving();
+        living.setClient(client);
+        living.setMonthlyRentCache(new BigDecimal(rent));
+        return living;
+    }
+}
@@ -0,0 +1,157 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.enums.LoanStatus;
+import com.alkicorp.bankingsim.repository.BankruptcyApplicationRepository;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import com.alkicorp.bankingsim.repository.ObligationDueProjection;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import com.alkicorp.bankingsim.service.ObligationCalendar.Type;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ObligationCalendarTest {
+
+    private static final SlotKey SLOT = new SlotKey(7L, 2);
+
+    private final LoanRepository loanRepository = mock(LoanRepository.class);
+    private final MortgageRepository mortgageRepository = mock(MortgageRepository.class);
+    private final ClientLivingRepository clientLivingRepository = mock(ClientLivingRepository.class);
+    private final ClientJobRepository clientJobRepository = mock(ClientJobRepository.class);
+    private final BankruptcyApplicationRepository bankruptcyApplicationRepository =
+            mock(BankruptcyApplicationRepository.class);
+    private final ObligationCalendar calendar = new ObligationCalendar(loanRepository, mortgageRepository,
+            clientLivingRepository, clientJobRepository, bankruptcyApplicationRepository);
+
+    @Test
+    void loadIfAbsent_listsOnlyScheduledObligationsDueByDay() {
+        Loan due = loan(1L, LoanStatus.APPROVED, 3);
+        Loan later = loan(2L, LoanStatus.APPROVED, 9);
+        Loan pending = loan(3L, LoanStatus.PENDING, null);
+        ClientLiving unscheduledRent = living(4L, "250.00", null);
+        ClientLiving noRent = living(5L, "0.00", 0);
+        ClientJob payday = job(6L, 2.5);
+
+        calendar.loadIfAbsent(SLOT, aggregate(List.of(due, later, pending), List.of(unscheduledRent, noRent),
+                List.of(payday)));
+
+        assertEquals(List.of(1L), calendar.due(SLOT, Type.LOAN_PAYMENT, 3));
+        assertEquals(List.of(1L, 2L), calendar.due(SLOT, Type.LOAN_PAYMENT, 9));
+        assertEquals(List.of(4L), calendar.due(SLOT, Type.RENT, 1));
+        assertEquals(List.of(), calendar.due(SLOT, Type.PAYDAY, 1));
+        assertEquals(List.of(6L), calendar.due(SLOT, Type.PAYDAY, 2));
+    }
+
+    @Test
+    void schedule_movesAndDropsObligations() {
+        calendar.loadIfAbsent(SLOT, aggregate(List.of(loan(1L, LoanStatus.APPROVED, 3)), List.of(), List.of()));
+
+        calendar.schedule(SLOT, Type.LOAN_PAYMENT, 1L, 6);
+        assertEquals(List.of(), calendar.due(SLOT, Type.LOAN_PAYMENT, 5));
+        assertEquals(List.of(1L), calendar.due(SLOT, Type.LOAN_PAYMENT, 6));
+
+        calendar.schedule(SLOT, Type.LOAN_PAYMENT, 1L, null);
+        assertEquals(List.of(), calendar.due(SLOT, Type.LOAN_PAYMENT, 100));
+    }
+
+    @Test
+    void onObligationChanged_ignoresSlotsThatAreNotIndexed() {
+        calendar.onObligationChanged(new ObligationChangedEvent(SLOT, Type.LOAN_PAYMENT, 1L, 3));
+        assertEquals(List.of(), calendar.due(SLOT, Type.LOAN_PAYMENT, 3));
+
+        // Indexing from the aggregate afterwards still sees every obligation of the slot.
+        calendar.loadIfAbsent(SLOT, aggregate(List.of(loan(1L, LoanStatus.APPROVED, 3),
+                loan(2L, LoanStatus.APPROVED, 4)), List.of(), List.of()));
+        assertEquals(List.of(1L, 2L), calendar.due(SLOT, Type.LOAN_PAYMENT, 4));
+    }
+
+    @Test
+    void rebuild_indexesStoredObligationsPerSlot() {
+        SlotKey other = new SlotKey(8L, 2);
+        List<ObligationDueProjection> loans = List.of(row(1L, SLOT, 3), row(2L, other, 3));
+        List<ObligationDueProjection> paydays = List.of(row(3L, SLOT, 4.5));
+        when(loanRepository.findScheduledPayments()).thenReturn(loans);
+        when(clientJobRepository.findScheduledPaydays()).thenReturn(paydays);
+
+        calendar.rebuild();
+
+        assertEquals(List.of(1L), calendar.due(SLOT, Type.LOAN_PAYMENT, 3));
+        assertEquals(List.of(2L), calendar.due(other, Type.LOAN_PAYMENT, 3));
+        assertEquals(List.of(3L), calendar.due(SLOT, Type.PAYDAY, 4));
+        assertEquals(List.of(), calendar.due(SLOT, Type.RENT, 100));
+    }
+
+    @Test
+    void forget_dropsTheSlot() {
+        calendar.loadIfAbsent(SLOT, aggregate(List.of(loan(1L, LoanStatus.APPROVED, 3)), List.of(), List.of()));
+
+        calendar.forget(SLOT);
+
+        assertEquals(List.of(), calendar.due(SLOT, Type.LOAN_PAYMENT, 3));
+    }
+
+    private static SlotAggregate aggregate(List<Loan> loans, List<ClientLiving> livings, List<ClientJob> jobs) {
+        User user = new User();
+        user.setId(SLOT.userId());
+        BankState state = new BankState();
+        state.setUser(user);
+        state.setSlotId(SLOT.slotId());
+        return new SlotAggregate(state, List.of(), jobs, livings, loans, List.of(), List.of(), List.of());
+    }
+
+    private static Loan loan(Long id, LoanStatus status, Integer nextPaymentDay) {
+        Loan loan = new Loan();
+        loan.setId(id);
+        loan.setClient(client());
+        loan.setStatus(status);
+        loan.setMonthlyPayment(nextPaymentDay == null ? null : new BigDecimal("100.00"));
+        loan.setNextPaymentDay(nextPaymentDay);
+        return loan;
+    }
+
+    private static ClientLiving living(Long id, String rent, Integer nextRentDay) {
+        ClientLiving living = new ClientLiving();
+        living.setId(id);
+        living.setClient(client());
+        living.setMonthlyRentCache(new BigDecimal(rent));
+        living.setNextRentDay(nextRentDay);
+        return living;
+    }
+
+    private static ClientJob job(Long id, double nextPayday) {
+        ClientJob job = new ClientJob();
+        job.setId(id);
+        job.setClient(client());
+        job.setPrimary(true);
+        job.setNextPayday(nextPayday);
+        return job;
+    }
+
+    private static Client client() {
+        Client client = new Client();
+        client.setId(1L);
+        return client;
+    }
+
+    private static ObligationDueProjection row(Long id, SlotKey slot, Number dueDay) {
+        ObligationDueProjection row = mock(ObligationDueProjection.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getUserId()).thenReturn(slot.userId());
+        when(row.getSlotId()).thenReturn(slot.slotId());
+        when(row.getDueDay()).thenReturn(dueDay);
+        return row;
+    }
+}
@@ -2,6 +2,10 @@ package com.alkicorp.bankingsim.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,18 +13,22 @@ import static org.mockito.Mockito.when;
 import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.ClientJob;
 import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.model.Money;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class PayrollServiceTest {
@@ -31,6 +39,8 @@ class PayrollServiceTest {
     private ClientRepository clientRepository;
     @Mock
     private TransactionRepository transactionRepository;
+    @Mock
+    private SlotDailyRollupService rollupService;
 
     @InjectMocks
     private PayrollService payrollService;
@@ -43,7 +53,7 @@ class PayrollServiceTest {
     void setUp() {
         client = new Client();
         client.setId(1L);
-        client.setCheckingBalance(new BigDecimal("1000.00"));
+        client.setCheckingBalance(Money.of(new BigDecimal("1000.00")));
 
         job = new Job();
         job.setTitle("Test Job");
@@ -63,16 +73,18 @@ class PayrollServiceTest {
         Long userId = 1L;
         when(clientJobRepository.findBySlotIdAndClientBankStateUserId(1, userId))
                 .thenReturn(List.of(clientJob));
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         payrollService.runPayroll(1, userId, 10.0);
 
         // Expected pay: 36500 / 12 = 3041.666... -> 3041.67
         // New balance: 1000 + 3041.67 = 4041.67
-        assertEquals(new BigDecimal("4041.67"), client.getCheckingBalance());
+        assertEquals(Money.of(new BigDecimal("4041.67")), client.getCheckingBalance());
         assertEquals(11.0, clientJob.getNextPayday());
 
         verify(clientRepository).save(any(Client.class));
         verify(transactionRepository).save(any(Transaction.class));
+        verify(rollupService).record(any());
         verify(clientJobRepository).save(any(ClientJob.class));
     }
 
@@ -84,11 +96,36 @@ class PayrollServiceTest {
 
         payrollService.runPayroll(1, userId, 9.0);
 
-        assertEquals(new BigDecimal("1000.00"), client.getCheckingBalance());
+        assertEquals(Money.of(new BigDecimal("1000.00")), client.getCheckingBalance());
         assertEquals(10.0, clientJob.getNextPayday());
 
         verify(clientRepository, never()).save(any(Client.class));
         verify(transactionRepository, never()).save(any(Transaction.class));
         verify(clientJobRepository, never()).save(any(ClientJob.class));
     }
+
+    @Test
+    void runPayroll_SetBased_InsertsCreditsThenAdvancesInThreeStatements() {
+        ReflectionTestUtils.setField(payrollService, "mode", "set-based");
+        when(transactionRepository.insertPayrollDeposits(eq(1), eq(1L), eq(12.0), eq(12), any(Instant.class)))
+                .thenReturn(3);
+
+        payrollService.runPayroll(1, 1L, 12.0);
+
+        InOrder order = inOrder(transactionRepository, clientRepository, clientJobRepository);
+        order.verify(transactionRepository).insertPayrollDeposits(eq(1), eq(1L), eq(12.0), eq(12), any(Instant.class));
+        order.verify(clientRepository).creditPayroll(1, 1L, 12.0, 12);
+        order.verify(clientJobRepository).advancePaydays(1, 1L, 12.0);
+        verify(clientJobRepository, never()).findBySlotIdAndClientBankStateUserId(anyInt(), any());
+    }
+
+    @Test
+    void runPayroll_SetBased_StopsWhenNothingIsDue() {
+        ReflectionTestUtils.setField(payrollService, "mode", "set-based");
+
+        payrollService.runPayroll(1, 1L, 9.0);
+
+        verify(clientRepository, never()).creditPayroll(anyInt(), any(), anyDouble(), anyInt());
+        verify(clientJobRepository, never()).advancePaydays(anyInt(), any(), anyDouble());
+    }
 }
@@ -0,0 +1,60 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, Integer> flight = new SingleFlight<>();
+
+    @Test
+    void execute_joinsCallsWhileWorkIsRunning() throws Exception {
+        CompletableFuture<Integer> work = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        CompletableFuture<Integer> first = flight.execute("slot", () -> {
+            started.incrementAndGet();
+            return work;
+        });
+        CompletableFuture<Integer> second = flight.execute("slot", () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture(-1);
+        });
+        work.complete(7);
+
+        assertSame(first, second);
+        assertEquals(7, second.get());
+        assertEquals(1, started.get());
+        assertEquals(1, flight.getHits());
+        assertEquals(1, flight.getMisses());
+        assertEquals(0, flight.getInFlight());
+    }
+
+    @Test
+    void execute_startsNewWorkOnceThePreviousCompleted() throws Exception {
+        flight.execute("slot", () -> CompletableFuture.completedFuture(1));
+
+        assertEquals(2, flight.execute("slot", () -> CompletableFuture.completedFuture(2)).get());
+        assertEquals(0, flight.getHits());
+        assertEquals(2, flight.getMisses());
+    }
+
+    @Test
+    void execute_sharesFailuresAndForgetsThem() {
+        CompletableFuture<Integer> work = new CompletableFuture<>();
+        CompletableFuture<Integer> first = flight.execute("slot", () -> work);
+        CompletableFuture<Integer> second = flight.execute("slot", CompletableFuture::new);
+        work.completeExceptionally(new IllegalStateException("boom"));
+
+        ExecutionException error = assertThrows(ExecutionException.class, second::get);
+        assertEquals("boom", error.getCause().getMessage());
+        assertSame(first, second);
+        assertEquals(0, flight.getInFlight());
+    }
+}
@@ -0,0 +1,91 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SlotDailyRollupServiceTest {
+
+    @Mock
+    private SlotDailyRollupRepository rollupRepository;
+
+    @InjectMocks
+    private SlotDailyRollupService rollupService;
+
+    @Captor
+    private ArgumentCaptor<Long[]> clientIds;
+    @Captor
+    private ArgumentCaptor<Integer[]> gameDays;
+    @Captor
+    private ArgumentCaptor<String[]> types;
+    @Captor
+    private ArgumentCaptor<BigDecimal[]> amounts;
+    @Captor
+    private ArgumentCaptor<Long[]> counts;
+
+    @Test
+    void record_groupsByClientDayAndTypeInLockOrder() {
+        rollupService.record(List.of(
+                tx(7L, 3, TransactionType.SPENDING, "12.50"),
+                tx(2L, 5, TransactionType.DEPOSIT, "100.00"),
+                tx(7L, 3, TransactionType.SPENDING, "7.25"),
+                tx(7L, 1, TransactionType.PAYROLL_DEPOSIT, "3000.00"),
+                tx(2L, 5, TransactionType.WITHDRAWAL, "40.00")));
+
+        verify(rollupRepository).add(clientIds.capture(), gameDays.capture(), types.capture(), amounts.capture(),
+                counts.capture());
+        assertArrayEquals(new Long[] {2L, 2L, 7L, 7L}, clientIds.getValue());
+        assertArrayEquals(new Integer[] {5, 5, 1, 3}, gameDays.getValue());
+        assertArrayEquals(new String[] {"DEPOSIT", "WITHDRAWAL", "PAYROLL_DEPOSIT", "SPENDING"}, types.getValue());
+        assertArrayEquals(new BigDecimal[] {new BigDecimal("100.00"), new BigDecimal("40.00"),
+                new BigDecimal("3000.00"), new BigDecimal("19.75")}, amounts.getValue());
+        assertArrayEquals(new Long[] {1L, 1L, 1L, 2L}, counts.getValue());
+    }
+
+    @Test
+    void record_skipsTheStatementWhenNothingWasSaved() {
+        rollupService.record(List.of());
+
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void rebuild_replacesTheSlotsRowsFromItsTransactions() {
+        rollupService.rebuild(1, 3L);
+
+        InOrder order = inOrder(rollupRepository);
+        order.verify(rollupRepository).deleteBySlotIdAndUserId(1, 3L);
+        order.verify(rollupRepository).insertFromTransactions(1, 3L);
+        order.verify(rollupRepository, never()).add(any(), any(), any(), any(), any());
+    }
+
+    private static Transaction tx(Long clientId, int gameDay, TransactionType type, String amount) {
+        Client client = new Client();
+        client.setId(clientId);
+        Transaction tx = new Transaction();
+        tx.setClient(client);
+        tx.setGameDay(gameDay);
+        tx.setType(type);
+        tx.setAmount(new BigDecimal(amount));
+        return tx;
+    }
+}
@@ -0,0 +1,128 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.service.SimulationService.FastForwardStep;
+import com.alkicorp.bankingsim.web.dto.FastForwardResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class SlotFastForwardServiceTest {
+
+    private static final long USER_ID = 5L;
+    private static final int SLOT_ID = 2;
+
+    @Mock
+    private SimulationService simulationService;
+    @Mock
+    private BankStateRepository bankStateRepository;
+    @Mock
+    private CurrentUserService currentUserService;
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private SlotFastForwardService service;
+
+    @BeforeEach
+    void setup() {
+        service = new SlotFastForwardService(simulationService, bankStateRepository, currentUserService,
+                submitted::add);
+        ReflectionTestUtils.setField(service, "chunkDays", 12);
+        ReflectionTestUtils.setField(service, "maxDays", 1200);
+        ReflectionTestUtils.setField(service, "sseTimeoutMs", 1000L);
+        User user = new User();
+        user.setId(USER_ID);
+        lenient().when(currentUserService.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    void start_runsTheDaysInChunksAndReportsTheSummary() {
+        when(bankStateRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(Optional.of(new BankState()));
+        when(simulationService.fastForward(USER_ID, SLOT_ID, 12))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(new FastForwardStep(12.5, 60))),
+                        CompletableFuture.completedFuture(Optional.of(new FastForwardStep(24.5, 60))));
+        when(simulationService.fastForward(USER_ID, SLOT_ID, 6))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(new FastForwardStep(30.5, 30))));
+
+        FastForwardResponse started = service.start(SLOT_ID, 30);
+        assertEquals(SlotFastForwardService.RUNNING, started.getStatus());
+        submitted.forEach(Runnable::run);
+
+        InOrder order = inOrder(simulationService);
+        order.verify(simulationService, times(2)).fastForward(USER_ID, SLOT_ID, 12);
+        order.verify(simulationService).fastForward(USER_ID, SLOT_ID, 6);
+        FastForwardResponse summary = service.status(SLOT_ID);
+        assertEquals(SlotFastForwardService.COMPLETED, summary.getStatus());
+        assertEquals(30, summary.getDaysCompleted());
+        assertEquals(150L, summary.getTransactionsWritten());
+        assertEquals(30.5, summary.getGameDay());
+    }
+
+    @Test
+    void start_rejectsASecondRunWhileOneIsInProgress() {
+        when(bankStateRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(Optional.of(new BankState()));
+        service.start(SLOT_ID, 24);
+
+        ResponseStatusException conflict = assertThrows(ResponseStatusException.class,
+                () -> service.start(SLOT_ID, 24));
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+    }
+
+    @Test
+    void start_validatesTheNumberOfDays() {
+        ResponseStatusException tooMany = assertThrows(ResponseStatusException.class,
+                () -> service.start(SLOT_ID, 1201));
+        assertEquals(HttpStatus.BAD_REQUEST, tooMany.getStatusCode());
+        assertThrows(ResponseStatusException.class, () -> service.start(SLOT_ID, 0));
+    }
+
+    @Test
+    void run_reportsFailureWhenTheSlotDisappears() {
+        when(bankStateRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(Optional.of(new BankState()));
+        when(simulationService.fastForward(USER_ID, SLOT_ID, 12))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        service.start(SLOT_ID, 12);
+        submitted.forEach(Runnable::run);
+
+        FastForwardResponse summary = service.status(SLOT_ID);
+        assertEquals(SlotFastForwardService.FAILED, summary.getStatus());
+        assertEquals(0, summary.getDaysCompleted());
+    }
+
+    @Test
+    void run_reportsFailureWhenAChunkThrows() {
+        when(bankStateRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(Optional.of(new BankState()));
+        when(simulationService.fastForward(USER_ID, SLOT_ID, 12))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(new FastForwardStep(12.5, 40))),
+                        CompletableFuture.failedFuture(new IllegalStateException("connection refused")));
+
+        service.start(SLOT_ID, 24);
+        submitted.forEach(Runnable::run);
+
+        FastForwardResponse summary = service.status(SLOT_ID);
+        assertEquals(SlotFastForwardService.FAILED, summary.getStatus());
+        assertEquals(12, summary.getDaysCompleted());
+        assertEquals(40L, summary.getTransactionsWritten());
+    }
+}
@@ -0,0 +1,341 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.BankruptcyApplication;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Product;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.BankruptcyStatus;
+import com.alkicorp.bankingsim.model.enums.LoanStatus;
+import com.alkicorp.bankingsim.model.enums.MortgageStatus;
+import com.alkicorp.bankingsim.model.enums.ProductStatus;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.BankruptcyApplicationRepository;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import com.alkicorp.bankingsim.repository.SpendingCategoryRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+class SlotSimulationEngineTest {
+
+    private static final int SLOT_ID = 3;
+    private static final long USER_ID = 11L;
+
+    @Test
+    void inMemoryEngine_matchesPerDayPath() {
+        Slot perDay = new Slot("per-day");
+        Slot inMemory = new Slot("in-memory");
+
+        perDay.advance();
+        inMemory.advance();
+
+        assertTrue(perDay.transactions.size() > 30, "fixture should produce a meaningful amount of activity");
+        assertEquals("PAID_OFF", perDay.mortgage.getLastPaymentStatus());
+        assertEquals(perDay.snapshot(), inMemory.snapshot());
+    }
+
+    @Test
+    void inMemoryEngine_loadsEachRepositoryOnce() {
+        Slot slot = new Slot("in-memory");
+
+        slot.advance();
+
+        verify(slot.loanRepository, times(1)).findBySlotIdAndUserId(SLOT_ID, USER_ID);
+        verify(slot.mortgageRepository, times(1)).findBySlotIdAndUserId(SLOT_ID, USER_ID);
+        verify(slot.clientLivingRepository, times(1)).findBySlotIdAndClientBankStateUserId(SLOT_ID, USER_ID);
+        verify(slot.clientJobRepository, times(1)).findBySlotIdAndClientBankStateUserId(SLOT_ID, USER_ID);
+        verify(slot.transactionRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void rolledBackAdvance_leavesPaidObligationsDue() {
+        Slot slot = new Slot("in-memory");
+        Instant lastUpdate = slot.state.getLastUpdateTimestamp();
+        doThrow(new IllegalStateException("write failed"))
+                .doAnswer(inv -> {
+                    slot.transactions.addAll(inv.getArgument(0));
+                    return inv.getArgument(0);
+                })
+                .when(slot.transactionRepository).saveAll(anyList());
+
+        assertThrows(IllegalStateException.class, slot::advance);
+
+        // The rollback leaves the rows as they were before the advance.
+        slot.state.setGameDay(0.2);
+        slot.state.setLastUpdateTimestamp(lastUpdate);
+        slot.alice.setCheckingBalance(Money.of(new BigDecimal("10000.00")));
+        slot.loan.setNextPaymentDay(1);
+        slot.loan.setMissedPayments(0);
+        slot.loan.setLastPaymentStatus(null);
+        slot.advance();
+
+        assertTrue(slot.transactions.stream().anyMatch(tx -> tx.getType() == TransactionType.PERSONAL_LOAN_PAYMENT
+                && tx.getGameDay() == 1), "the loan payment undone by the rollback should be collected again");
+    }
+
+    /**
+     * One user's slot, 14 whole game days behind, wired to mocked repositories that behave like
+     * a persistence context: every query hands back the same entity instances.
+     */
+    private static final class Slot {
+
+        final ClientRepository clientRepository = mock(ClientRepository.class);
+        final ClientJobRepository clientJobRepository = mock(ClientJobRepository.class);
+        final ClientLivingRepository clientLivingRepository = mock(ClientLivingRepository.class);
+        final LoanRepository loanRepository = mock(LoanRepository.class);
+        final MortgageRepository mortgageRepository = mock(MortgageRepository.class);
+        final BankruptcyApplicationRepository bankruptcyApplicationRepository =
+                mock(BankruptcyApplicationRepository.class);
+        final SpendingCategoryRepository spendingCategoryRepository = mock(SpendingCategoryRepository.class);
+        final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        final SlotDailyRollupService rollupService = mock(SlotDailyRollupService.class);
+        final InvestmentEventRepository investmentEventRepository = mock(InvestmentEventRepository.class);
+        final BankStateRepository bankStateRepository = mock(BankStateRepository.class);
+
+        final List<Transaction> transactions = new ArrayList<>();
+        final List<InvestmentEvent> events = new ArrayList<>();
+
+        final User user = new User();
+        final BankState state = new BankState();
+        final Client alice = client(1L, "10000.00");
+        final Client bob = client(2L, "100.00");
+        final ClientJob job = new ClientJob();
+        final ClientLiving aliceLiving = living(71L, alice, "300.00");
+        final ClientLiving bobLiving = living(72L, bob, "300.00");
+        final Loan loan = new Loan();
+        final Mortgage mortgage = new Mortgage();
+        final BankruptcyApplication bankruptcy = new BankruptcyApplication();
+
+        private final SimulationService simulationService;
+
+        Slot(String engine) {
+            user.setId(USER_ID);
+            state.setSlotId(SLOT_ID);
+            state.setUser(user);
+            state.setLiquidCash(new BigDecimal("5000.00"));
+            state.setInvestedSp500(new BigDecimal("1000.00"));
+            state.setGameDay(0.2);
+            state.setNextDividendDay(11);
+            state.setNextGrowthDay(11);
+            state.setLastUpdateTimestamp(Instant.now().minusMillis(14 * SimulationConstants.REAL_MS_PER_GAME_DAY));
+
+            Job salary = new Job();
+            salary.setTitle("Teller");
+            salary.setAnnualSalary(new BigDecimal("48000.00"));
+            job.setId(51L);
+            job.setClient(alice);
+            job.setJob(salary);
+            job.setPrimary(true);
+            job.setNextPayday(1.5);
+
+            loan.setId(21L);
+            loan.setClient(alice);
+            loan.setStatus(LoanStatus.APPROVED);
+            loan.setMonthlyPayment(new BigDecimal("200.00"));
+            loan.setNextPaymentDay(1);
+            loan.setMissedPayments(0);
+
+            Product house = new Product();
+            house.setId(31L);
+            house.setStatus(ProductStatus.OWNED);
+            house.setOwnerClient(alice);
+            mortgage.setId(41L);
+            mortgage.setClient(alice);
+            mortgage.setProduct(house);
+            mortgage.setStatus(MortgageStatus.ACCEPTED);
+            mortgage.setMonthlyPayment(new BigDecimal("500.00"));
+            mortgage.setPropertyPrice(new BigDecimal("3200.00"));
+            mortgage.setTotalPaid(new BigDecimal("1800.00"));
+            mortgage.setNextPaymentDay(2);
+            mortgage.setMissedPayments(0);
+            mortgage.setPaymentsMade(0);
+
+            bankruptcy.setId(61L);
+            bankruptcy.setClient(bob);
+            bankruptcy.setStatus(BankruptcyStatus.APPROVED);
+            bankruptcy.setDischargeAt(3.0);
+            bob.setBankrupt(true);
+
+            stubRepositories();
+
+            PayrollService payrollService = new PayrollService(clientJobRepository, clientRepository,
+                    transactionRepository, rollupService);
+            RentService rentService = new RentService(clientLivingRepository, transactionRepository, rollupService);
+            MandatorySpendService mandatorySpendService = new MandatorySpendService(clientRepository,
+                    clientLivingRepository, loanRepository, mortgageRepository);
+            SpendingCategoryCatalog spendingCategoryCatalog = new SpendingCategoryCatalog(spendingCategoryRepository,
+                    mock(DataSource.class));
+            SpendingService spendingService = new SpendingService(spendingCategoryCatalog, clientRepository,
+                    clientJobRepository, transactionRepository, rollupService, mandatorySpendService);
+            BankruptcyService bankruptcyService = new BankruptcyService(bankruptcyApplicationRepository,
+                    clientRepository, null, null, mock(ApplicationEventPublisher.class));
+            ObligationCalendar obligationCalendar = new ObligationCalendar(loanRepository, mortgageRepository,
+                    clientLivingRepository, clientJobRepository, bankruptcyApplicationRepository);
+            SlotSimulationEngine slotSimulationEngine = new SlotSimulationEngine(clientRepository,
+                    clientJobRepository, clientLivingRepository, loanRepository, mortgageRepository,
+                    bankruptcyApplicationRepository, transactionRepository, rollupService, investmentEventRepository,
+                    payrollService, rentService, spendingService, mandatorySpendService, spendingCategoryCatalog,
+                    bankruptcyService, obligationCalendar);
+            simulationService = new SimulationService(bankStateRepository, clientRepository, transactionRepository,
+                    rollupService, investmentEventRepository, loanRepository, mortgageRepository, payrollService, rentService,
+                    spendingService, bankruptcyService, slotSimulationEngine, obligationCalendar,
+                    new ActiveSlotRegistry(),
+                    new SlotWriteExecutor(Runnable::run), new ResourcelessTransactionManager());
+            ReflectionTestUtils.setField(simulationService, "engine", engine);
+            ReflectionTestUtils.setField(simulationService, "awaitTimeoutMs", 1_000L);
+        }
+
+        void advance() {
+            simulationService.getAndAdvanceState(user, SLOT_ID);
+        }
+
+        List<String> snapshot() {
+            List<String> lines = new ArrayList<>();
+            lines.add("state " + state.getLiquidCash() + " " + state.getInvestedSp500() + " "
+                    + state.getNextGrowthDay() + " " + state.getNextDividendDay() + " "
+                    + (int) Math.floor(state.getGameDay()));
+            for (Client client : List.of(alice, bob)) {
+                lines.add("client " + client.getId() + " " + client.getCheckingBalance() + " "
+                        + client.getMonthlyIncomeCache() + " " + client.getMonthlyMandatoryCache() + " "
+                        + client.getBankrupt());
+            }
+            lines.add("job " + job.getNextPayday());
+            lines.add("living " + aliceLiving.getNextRentDay() + " " + bobLiving.getNextRentDay());
+            lines.add("loan " + loan.getNextPaymentDay() + " " + loan.getLastPaymentStatus() + " "
+                    + loan.getMissedPayments());
+            lines.add("mortgage " + mortgage.getNextPaymentDay() + " " + mortgage.getLastPaymentStatus() + " "
+                    + mortgage.getTotalPaid() + " " + mortgage.getPaymentsMade() + " " + mortgage.getMissedPayments());
+            lines.add("bankruptcy " + bankruptcy.getStatus());
+            transactions.forEach(tx -> lines.add("tx " + tx.getClient().getId() + " " + tx.getType() + " "
+                    + tx.getAmount() + " " + tx.getGameDay()));
+            events.forEach(event -> lines.add("event " + event.getType() + " " + event.getAmount() + " "
+                    + event.getGameDay()));
+            return lines;
+        }
+
+        private void stubRepositories() {
+            List<Client> clients = List.of(alice, bob);
+            when(bankStateRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(Optional.of(state));
+            when(bankStateRepository.save(any(BankState.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(clientRepository.findBySlotIdAndBankStateUserId(SLOT_ID, USER_ID)).thenReturn(clients);
+            when(clientRepository.findById(anyLong())).thenAnswer(inv -> clients.stream()
+                    .filter(c -> c.getId().equals(inv.getArgument(0)))
+                    .findFirst());
+            when(clientJobRepository.findBySlotIdAndClientBankStateUserId(SLOT_ID, USER_ID)).thenReturn(List.of(job));
+            when(clientJobRepository.findByClientId(alice.getId())).thenReturn(List.of(job));
+            when(clientLivingRepository.findBySlotIdAndClientBankStateUserId(SLOT_ID, USER_ID))
+                    .thenReturn(List.of(aliceLiving, bobLiving));
+            when(clientLivingRepository.findByClientIdAndSlotId(alice.getId(), SLOT_ID))
+                    .thenReturn(Optional.of(aliceLiving));
+            when(clientLivingRepository.findByClientIdAndSlotId(bob.getId(), SLOT_ID))
+                    .thenReturn(Optional.of(bobLiving));
+            when(loanRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(List.of(loan));
+            when(loanRepository.findByClientId(alice.getId())).thenReturn(List.of(loan));
+            when(mortgageRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID))
+                    .thenAnswer(inv -> new ArrayList<>(List.of(mortgage)));
+            when(mortgageRepository.findByClientId(alice.getId())).thenReturn(List.of(mortgage));
+            when(bankruptcyApplicationRepository.findBySlotId(anyInt())).thenReturn(List.of(bankruptcy));
+            when(spendingCategoryRepository.findAllByOrderByIdAsc()).thenReturn(List.of());
+            when(transactionRepository.save(any(Transaction.class))).thenAnswer(inv -> {
+                transactions.add(inv.getArgument(0));
+                return inv.getArgument(0);
+            });
+            when(transactionRepository.saveAll(anyList())).thenAnswer(inv -> {
+                List<Transaction> batch = inv.getArgument(0);
+                transactions.addAll(batch);
+                return batch;
+            });
+            when(investmentEventRepository.save(any(InvestmentEvent.class))).thenAnswer(inv -> {
+                events.add(inv.getArgument(0));
+                return inv.getArgument(0);
+            });
+            when(investmentEventRepository.saveAll(anyList())).thenAnswer(inv -> {
+                List<InvestmentEvent> batch = inv.getArgument(0);
+                events.addAll(batch);
+                return batch;
+            });
+        }
+
+        private Client client(Long id, String balance) {
+            Client client = new Client();
+            client.setId(id);
+            client.setSlotId(SLOT_ID);
+            client.setBankState(state);
+            client.setCheckingBalance(Money.of(new BigDecimal(balance)));
+            client.setDailyWithdrawn(BigDecimal.ZERO);
+            client.setBankrupt(false);
+            return client;
+        }
+
+        private ClientLiving living(Long id, Client client, String rent) {
+            ClientLiving living = new ClientLiving();
+            living.setId(id);
+            living.setClient(client);
+            living.setSlotId(SLOT_ID);
+            living.setMonthlyRentCache(new BigDecimal(rent));
+            living.setNextRentDay(1);
+            return living;
+        }
+    }
+
+    /**
+     * Runs transaction synchronizations like a real manager, with nothing behind the transaction.
+     */
+    private static final class ResourcelessTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
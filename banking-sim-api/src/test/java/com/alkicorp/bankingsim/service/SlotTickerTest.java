@@ -0,0 +1,88 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotActivity;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SlotTickerTest {
+
+    private static final long USER_ID = 5L;
+    private static final int SLOT_ID = 2;
+
+    @Mock
+    private SimulationService simulationService;
+    @Mock
+    private ThreadPoolTaskExecutor executor;
+
+    private final ActiveSlotRegistry registry = new ActiveSlotRegistry();
+    private SlotTicker ticker;
+
+    @BeforeEach
+    void setup() {
+        ticker = new SlotTicker(simulationService, registry, executor);
+        ReflectionTestUtils.setField(ticker, "enabled", true);
+        ReflectionTestUtils.setField(ticker, "idleTimeoutMs", 60_000L);
+        registry.touch(USER_ID, SLOT_ID, Instant.now());
+    }
+
+    @Test
+    void tick_advancesActiveSlotAndRecordsLag() {
+        when(simulationService.advanceSlot(USER_ID, SLOT_ID)).thenReturn(Optional.of(Duration.ofSeconds(90)));
+
+        ticker.tick();
+        runSubmitted(1);
+
+        SlotActivity activity = registry.snapshot().get(0);
+        assertEquals(90_000L, activity.getLagMillis());
+        assertEquals(1L, activity.getAdvances());
+        assertFalse(activity.getInFlight().get());
+    }
+
+    @Test
+    void tick_skipsSlotWhosePreviousAdvanceIsStillRunning() {
+        doNothing().when(executor).execute(any());
+
+        ticker.tick();
+        ticker.tick();
+
+        verify(executor, times(1)).execute(any());
+    }
+
+    @Test
+    void tick_dropsSlotsWithoutBankStateAndIdleSlots() {
+        when(simulationService.advanceSlot(USER_ID, SLOT_ID)).thenReturn(Optional.empty());
+        registry.touch(USER_ID, SLOT_ID + 1, Instant.now().minus(Duration.ofHours(1)));
+
+        ticker.tick();
+        runSubmitted(1);
+
+        assertEquals(List.of(), registry.snapshot());
+        verify(simulationService, never()).advanceSlot(USER_ID, SLOT_ID + 1);
+    }
+
+    private void runSubmitted(int count) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(count)).execute(task.capture());
+        task.getAllValues().forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,106 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SlotWriteExecutorTest {
+
+    private static final SlotKey SLOT = new SlotKey(1L, 1);
+    private static final SlotKey OTHER_SLOT = new SlotKey(2L, 1);
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+    private final SlotWriteExecutor executor = new SlotWriteExecutor(pool);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void submit_runsTasksForOneSlotInOrderOneAtATime() throws Exception {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[50];
+        for (int i = 0; i < futures.length; i++) {
+            int index = i;
+            futures[i] = executor.submit(SLOT, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                order.add(index);
+                running.decrementAndGet();
+                return index;
+            });
+        }
+        CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, maxRunning.get());
+        for (int i = 0; i < futures.length; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+
+    @Test
+    void submitAdvance_sharesQueuedAdvanceButNotRunningOne() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger advances = new AtomicInteger();
+        CompletableFuture<Integer> running = executor.submitAdvance(SLOT, () -> {
+            started.countDown();
+            await(release);
+            return advances.incrementAndGet();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Integer> queued = executor.submitAdvance(SLOT, advances::incrementAndGet);
+        CompletableFuture<Integer> shared = executor.submitAdvance(SLOT, advances::incrementAndGet);
+        release.countDown();
+
+        assertSame(queued, shared);
+        assertNotSame(running, queued);
+        assertEquals(1, running.get(5, TimeUnit.SECONDS));
+        assertEquals(2, shared.get(5, TimeUnit.SECONDS));
+        assertEquals(2, advances.get());
+    }
+
+    @Test
+    void submit_doesNotBlockOtherSlots() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocked = executor.submit(SLOT, () -> await(release));
+
+        assertEquals("other", executor.submit(OTHER_SLOT, () -> "other").get(5, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertTrue(blocked.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void isWriting_onlyInsideSlotTasks() throws Exception {
+        assertFalse(executor.isWriting());
+        assertTrue(executor.submit(SLOT, executor::isWriting).get(5, TimeUnit.SECONDS));
+        assertFalse(pool.submit(executor::isWriting).get(5, TimeUnit.SECONDS));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
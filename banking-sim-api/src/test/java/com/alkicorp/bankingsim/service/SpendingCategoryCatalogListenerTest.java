@@ -0,0 +1,47 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SpendingCategoryCatalogListenerTest {
+
+    private final SpendingCategoryCatalog catalog = mock(SpendingCategoryCatalog.class);
+    private final DataSource dataSource = mock(DataSource.class);
+    private final SpendingCategoryCatalogListener listener = new SpendingCategoryCatalogListener(catalog, dataSource);
+
+    @AfterEach
+    void stop() {
+        listener.stop();
+    }
+
+    @Test
+    void listen_keepsRunningWhenAReloadFails() throws Exception {
+        Connection connection = mock(Connection.class);
+        PGConnection pg = mock(PGConnection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pg);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(catalog.reload()).thenThrow(new DataAccessResourceFailureException("catalog unavailable"))
+                .thenReturn(List.of());
+        ReflectionTestUtils.setField(listener, "enabled", true);
+        ReflectionTestUtils.setField(listener, "pollMs", 10);
+
+        listener.start();
+
+        verify(catalog, timeout(5000).times(2)).reload();
+        verify(dataSource, timeout(5000).times(2)).getConnection();
+    }
+}
@@ -0,0 +1,64 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.model.SpendingCategory;
+import com.alkicorp.bankingsim.repository.SpendingCategoryRepository;
+import com.alkicorp.bankingsim.service.SpendingCategoryCatalog.Category;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+class SpendingCategoryCatalogTest {
+
+    private final SpendingCategoryRepository repository = mock(SpendingCategoryRepository.class);
+    private final DataSource dataSource = mock(DataSource.class);
+    private final SpendingCategoryCatalog catalog = new SpendingCategoryCatalog(repository, dataSource);
+
+    @Test
+    void activeCategories_loadsActiveCategoriesOnce() {
+        when(repository.findAllByOrderByIdAsc()).thenReturn(List.of(
+                category(1L, "Groceries", true, null),
+                category(2L, "Travel", false, "0.1000")));
+
+        List<Category> first = catalog.activeCategories();
+        List<Category> second = catalog.activeCategories();
+
+        assertSame(first, second);
+        assertEquals(List.of(new Category(1L, "Groceries", 0.05, 0.15, 0d)), first);
+        verify(repository, times(1)).findAllByOrderByIdAsc();
+    }
+
+    @Test
+    void refresh_swapsInTheCurrentCategories() throws Exception {
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        when(repository.findAllByOrderByIdAsc())
+                .thenReturn(List.of(category(1L, "Groceries", true, null)))
+                .thenReturn(List.of(category(1L, "Groceries", true, "0.2000"), category(3L, "Dining", true, null)));
+        catalog.activeCategories();
+
+        catalog.refresh();
+
+        List<Category> refreshed = catalog.activeCategories();
+        assertEquals(2, refreshed.size());
+        assertEquals(0.2, refreshed.get(0).variability());
+    }
+
+    private static SpendingCategory category(Long id, String name, boolean active, String variability) {
+        SpendingCategory category = new SpendingCategory();
+        category.setId(id);
+        category.setName(name);
+        category.setMinPctIncome(new BigDecimal("0.0500"));
+        category.setMaxPctIncome(new BigDecimal("0.1500"));
+        category.setVariability(variability == null ? null : new BigDecimal(variability));
+        category.setDefaultActive(active);
+        return category;
+    }
+}
@@ -0,0 +1,98 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.service.SpendingCategoryCatalog.Category;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SpendingDrawTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final List<Category> CATEGORIES = List.of(
+            new Category(1L, "Groceries", 0.10, 0.20, 0.1),
+            new Category(2L, "Leisure", 0.05, 0.15, 0d));
+
+    @Test
+    void draw_isReproducibleForTheSameSeedClientAndDay() {
+        List<BigDecimal> first = amounts(SpendingDraw.draw(client(42L, "5000.00"), 3, money("3000.00"),
+                money("1000.00"), CATEGORIES, NOW));
+        List<BigDecimal> again = amounts(SpendingDraw.draw(client(42L, "5000.00"), 3, money("3000.00"),
+                money("1000.00"), CATEGORIES, NOW));
+        List<BigDecimal> nextDay = amounts(SpendingDraw.draw(client(42L, "5000.00"), 4, money("3000.00"),
+                money("1000.00"), CATEGORIES, NOW));
+
+        assertEquals(first, again);
+        assertNotEquals(first, nextDay);
+    }
+
+    @Test
+    void draw_debitsExactlyWhatItSpendsInCents() {
+        Client client = client(42L, "5000.00");
+
+        List<Transaction> spent = SpendingDraw.draw(client, 3, money("3000.00"), money("1000.00"),
+                CATEGORIES, NOW);
+
+        BigDecimal total = spent.stream().map(Transaction::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertTrue(spent.size() <= CATEGORIES.size() * SimulationConstants.SPENDING_EVENTS_PER_MONTH);
+        assertTrue(total.compareTo(new BigDecimal("2000.00")) <= 0);
+        assertEquals(new BigDecimal("5000.00"), client.getCheckingBalance().toBigDecimal().add(total));
+        spent.forEach(tx -> {
+            assertEquals(2, tx.getAmount().scale());
+            assertTrue(tx.getAmount().signum() > 0);
+            assertEquals(TransactionType.SPENDING, tx.getType());
+            assertEquals(3, tx.getGameDay());
+        });
+    }
+
+    @Test
+    void draw_neverSpendsBeyondTheBalance() {
+        Client client = client(42L, "12.34");
+
+        List<Transaction> spent = SpendingDraw.draw(client, 3, money("30000.00"), Money.ZERO,
+                CATEGORIES, NOW);
+
+        BigDecimal total = spent.stream().map(Transaction::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(new BigDecimal("12.34"), total);
+        assertEquals(Money.ZERO, client.getCheckingBalance());
+    }
+
+    @Test
+    void draw_spendsNothingWhenMandatoryCoversIncome() {
+        Client client = client(42L, "5000.00");
+
+        List<Transaction> spent = SpendingDraw.draw(client, 3, money("1000.00"), money("1200.00"),
+                CATEGORIES, NOW);
+
+        assertTrue(spent.isEmpty());
+        assertEquals(money("5000.00"), client.getCheckingBalance());
+    }
+
+    private static List<BigDecimal> amounts(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getAmount).toList();
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount));
+    }
+
+    private static Client client(Long id, String balance) {
+        BankState state = new BankState();
+        state.setRngSeed(0x5eedL);
+        Client client = new Client();
+        client.setId(id);
+        client.setSlotId(1);
+        client.setBankState(state);
+        client.setCheckingBalance(money(balance));
+        return client;
+    }
+}
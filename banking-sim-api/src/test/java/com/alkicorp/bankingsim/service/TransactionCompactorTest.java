@@ -0,0 +1,91 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository.CompactionProjection;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry.SlotKey;
+import com.alkicorp.bankingsim.service.TransactionCompactor.Compaction;
+import jakarta.validation.ValidationException;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TransactionCompactorTest {
+
+    private static final SlotKey SLOT = new SlotKey(5L, 1);
+
+    private final BankStateRepository bankStateRepository = mock(BankStateRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final TransactionCompactor compactor = new TransactionCompactor(bankStateRepository, transactionRepository,
+            new SlotWriteExecutor(Runnable::run), mock(PlatformTransactionManager.class));
+
+    @Test
+    void compact_summarizesWholeGameYearsOutsideRetentionSinceTheLastRun() {
+        ReflectionTestUtils.setField(compactor, "retentionYears", 2);
+        BankState state = state(62.7, 12);
+        when(bankStateRepository.findBySlotIdAndUserId(SLOT.slotId(), SLOT.userId())).thenReturn(Optional.of(state));
+        when(transactionRepository.compact(eq(9L), eq(12), eq(36), any())).thenReturn(compacted(480, 32));
+
+        Compaction compaction = compactor.compact(SLOT);
+
+        assertEquals(new Compaction(480, 32), compaction);
+        assertEquals(36, state.getTransactionsCompactedBefore());
+    }
+
+    @Test
+    void compact_leavesTheSlotAloneUntilAnotherYearFallsOutOfRetention() {
+        ReflectionTestUtils.setField(compactor, "retentionYears", 2);
+        BankState state = state(47.9, 36);
+        when(bankStateRepository.findBySlotIdAndUserId(SLOT.slotId(), SLOT.userId())).thenReturn(Optional.of(state));
+
+        assertEquals(Compaction.NONE, compactor.compact(SLOT));
+
+        verify(transactionRepository, never()).compact(anyLong(), anyInt(), anyInt(), any());
+        assertEquals(36, state.getTransactionsCompactedBefore());
+    }
+
+    @Test
+    void compactAll_requiresARetentionPeriod() {
+        ReflectionTestUtils.setField(compactor, "retentionYears", 0);
+
+        assertThrows(ValidationException.class, compactor::compactAll);
+
+        verify(bankStateRepository, never()).findAll();
+    }
+
+    private static BankState state(double gameDay, int compactedBefore) {
+        BankState state = new BankState();
+        state.setId(9L);
+        state.setSlotId(SLOT.slotId());
+        state.setGameDay(gameDay);
+        state.setTransactionsCompactedBefore(compactedBefore);
+        return state;
+    }
+
+    private static CompactionProjection compacted(long archivedRows, long summaryRows) {
+        return new CompactionProjection() {
+            @Override
+            public long getArchivedRows() {
+                return archivedRows;
+            }
+
+            @Override
+            public long getSummaryRows() {
+                return summaryRows;
+            }
+        };
+    }
+}
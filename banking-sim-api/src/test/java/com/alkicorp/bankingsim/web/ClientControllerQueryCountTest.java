@@ -0,0 +1,123 @@
+package com.alkicorp.bankingsim.web;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import com.alkicorp.bankingsim.service.JobService;
+import com.alkicorp.bankingsim.web.dto.ClientResponse;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "app.simulation.ticker.enabled=false")
+@ActiveProfiles("test")
+class ClientControllerQueryCountTest {
+
+    private static final int TEST_SLOT_ID = 1002;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ClientController clientController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Long jobId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByUsernameIgnoreCase("query-count")
+            .orElseGet(() -> {
+                User created = new User();
+                created.setUsername("query-count");
+                created.setEmail("query-count@example.com");
+                created.setPasswordHash("test-password-hash");
+                return userRepository.save(created);
+            });
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user.getUsername(), null, List.of()));
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        jobId = insertJob("Welder", "Forge & Co");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        // Slot resets keep client_jobs, so drop them here for the next run's reset.
+        jdbcTemplate.update("delete from client_jobs where slot_id = ? and job_id = ?", TEST_SLOT_ID, jobId);
+        jdbcTemplate.update("delete from jobs where id = ?", jobId);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void listClientsRunsTheSameStatementsHoweverManyClientsHaveJobs() {
+        addEmployedClients(2);
+        long fewClients = countStatements(2);
+
+        addEmployedClients(8);
+        long manyClients = countStatements(10);
+
+        Assertions.assertEquals(fewClients, manyClients);
+    }
+
+    private void addEmployedClients(int count) {
+        for (int i = 0; i < count; i++) {
+            Client client = clientService.createClient(TEST_SLOT_ID, "Client " + i);
+            jobService.assignJob(TEST_SLOT_ID, client.getId(), jobId, true);
+        }
+    }
+
+    private long countStatements(int expectedClients) {
+        statistics.clear();
+        List<ClientResponse> clients = clientController.listClients(TEST_SLOT_ID);
+        long statements = statistics.getPrepareStatementCount();
+
+        Assertions.assertEquals(expectedClients, clients.size());
+        clients.forEach(client -> {
+            Assertions.assertEquals("Welder", client.getPrimaryJobTitle());
+            Assertions.assertEquals("Forge & Co", client.getPrimaryJobEmployer());
+        });
+        return statements;
+    }
+
+    private Long insertJob(String title, String employer) {
+        return jdbcTemplate.queryForObject("""
+            insert into jobs (title, employer, annual_salary, pay_cycle_days, created_at)
+            values (?, ?, 48000.00, 1, ?)
+            returning id
+            """, Long.class, title, employer, Timestamp.from(Instant.now()));
+    }
+}
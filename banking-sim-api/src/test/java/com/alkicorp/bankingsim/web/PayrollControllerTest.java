@@ -1,5 +1,7 @@
 package com.alkicorp.bankingsim.web;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,6 +11,7 @@ import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.service.PayrollService;
 import com.alkicorp.bankingsim.service.SimulationService;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -40,6 +43,8 @@ class PayrollControllerTest {
 
         when(currentUserService.getCurrentUser()).thenReturn(user);
         when(user.getId()).thenReturn(7L);
+        when(simulationService.writeSlot(eq(user), eq(1), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
         when(simulationService.getAndAdvanceState(user, 1)).thenReturn(Optional.of(state));
 
         controller.run(1);
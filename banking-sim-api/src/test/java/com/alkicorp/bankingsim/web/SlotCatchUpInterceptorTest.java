@@ -0,0 +1,68 @@
+package com.alkicorp.bankingsim.web;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.service.SimulationService;
+import jakarta.servlet.DispatcherType;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@ExtendWith(MockitoExtension.class)
+class SlotCatchUpInterceptorTest {
+
+    @Mock
+    private SimulationService simulationService;
+
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @InjectMocks
+    private SlotCatchUpInterceptor interceptor;
+
+    @Test
+    void preHandle_catchesUpThePathSlot() {
+        User user = new User();
+        when(currentUserService.getCurrentUser()).thenReturn(user);
+
+        assertTrue(interceptor.preHandle(request(Map.of("slotId", "2", "clientId", "9")),
+            new MockHttpServletResponse(), new Object()));
+
+        verify(simulationService).catchUp(user, 2);
+    }
+
+    @Test
+    void preHandle_skipsRequestsWithoutANumericSlot() {
+        assertTrue(interceptor.preHandle(request(Map.of("clientId", "9")), new MockHttpServletResponse(), new Object()));
+        assertTrue(interceptor.preHandle(request(Map.of("slotId", "abc")), new MockHttpServletResponse(), new Object()));
+
+        verifyNoInteractions(simulationService, currentUserService);
+    }
+
+    @Test
+    void preHandle_skipsAsyncDispatches() {
+        MockHttpServletRequest request = request(Map.of("slotId", "2"));
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), new Object()));
+
+        verifyNoInteractions(simulationService, currentUserService);
+    }
+
+    private static MockHttpServletRequest request(Map<String, String> variables) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, variables);
+        return request;
+    }
+}
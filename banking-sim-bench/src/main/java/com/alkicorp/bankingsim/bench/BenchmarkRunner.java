@@ -0,0 +1,40 @@
+package com.alkicorp.bankingsim.bench;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Takes the usual JMH command line and, unless told
+ * otherwise, writes JSON results to {@code target/jmh-result.json} next to the jar so runs on
+ * different commits can be diffed.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList()) {
+            Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            Path target = Path.of(BenchmarkRunner.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    .getParent();
+            Files.createDirectories(target);
+            options.result(target.resolve("jmh-result.json").toString());
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,119 @@
+package com.alkicorp.bankingsim.bench;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Stand-in for a Spring Data repository that keeps its rows in a map. The CRUD methods the
+ * services call are handled here; derived queries are registered with {@link #on}. Any other
+ * method throws, so a benchmark cannot silently measure a no-op.
+ *
+ * <p>A {@link #sink} keeps no rows and only counts saves, for append-only tables such as
+ * transactions that would otherwise grow for the whole run.
+ */
+final class InMemoryRepository<T> implements InvocationHandler {
+
+    private final Map<Long, T> rows = new LinkedHashMap<>();
+    private final Map<String, Function<Object[], Object>> queries = new LinkedHashMap<>();
+    private final Function<T, Long> id;
+    private final BiConsumer<T, Long> assignId;
+    private long nextId = 1;
+    private long saves;
+
+    private InMemoryRepository(Function<T, Long> id, BiConsumer<T, Long> assignId) {
+        this.id = id;
+        this.assignId = assignId;
+    }
+
+    static <T> InMemoryRepository<T> table(Function<T, Long> id, BiConsumer<T, Long> assignId) {
+        return new InMemoryRepository<>(id, assignId);
+    }
+
+    static <T> InMemoryRepository<T> sink() {
+        return new InMemoryRepository<>(null, null);
+    }
+
+    InMemoryRepository<T> on(String method, Function<Object[], Object> query) {
+        queries.put(method, query);
+        return this;
+    }
+
+    T save(T row) {
+        saves++;
+        if (id == null) {
+            return row;
+        }
+        Long key = id.apply(row);
+        if (key == null) {
+            key = nextId++;
+            assignId.accept(row, key);
+        } else {
+            nextId = Math.max(nextId, key + 1);
+        }
+        rows.put(key, row);
+        return row;
+    }
+
+    Collection<T> rows() {
+        return rows.values();
+    }
+
+    long saves() {
+        return saves;
+    }
+
+    <R> R proxy(Class<R> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, this));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        Function<Object[], Object> query = queries.get(name);
+        if (query != null) {
+            return query.apply(args);
+        }
+        switch (name) {
+            case "save", "saveAndFlush":
+                return save((T) args[0]);
+            case "saveAll", "saveAllAndFlush": {
+                List<T> saved = new ArrayList<>();
+                for (Object row : (Iterable<?>) args[0]) {
+                    saved.add(save((T) row));
+                }
+                return saved;
+            }
+            case "findById":
+                return Optional.ofNullable(rows.get(args[0]));
+            case "findAll":
+                if (args == null) {
+                    return new ArrayList<>(rows.values());
+                }
+                break;
+            case "count":
+                return (long) rows.size();
+            case "flush":
+                return null;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "InMemory" + proxy.getClass().getInterfaces()[0].getSimpleName();
+            default:
+                break;
+        }
+        throw new UnsupportedOperationException(
+                method.getDeclaringClass().getSimpleName() + "." + name + " is not faked");
+    }
+}
@@ -0,0 +1,406 @@
+package com.alkicorp.bankingsim.bench;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.BankruptcyApplication;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Product;
+import com.alkicorp.bankingsim.model.SlotDailyRollup;
+import com.alkicorp.bankingsim.model.SpendingCategory;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.LivingType;
+import com.alkicorp.bankingsim.model.enums.LoanStatus;
+import com.alkicorp.bankingsim.model.enums.MortgageStatus;
+import com.alkicorp.bankingsim.model.enums.ProductStatus;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.BankruptcyApplicationRepository;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import com.alkicorp.bankingsim.repository.SlotDailyRollupRepository;
+import com.alkicorp.bankingsim.repository.SpendingCategoryRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.service.ActiveSlotRegistry;
+import com.alkicorp.bankingsim.service.BankruptcyService;
+import com.alkicorp.bankingsim.service.MandatorySpendService;
+import com.alkicorp.bankingsim.service.MortgageService;
+import com.alkicorp.bankingsim.service.ObligationCalendar;
+import com.alkicorp.bankingsim.service.PayrollService;
+import com.alkicorp.bankingsim.service.RentService;
+import com.alkicorp.bankingsim.service.SimulationConstants;
+import com.alkicorp.bankingsim.service.SimulationService;
+import com.alkicorp.bankingsim.service.SlotDailyRollupService;
+import com.alkicorp.bankingsim.service.SlotSimulationEngine;
+import com.alkicorp.bankingsim.service.SlotWriteExecutor;
+import com.alkicorp.bankingsim.service.SpendingCategoryCatalog;
+import com.alkicorp.bankingsim.service.SpendingService;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * One user's slot of {@code clients} clients held entirely in memory, with the simulation
+ * services wired over {@link InMemoryRepository} fakes. Every client has a primary job; most
+ * rent, every third has a personal loan and every fifth a mortgage on a property they own, so a
+ * simulated day exercises payroll, rent, repayments and spending. The data is generated from a
+ * fixed seed, so runs at the same size start from the same slot.
+ *
+ * <p>The fixture holds a single slot, so slot and user filters return every row. Services run
+ * with their field defaults, which select the in-memory engine and per-job payroll; the
+ * set-based payroll is plain SQL and has nothing to measure without a database.
+ */
+final class InMemorySlot {
+
+    static final int SLOT_ID = 1;
+    static final BigDecimal[] SALARIES = {
+        new BigDecimal("32000.00"), new BigDecimal("48000.00"), new BigDecimal("65000.00"),
+        new BigDecimal("90000.00"), new BigDecimal("140000.00")
+    };
+
+    final User user = new User();
+    final BankState state = new BankState();
+    final List<Client> clients = new ArrayList<>();
+    final List<ClientJob> jobs = new ArrayList<>();
+    final List<ClientLiving> livings = new ArrayList<>();
+    final List<Loan> loans = new ArrayList<>();
+    final List<Mortgage> mortgages = new ArrayList<>();
+
+    final InMemoryRepository<Client> clientTable = InMemoryRepository.table(Client::getId, Client::setId);
+    final InMemoryRepository<ClientJob> clientJobTable = InMemoryRepository.table(ClientJob::getId, ClientJob::setId);
+    final InMemoryRepository<ClientLiving> livingTable = InMemoryRepository.table(ClientLiving::getId,
+            ClientLiving::setId);
+    final InMemoryRepository<Loan> loanTable = InMemoryRepository.table(Loan::getId, Loan::setId);
+    final InMemoryRepository<Mortgage> mortgageTable = InMemoryRepository.table(Mortgage::getId, Mortgage::setId);
+    final InMemoryRepository<BankState> bankStateTable = InMemoryRepository.table(BankState::getId,
+            BankState::setId);
+    final InMemoryRepository<Transaction> transactionSink = InMemoryRepository.sink();
+    final InMemoryRepository<InvestmentEvent> investmentEventSink = InMemoryRepository.sink();
+    final InMemoryRepository<SlotDailyRollup> rollupSink = InMemoryRepository.sink();
+
+    private final Map<Long, List<ClientJob>> jobsByClient = new HashMap<>();
+    private final Map<Long, ClientLiving> livingByClient = new HashMap<>();
+    private final Map<Long, List<Loan>> loansByClient = new HashMap<>();
+    private final Map<Long, List<Mortgage>> mortgagesByClient = new HashMap<>();
+    private final Map<Long, List<Transaction>> mortgagePaymentsByClient = new HashMap<>();
+    private final List<SpendingCategory> categories = new ArrayList<>();
+
+    final ClientRepository clientRepository;
+    final ClientJobRepository clientJobRepository;
+    final ClientLivingRepository clientLivingRepository;
+    final LoanRepository loanRepository;
+    final MortgageRepository mortgageRepository;
+    final BankStateRepository bankStateRepository;
+    final TransactionRepository transactionRepository;
+    final SlotDailyRollupService rollupService;
+    final InvestmentEventRepository investmentEventRepository;
+    final BankruptcyApplicationRepository bankruptcyApplicationRepository;
+    final SpendingCategoryRepository spendingCategoryRepository;
+
+    InMemorySlot(int clientCount) {
+        SplittableRandom random = new SplittableRandom(clientCount);
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        user.setId(1L);
+        user.setUsername("bench");
+        user.setAdminStatus(true);
+        state.setSlotId(SLOT_ID);
+        state.setUser(user);
+        state.setLiquidCash(new BigDecimal("100000.00"));
+        state.setInvestedSp500(new BigDecimal("0.00"));
+        state.setSp500Price(SimulationConstants.SP500_INITIAL_PRICE);
+        state.setMortgageRate(new BigDecimal("0.0500"));
+        state.setGameDay(0d);
+        state.setLastUpdateTimestamp(createdAt);
+        state.setNextDividendDay(SimulationConstants.DAYS_PER_YEAR - 1);
+        state.setNextGrowthDay(SimulationConstants.DAYS_PER_YEAR - 1);
+        state.setRngSeed(42L);
+        bankStateTable.save(state);
+
+        List<Job> catalog = new ArrayList<>();
+        for (int i = 0; i < SALARIES.length; i++) {
+            Job job = new Job();
+            job.setId(i + 1L);
+            job.setTitle("Job " + (i + 1));
+            job.setAnnualSalary(SALARIES[i]);
+            catalog.add(job);
+        }
+        addCategory("Groceries", "0.10", "0.15", "0.20");
+        addCategory("Transport", "0.05", "0.08", "0.10");
+        addCategory("Dining", "0.03", "0.08", "0.30");
+        addCategory("Entertainment", "0.02", "0.06", "0.40");
+        addCategory("Utilities", "0.04", "0.06", "0.05");
+        addCategory("Shopping", "0.03", "0.10", "0.35");
+
+        for (int i = 0; i < clientCount; i++) {
+            Client client = new Client();
+            client.setSlotId(SLOT_ID);
+            client.setBankState(state);
+            client.setName("Client " + i);
+            client.setCheckingBalance(Money.ofCents(100_000 + random.nextLong(2_000_000)));
+            client.setSavingsBalance(new BigDecimal("0.00"));
+            client.setDailyWithdrawn(BigDecimal.ZERO);
+            client.setCreatedAt(createdAt);
+            clientTable.save(client);
+            clients.add(client);
+
+            ClientJob clientJob = new ClientJob();
+            clientJob.setClient(client);
+            clientJob.setSlotId(SLOT_ID);
+            clientJob.setJob(catalog.get(random.nextInt(catalog.size())));
+            clientJob.setPrimary(true);
+            clientJob.setNextPayday(1d);
+            clientJob.setCreatedAt(createdAt);
+            clientJobTable.save(clientJob);
+            jobs.add(clientJob);
+            jobsByClient.computeIfAbsent(client.getId(), k -> new ArrayList<>()).add(clientJob);
+
+            if (random.nextInt(10) < 6) {
+                ClientLiving living = new ClientLiving();
+                living.setClient(client);
+                living.setSlotId(SLOT_ID);
+                living.setLivingType(LivingType.RENTAL);
+                living.setNextRentDay(1);
+                living.setMonthlyRentCache(BigDecimal.valueOf(80_000 + random.nextInt(150_000), 2));
+                livingTable.save(living);
+                livings.add(living);
+                livingByClient.put(client.getId(), living);
+            }
+            if (i % 3 == 0) {
+                Loan loan = new Loan();
+                loan.setSlotId(SLOT_ID);
+                loan.setUser(user);
+                loan.setClient(client);
+                loan.setAmount(new BigDecimal("15000.00"));
+                loan.setTermYears(5);
+                loan.setStatus(LoanStatus.APPROVED);
+                loan.setMissedPayments(0);
+                loan.setNextPaymentDay(1);
+                loan.setMonthlyPayment(BigDecimal.valueOf(20_000 + random.nextInt(40_000), 2));
+                loan.setCreatedAt(createdAt);
+                loan.setUpdatedAt(createdAt);
+                loanTable.save(loan);
+                loans.add(loan);
+                loansByClient.computeIfAbsent(client.getId(), k -> new ArrayList<>()).add(loan);
+            }
+            if (i % 5 == 0) {
+                addMortgage(client, random, createdAt);
+            }
+        }
+
+        clientRepository = clientTable
+                .on("findBySlotIdAndBankStateUserId", args -> clients)
+                .proxy(ClientRepository.class);
+        clientJobRepository = clientJobTable
+                .on("findBySlotIdAndClientBankStateUserId", args -> jobs)
+                .on("findByClientId", args -> jobsByClient.getOrDefault((Long) args[0], List.of()))
+                .proxy(ClientJobRepository.class);
+        clientLivingRepository = livingTable
+                .on("findBySlotIdAndClientBankStateUserId", args -> livings)
+                .on("findByClientIdAndSlotId", args -> Optional.ofNullable(livingByClient.get((Long) args[0])))
+                .proxy(ClientLivingRepository.class);
+        loanRepository = loanTable
+                .on("findBySlotIdAndUserId", args -> loans)
+                .on("findByClientId", args -> loansByClient.getOrDefault((Long) args[0], List.of()))
+                .proxy(LoanRepository.class);
+        mortgageRepository = mortgageTable
+                .on("findBySlotIdAndUserId", args -> new ArrayList<>(mortgages))
+                .on("findBySlotId", args -> new ArrayList<>(mortgages))
+                .on("findByClientId", args -> mortgagesByClient.getOrDefault((Long) args[0], List.of()))
+                .proxy(MortgageRepository.class);
+        bankStateRepository = bankStateTable
+                .on("findBySlotIdAndUserId", args -> Optional.of(state))
+                .proxy(BankStateRepository.class);
+        transactionRepository = transactionSink
+                .on("findClientDaysByType", args -> List.of())
+                .on("existsByBankStateIdAndClientIdAndTypeAndGameDay", args -> false)
+                .on("ensurePartitions", args -> 0)
+                .on("findByBankStateIdAndClientIdAndTypeInOrderByGameDayAscCreatedAtAsc",
+                        args -> mortgagePaymentsByClient.getOrDefault((Long) args[1], List.of()))
+                .proxy(TransactionRepository.class);
+        rollupService = new SlotDailyRollupService(rollupSink
+                .on("add", args -> ((Long[]) args[0]).length)
+                .on("deleteBySlotIdAndUserId", args -> 0)
+                .proxy(SlotDailyRollupRepository.class));
+        investmentEventRepository = investmentEventSink.proxy(InvestmentEventRepository.class);
+        bankruptcyApplicationRepository = InMemoryRepository.<BankruptcyApplication>table(
+                        BankruptcyApplication::getId, BankruptcyApplication::setId)
+                .on("findBySlotId", args -> List.of())
+                .proxy(BankruptcyApplicationRepository.class);
+        spendingCategoryRepository = InMemoryRepository.<SpendingCategory>table(SpendingCategory::getId,
+                        SpendingCategory::setId)
+                .on("findAllByOrderByIdAsc", args -> categories)
+                .proxy(SpendingCategoryRepository.class);
+    }
+
+    private void addCategory(String name, String min, String max, String variability) {
+        SpendingCategory category = new SpendingCategory();
+        category.setId(categories.size() + 1L);
+        category.setName(name);
+        category.setMinPctIncome(new BigDecimal(min));
+        category.setMaxPctIncome(new BigDecimal(max));
+        category.setVariability(new BigDecimal(variability));
+        category.setMandatory(false);
+        category.setDefaultActive(true);
+        categories.add(category);
+    }
+
+    /**
+     * An accepted mortgage on a property the client owns, two years into its term, with the
+     * monthly payments made so far as transactions for {@link MortgageService#recalcTotalPaid}.
+     */
+    private void addMortgage(Client client, SplittableRandom random, Instant createdAt) {
+        Product product = new Product();
+        product.setId(client.getId());
+        product.setSlotId(SLOT_ID);
+        product.setOwnerClient(client);
+        product.setPrice(BigDecimal.valueOf(20_000_000 + random.nextInt(40_000_000), 2));
+        product.setStatus(ProductStatus.OWNED);
+
+        Mortgage mortgage = new Mortgage();
+        mortgage.setSlotId(SLOT_ID);
+        mortgage.setUser(user);
+        mortgage.setClient(client);
+        mortgage.setProduct(product);
+        mortgage.setPropertyPrice(product.getPrice());
+        mortgage.setDownPayment(product.getPrice().divide(BigDecimal.TEN));
+        mortgage.setLoanAmount(product.getPrice().subtract(mortgage.getDownPayment()));
+        mortgage.setTermYears(25);
+        mortgage.setMonthlyPayment(mortgage.getLoanAmount().divide(BigDecimal.valueOf(300), 2,
+                RoundingMode.HALF_UP));
+        mortgage.setStatus(MortgageStatus.ACCEPTED);
+        mortgage.setStartPaymentDay(0);
+        mortgage.setNextPaymentDay(1);
+        mortgage.setPaymentsMade(0);
+        mortgage.setMissedPayments(0);
+        mortgage.setTotalPaid(mortgage.getDownPayment());
+        mortgage.setCreatedAt(createdAt);
+        mortgage.setUpdatedAt(createdAt);
+        mortgageTable.save(mortgage);
+        mortgages.add(mortgage);
+        mortgagesByClient.computeIfAbsent(client.getId(), k -> new ArrayList<>()).add(mortgage);
+
+        List<Transaction> payments = new ArrayList<>();
+        for (int day = 1; day <= 2 * SimulationConstants.DAYS_PER_YEAR; day++) {
+            Transaction payment = new Transaction();
+            payment.setClient(client);
+            payment.setType(TransactionType.MORTGAGE_PAYMENT);
+            payment.setAmount(mortgage.getMonthlyPayment());
+            payment.setGameDay(day);
+            payment.setCreatedAt(createdAt);
+            payments.add(payment);
+        }
+        mortgagePaymentsByClient.put(client.getId(), payments);
+    }
+
+    MandatorySpendService mandatorySpendService() {
+        return new MandatorySpendService(clientRepository, clientLivingRepository, loanRepository,
+                mortgageRepository);
+    }
+
+    SpendingCategoryCatalog spendingCategoryCatalog() {
+        return new SpendingCategoryCatalog(spendingCategoryRepository, null);
+    }
+
+    SpendingService spendingService(MandatorySpendService mandatorySpendService) {
+        return new SpendingService(spendingCategoryCatalog(), clientRepository, clientJobRepository,
+                transactionRepository, rollupService, mandatorySpendService);
+    }
+
+    PayrollService payrollService() {
+        return new PayrollService(clientJobRepository, clientRepository, transactionRepository, rollupService);
+    }
+
+    /**
+     * The full catch-up path: slot writer running tasks on the caller, a transaction manager
+     * that does nothing, and the in-memory engine over the fakes.
+     */
+    SimulationService simulationService() {
+        MandatorySpendService mandatorySpendService = mandatorySpendService();
+        SpendingCategoryCatalog catalog = spendingCategoryCatalog();
+        PayrollService payrollService = payrollService();
+        RentService rentService = new RentService(clientLivingRepository, transactionRepository, rollupService);
+        SpendingService spendingService = new SpendingService(catalog, clientRepository, clientJobRepository,
+                transactionRepository, rollupService, mandatorySpendService);
+        BankruptcyService bankruptcyService = new BankruptcyService(bankruptcyApplicationRepository,
+                clientRepository, null, null, event -> { });
+        ObligationCalendar obligationCalendar = new ObligationCalendar(loanRepository, mortgageRepository,
+                clientLivingRepository, clientJobRepository, bankruptcyApplicationRepository);
+        SlotSimulationEngine engine = new SlotSimulationEngine(clientRepository, clientJobRepository,
+                clientLivingRepository, loanRepository, mortgageRepository, bankruptcyApplicationRepository,
+                transactionRepository, rollupService, investmentEventRepository, payrollService, rentService, spendingService,
+                mandatorySpendService, catalog, bankruptcyService, obligationCalendar);
+        return new SimulationService(bankStateRepository, clientRepository, transactionRepository,
+                rollupService, investmentEventRepository, loanRepository, mortgageRepository, payrollService, rentService,
+                spendingService, bankruptcyService, engine, obligationCalendar, new ActiveSlotRegistry(),
+                new SlotWriteExecutor(Runnable::run), new NoOpTransactionManager());
+    }
+
+    MortgageService mortgageService() {
+        CurrentUserService currentUserService = new CurrentUserService(null) {
+            @Override
+            public User getCurrentUser() {
+                return user;
+            }
+        };
+        return new MortgageService(mortgageRepository, null, clientRepository, null, transactionRepository,
+                rollupService, currentUserService, inlineSlotWriter(), event -> { });
+    }
+
+    /**
+     * Runs slot writes inline without advancing the slot first, so the admin services measure only
+     * their own work; the slot has a single owner and nothing else writes to it.
+     */
+    private static SimulationService inlineSlotWriter() {
+        return new SimulationService(null, null, null, null, null, null, null, null, null, null, null, null, null,
+                null, null, null) {
+            @Override
+            public <T> T writeSlot(Long userId, int slotId, Supplier<T> work) {
+                return work.get();
+            }
+        };
+    }
+
+    /**
+     * Commits and rolls back nothing; it only lets the services' transaction templates run.
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.alkicorp.bankingsim.bench;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.service.MandatorySpendService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Recomputes the mandatory spend of every client of the slot through
+ * {@link MandatorySpendService#recalcAndPersist}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MandatorySpendServiceBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int clients;
+
+    private InMemorySlot slot;
+    private MandatorySpendService mandatorySpendService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        slot = new InMemorySlot(clients);
+        mandatorySpendService = slot.mandatorySpendService();
+    }
+
+    @Benchmark
+    public long recalcAndPersist() {
+        long totalCents = 0;
+        for (Client client : slot.clients) {
+            totalCents += mandatorySpendService.recalcAndPersist(client).cents();
+        }
+        return totalCents;
+    }
+}
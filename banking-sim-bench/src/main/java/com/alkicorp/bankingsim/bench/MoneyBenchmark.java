@@ -0,0 +1,86 @@
+package com.alkicorp.bankingsim.bench;
+
+import com.alkicorp.bankingsim.model.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A day of balance updates (payroll, rent, a loan payment and interest) for 1,000 clients on
+ * BigDecimal against the same updates on {@link Money}. Every client-day starts from the same
+ * opening balance so compounding interest cannot overflow a long run. Run with {@code -prof gc}
+ * for the bytes allocated per day.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final int CLIENTS = 1_000;
+    private static final BigDecimal RATE = new BigDecimal("0.0025");
+    private static final BigDecimal DECIMAL_OPENING = BigDecimal.valueOf(100_000, 2);
+    private static final Money MONEY_OPENING = Money.ofCents(100_000);
+
+    private final BigDecimal[] salaries = new BigDecimal[CLIENTS];
+    private final BigDecimal[] rents = new BigDecimal[CLIENTS];
+    private final BigDecimal[] payments = new BigDecimal[CLIENTS];
+    private final Money[] moneySalaries = new Money[CLIENTS];
+    private final Money[] moneyRents = new Money[CLIENTS];
+    private final Money[] moneyPayments = new Money[CLIENTS];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < CLIENTS; i++) {
+            salaries[i] = BigDecimal.valueOf(3_000_000 + random.nextInt(12_000_000), 2);
+            rents[i] = BigDecimal.valueOf(50_000 + random.nextInt(200_000), 2);
+            payments[i] = BigDecimal.valueOf(10_000 + random.nextInt(100_000), 2);
+            moneySalaries[i] = Money.of(salaries[i]);
+            moneyRents[i] = Money.of(rents[i]);
+            moneyPayments[i] = Money.of(payments[i]);
+        }
+    }
+
+    @Benchmark
+    public int bigDecimal() {
+        int sink = 0;
+        for (int i = 0; i < CLIENTS; i++) {
+            BigDecimal balance = DECIMAL_OPENING;
+            balance = balance.add(salaries[i].divide(BigDecimal.valueOf(12), 2, RoundingMode.HALF_UP));
+            balance = balance.subtract(balance.min(rents[i]));
+            balance = balance.subtract(balance.min(payments[i]).setScale(2, RoundingMode.HALF_UP));
+            balance = balance.add(balance.multiply(RATE).setScale(2, RoundingMode.HALF_UP));
+            sink += balance.signum();
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public int money() {
+        int sink = 0;
+        for (int i = 0; i < CLIENTS; i++) {
+            Money balance = MONEY_OPENING;
+            balance = balance.plus(moneySalaries[i].dividedBy(12));
+            balance = balance.minus(balance.min(moneyRents[i]));
+            balance = balance.minus(balance.min(moneyPayments[i]));
+            balance = balance.plus(balance.times(RATE));
+            sink += balance.signum();
+        }
+        return sink;
+    }
+}
@@ -0,0 +1,47 @@
+package com.alkicorp.bankingsim.bench;
+
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.service.MortgageService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Admin recalculation of every mortgage's total paid from its payment history through
+ * {@link MortgageService#recalcTotalPaid}. Every fifth client holds a mortgage with two years of
+ * monthly payments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MortgageServiceBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int clients;
+
+    private MortgageService mortgageService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mortgageService = new InMemorySlot(clients).mortgageService();
+    }
+
+    @Benchmark
+    public List<Mortgage> recalcTotalPaid() {
+        return mortgageService.recalcTotalPaid(InMemorySlot.SLOT_ID);
+    }
+}
@@ -0,0 +1,48 @@
+package com.alkicorp.bankingsim.bench;
+
+import com.alkicorp.bankingsim.service.PayrollService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One payday for every job of the slot through {@link PayrollService#runPayroll} in per-job
+ * mode; the set-based mode is three SQL statements and is left to the database benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayrollServiceBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int clients;
+
+    private InMemorySlot slot;
+    private PayrollService payrollService;
+    private int gameDay;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        slot = new InMemorySlot(clients);
+        payrollService = slot.payrollService();
+    }
+
+    @Benchmark
+    public long runPayroll() {
+        payrollService.runPayroll(InMemorySlot.SLOT_ID, slot.user.getId(), ++gameDay);
+        return slot.transactionSink.saves();
+    }
+}
@@ -0,0 +1,56 @@
+package com.alkicorp.bankingsim.bench;
+
+import com.alkicorp.bankingsim.service.SimulationConstants;
+import com.alkicorp.bankingsim.service.SimulationService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Background catch-up of a slot that is {@code days} game days behind, through
+ * {@link SimulationService#advanceSlot}: slot writer, transaction template, engine and flush.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationServiceBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int clients;
+
+    @Param({"1"})
+    private int days;
+
+    private InMemorySlot slot;
+    private SimulationService simulationService;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        slot = new InMemorySlot(clients);
+        simulationService = slot.simulationService();
+    }
+
+    @Benchmark
+    public Optional<Duration> advanceTime() {
+        // Put the slot the same distance behind real time before every catch-up.
+        long behindMillis = days * SimulationConstants.REAL_MS_PER_GAME_DAY;
+        slot.state.setLastUpdateTimestamp(Instant.now().minusMillis(behindMillis));
+        return simulationService.advanceSlot(slot.user.getId(), InMemorySlot.SLOT_ID);
+    }
+}
@@ -0,0 +1,212 @@
+package com.alkicorp.bankingsim.bench;
+
+import com.alkicorp.bankingsim.BankingSimApiApplication;
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.JobRepository;
+import com.alkicorp.bankingsim.service.SimulationConstants;
+import com.alkicorp.bankingsim.service.SimulationService;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Write throughput of a slot catch-up against the PostgreSQL database at {@code DB_URL}: 1,000
+ * clients with a job, 12 game days behind. {@code batchSize} 1 turns Hibernate's JDBC batching
+ * and pgjdbc's batch rewrite off. The {@code rows} counter is the rows written per second of
+ * catch-up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotCatchUpBenchmark {
+
+    private static final int SLOT_ID = 2001;
+    private static final int CLIENTS = 1_000;
+    private static final int DAYS_BEHIND = 12;
+
+    @Param({"50", "1"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private SimulationService simulationService;
+    private BankStateRepository bankStateRepository;
+    private ClientRepository clientRepository;
+    private ClientJobRepository clientJobRepository;
+    private JdbcTemplate jdbcTemplate;
+    private User user;
+    private Job job;
+
+    /**
+     * Rows the catch-up wrote, which JMH reports per second of catch-up. They are counted around
+     * each catch-up rather than inside it, so counting stays out of the measured time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Written {
+
+        public long rows;
+        private long rowsBefore;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            rows = 0;
+        }
+
+        @Setup(Level.Invocation)
+        public void start(SlotCatchUpBenchmark benchmark) {
+            rowsBefore = benchmark.rowsWritten();
+        }
+
+        @TearDown(Level.Invocation)
+        public void count(SlotCatchUpBenchmark benchmark) {
+            rows += benchmark.rowsWritten() - rowsBefore;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BankingSimApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "app.simulation.ticker.enabled=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=" + (batchSize > 1))
+                .run();
+        simulationService = context.getBean(SimulationService.class);
+        bankStateRepository = context.getBean(BankStateRepository.class);
+        clientRepository = context.getBean(ClientRepository.class);
+        clientJobRepository = context.getBean(ClientJobRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        user = ensureUser(context.getBean(UserRepository.class));
+        // Job maps spending_profile as a plain string, so the row goes in over JDBC like the seed data.
+        Long jobId = jdbcTemplate.queryForObject("""
+                insert into jobs (title, employer, annual_salary, pay_cycle_days, created_at)
+                values ('Catch-up Analyst', 'Alkicorp', 60000.00, 1, ?)
+                returning id
+                """, Long.class, Timestamp.from(Instant.now()));
+        job = context.getBean(JobRepository.class).findById(jobId).orElseThrow();
+    }
+
+    /**
+     * Each catch-up takes seconds, so the one-second iterations run exactly one, and seeding it
+     * per invocation stays out of the measured time.
+     */
+    @Setup(Level.Invocation)
+    public void seedSlotBehind() {
+        // Slot resets keep client_jobs, so drop them before the reset deletes the clients.
+        jdbcTemplate.update("delete from client_jobs where slot_id = ?", SLOT_ID);
+        BankState state = simulationService.resetSlot(user, SLOT_ID);
+        seedClients(state);
+        state.setLastUpdateTimestamp(
+                Instant.now().minusMillis(DAYS_BEHIND * SimulationConstants.REAL_MS_PER_GAME_DAY));
+        bankStateRepository.save(state);
+    }
+
+    @Benchmark
+    public Optional<BankState> catchUp(Written written) {
+        return simulationService.getAndAdvanceState(user, SLOT_ID);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        jdbcTemplate.update("delete from client_jobs where slot_id = ?", SLOT_ID);
+        jdbcTemplate.update("delete from jobs where id = ?", job.getId());
+        context.close();
+    }
+
+    private long rowsWritten() {
+        Long transactions = jdbcTemplate.queryForObject("""
+                select count(*) from client_transaction
+                where bank_state_id = (select id from bank_state where slot_id = ? and user_id = ?)
+                """, Long.class, SLOT_ID, user.getId());
+        Long events = jdbcTemplate.queryForObject(
+                "select count(*) from investment_event where slot_id = ? and user_id = ?",
+                Long.class, SLOT_ID, user.getId());
+        return transactions + events;
+    }
+
+    private void seedClients(BankState state) {
+        Instant now = Instant.now();
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            Client client = new Client();
+            client.setBankState(state);
+            client.setSlotId(SLOT_ID);
+            client.setName("Client " + i);
+            client.setCheckingBalance(Money.of(new BigDecimal("5000.00")));
+            client.setDailyWithdrawn(BigDecimal.ZERO.setScale(2));
+            client.setSavingsBalance(BigDecimal.ZERO.setScale(2));
+            client.setMonthlyIncomeCache(Money.ZERO);
+            client.setMonthlyMandatoryCache(Money.ZERO);
+            client.setMonthlyDiscretionaryTarget(BigDecimal.ZERO.setScale(2));
+            client.setEmploymentStatus("ACTIVE");
+            client.setBankrupt(false);
+            client.setMissedPaymentStreak(0);
+            client.setCardNumber(String.format("4000%012d", i));
+            client.setCardExpiry("12/30");
+            client.setCardCvv("123");
+            client.setCreatedAt(now);
+            clients.add(client);
+        }
+        clients = clientRepository.saveAll(clients);
+
+        List<ClientJob> clientJobs = new ArrayList<>();
+        for (Client client : clients) {
+            ClientJob clientJob = new ClientJob();
+            clientJob.setClient(client);
+            clientJob.setSlotId(SLOT_ID);
+            clientJob.setJob(job);
+            clientJob.setStartDate(now);
+            clientJob.setNextPayday(1.0);
+            clientJob.setPrimary(true);
+            clientJob.setCreatedAt(now);
+            clientJobs.add(clientJob);
+        }
+        clientJobRepository.saveAll(clientJobs);
+    }
+
+    private static User ensureUser(UserRepository userRepository) {
+        return userRepository.findByUsernameIgnoreCase("bench-user")
+                .orElseGet(() -> {
+                    User created = new User();
+                    created.setUsername("bench-user");
+                    created.setEmail("bench-user@example.com");
+                    created.setPasswordHash("test-password-hash");
+                    return userRepository.save(created);
+                });
+    }
+}
@@ -0,0 +1,150 @@
+package com.alkicorp.bankingsim.bench;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.service.SimulationConstants;
+import com.alkicorp.bankingsim.service.SpendingCategoryCatalog.Category;
+import com.alkicorp.bankingsim.service.SpendingDraw;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One client-day through the long-cents {@link SpendingDraw} against the BigDecimal draw it
+ * replaced, which is kept below. Run with {@code -prof gc} for the bytes allocated per draw.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpendingDrawBenchmark {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Money INCOME = Money.of(new BigDecimal("4200.00"));
+    private static final Money MANDATORY = Money.of(new BigDecimal("1350.00"));
+    private static final Money BALANCE = Money.of(new BigDecimal("25000.00"));
+    private static final List<Category> CATEGORIES = List.of(
+            new Category(1L, "Groceries", 0.10, 0.20, 0.10),
+            new Category(2L, "Transport", 0.05, 0.10, 0.05),
+            new Category(3L, "Leisure", 0.05, 0.15, 0.20),
+            new Category(4L, "Utilities", 0.03, 0.06, 0d));
+
+    private final Random random = new Random(42);
+    private Client client;
+    private int gameDay;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BankState state = new BankState();
+        state.setRngSeed(42L);
+        client = new Client();
+        client.setId(7L);
+        client.setSlotId(InMemorySlot.SLOT_ID);
+        client.setBankState(state);
+    }
+
+    // Both draws debit the balance in place, so it is restored before every draw.
+
+    @Benchmark
+    public List<Transaction> longCents() {
+        client.setCheckingBalance(BALANCE);
+        return SpendingDraw.draw(client, ++gameDay, INCOME, MANDATORY, CATEGORIES, NOW);
+    }
+
+    @Benchmark
+    public List<Transaction> legacyBigDecimal() {
+        client.setCheckingBalance(BALANCE);
+        return legacyDraw(client, ++gameDay);
+    }
+
+    // The draw as it was before the long-cents rewrite.
+
+    private List<Transaction> legacyDraw(Client client, int gameDay) {
+        BigDecimal disposable = INCOME.toBigDecimal().subtract(MANDATORY.toBigDecimal()).max(BigDecimal.ZERO);
+        return CATEGORIES.stream()
+                .flatMap(cat -> legacySpendInCategory(client, gameDay, disposable, cat).stream())
+                .toList();
+    }
+
+    private List<Transaction> legacySpendInCategory(Client client, int gameDay, BigDecimal disposable, Category cat) {
+        double basePct = cat.minPctIncome() + random.nextDouble() * (cat.maxPctIncome() - cat.minPctIncome());
+        double variability = cat.variability();
+        double swing = variability > 0 ? (random.nextDouble() * 2 * variability - variability) : 0d;
+        double pct = Math.max(0d, basePct * (1 + swing));
+        BigDecimal available = disposable.multiply(BigDecimal.valueOf(pct)).min(client.getCheckingBalance().toBigDecimal());
+        if (available.compareTo(BigDecimal.ZERO) <= 0) {
+            return List.of();
+        }
+        List<BigDecimal> splits = legacySplitAmount(available, SimulationConstants.SPENDING_EVENTS_PER_MONTH);
+        List<Transaction> transactions = new ArrayList<>();
+        BigDecimal remainingBalance = client.getCheckingBalance().toBigDecimal();
+        for (BigDecimal split : splits) {
+            if (remainingBalance.compareTo(BigDecimal.ZERO) <= 0) {
+                break;
+            }
+            BigDecimal amount = split.min(remainingBalance).setScale(2, RoundingMode.HALF_UP);
+            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+                continue;
+            }
+            remainingBalance = remainingBalance.subtract(amount);
+            Transaction tx = new Transaction();
+            tx.setClient(client);
+            tx.setType(TransactionType.SPENDING);
+            tx.setAmount(amount);
+            tx.setGameDay(gameDay);
+            tx.setCreatedAt(NOW);
+            transactions.add(tx);
+        }
+        if (!transactions.isEmpty()) {
+            client.setCheckingBalance(Money.of(remainingBalance));
+        }
+        return transactions;
+    }
+
+    private List<BigDecimal> legacySplitAmount(BigDecimal total, int events) {
+        double[] weights = new double[events];
+        double weightSum = 0d;
+        for (int i = 0; i < events; i++) {
+            weights[i] = 0.5 + random.nextDouble();
+            weightSum += weights[i];
+        }
+        List<BigDecimal> splits = new ArrayList<>(events);
+        BigDecimal remaining = total;
+        for (int i = 0; i < events; i++) {
+            BigDecimal portion;
+            if (i == events - 1) {
+                portion = remaining;
+            } else {
+                portion = total.multiply(BigDecimal.valueOf(weights[i] / weightSum)).setScale(2, RoundingMode.HALF_UP);
+                if (portion.compareTo(remaining) > 0) {
+                    portion = remaining;
+                }
+                remaining = remaining.subtract(portion);
+            }
+            if (portion.compareTo(BigDecimal.ZERO) > 0) {
+                splits.add(portion);
+            }
+        }
+        return splits;
+    }
+}
@@ -0,0 +1,67 @@
+package com.alkicorp.bankingsim.bench;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Money;
+import com.alkicorp.bankingsim.service.SpendingService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One game day of spending for every client of the slot through
+ * {@link SpendingService#generateSpending(int, Long, int)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpendingServiceBenchmark {
+
+    private static final Money BALANCE = Money.ofCents(1_000_000_000L);
+
+    @Param({"10", "1000", "100000"})
+    private int clients;
+
+    private InMemorySlot slot;
+    private SpendingService spendingService;
+    private int gameDay;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        slot = new InMemorySlot(clients);
+        spendingService = slot.spendingService(slot.mandatorySpendService());
+    }
+
+    /**
+     * Nobody is paid here, so balances are topped up between iterations to keep every client
+     * spending.
+     */
+    @Setup(Level.Iteration)
+    public void refillBalances() {
+        for (Client client : slot.clients) {
+            client.setCheckingBalance(BALANCE);
+        }
+    }
+
+    @Benchmark
+    public int generateSpending() {
+        int day = ++gameDay;
+        int transactions = 0;
+        for (Client client : slot.clients) {
+            transactions += spendingService.generateSpending(InMemorySlot.SLOT_ID, client.getId(), day).size();
+        }
+        return transactions;
+    }
+}
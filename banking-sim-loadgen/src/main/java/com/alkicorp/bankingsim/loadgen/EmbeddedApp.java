@@ -0,0 +1,53 @@
+package com.alkicorp.bankingsim.loadgen;
+
+import com.alkicorp.bankingsim.BankingSimApiApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.net.URI;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * A throwaway Postgres and the API running in this JVM on a free port, for runs without a local
+ * database. The schema comes from the Liquibase changelog as usual. Postgres refuses to start as
+ * root, so this needs a regular user account.
+ */
+final class EmbeddedApp implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedApp(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    static EmbeddedApp start() throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        try {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(BankingSimApiApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                            "spring.datasource.username=postgres",
+                            "spring.datasource.password=")
+                    .run();
+            return new EmbeddedApp(postgres, context);
+        } catch (RuntimeException e) {
+            postgres.close();
+            throw e;
+        }
+    }
+
+    URI baseUrl() {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        postgres.close();
+    }
+}
@@ -0,0 +1,108 @@
+package com.alkicorp.bankingsim.loadgen;
+
+import com.alkicorp.bankingsim.loadgen.Scenario.Endpoint;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Per-endpoint latency in microseconds and error counts. Recording is lock-free from any number
+ * of virtual threads; {@link #interval()} hands back everything recorded since the previous call,
+ * so the warm-up is dropped by taking one interval and discarding it.
+ */
+final class LatencyStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<Endpoint, Recorder> latencies = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    LatencyStats() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new Recorder(MAX_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    /**
+     * Records one request. Failed requests count towards the latency too, since the caller
+     * waited for them all the same.
+     */
+    void record(Endpoint endpoint, long elapsedNanos, boolean failed) {
+        latencies.get(endpoint).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos),
+                MAX_TRACKABLE_MICROS));
+        if (failed) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    Interval interval() {
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, Long> failures = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, latencies.get(endpoint).getIntervalHistogram());
+            failures.put(endpoint, errors.get(endpoint).sumThenReset());
+        }
+        return new Interval(histograms, failures);
+    }
+
+    record Interval(Map<Endpoint, Histogram> histograms, Map<Endpoint, Long> errors) {
+
+        /**
+         * Prints one row per endpoint that saw traffic, in milliseconds.
+         */
+        void print(PrintStream out, String title, Duration elapsed) {
+            double seconds = Math.max(elapsed.toMillis(), 1) / 1000d;
+            out.printf("%n%s (%.1f s)%n", title, seconds);
+            out.printf("%-52s %9s %9s %8s %7s %9s %9s %9s %9s%n", "Endpoint", "Requests", "Req/s", "Errors",
+                    "Err %", "p50 ms", "p99 ms", "p999 ms", "max ms");
+            long totalRequests = 0;
+            long totalErrors = 0;
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram histogram = histograms.get(endpoint);
+                long requests = histogram.getTotalCount();
+                if (requests == 0) {
+                    continue;
+                }
+                long failed = errors.get(endpoint);
+                totalRequests += requests;
+                totalErrors += failed;
+                out.printf("%-52s %9d %9.1f %8d %7.2f %9.2f %9.2f %9.2f %9.2f%n", endpoint.label, requests,
+                        requests / seconds, failed, 100d * failed / requests,
+                        millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                        millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+            }
+            out.printf("%-52s %9d %9.1f %8d %7.2f%n", "Total", totalRequests, totalRequests / seconds, totalErrors,
+                    totalRequests == 0 ? 0d : 100d * totalErrors / totalRequests);
+        }
+
+        /**
+         * Writes each endpoint's full percentile distribution in milliseconds, one {@code .hgrm}
+         * file per endpoint, for plotting or comparing runs.
+         */
+        void writeDistributions(Path dir) throws IOException {
+            Files.createDirectories(dir);
+            for (Map.Entry<Endpoint, Histogram> entry : histograms.entrySet()) {
+                if (entry.getValue().getTotalCount() == 0) {
+                    continue;
+                }
+                Path file = dir.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                    entry.getValue().outputPercentileDistribution(out, 1000d);
+                }
+            }
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000d;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.alkicorp.bankingsim.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Command line of the load driver. Every option has a default, so a bare run drives 50 users
+ * against http://localhost:8080 for a minute after ten seconds of warm-up.
+ */
+record LoadConfig(
+        URI baseUrl,
+        boolean embedded,
+        int users,
+        int clientsPerUser,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        Map<Scenario, Integer> mix,
+        Path reportDir) {
+
+    static final String USAGE = """
+            Usage: LoadGenerator [options]
+              --base-url URL       API to drive (default http://localhost:8080)
+              --embedded           start an embedded Postgres and the API in this JVM instead
+              --users N            concurrent virtual users (default 50)
+              --clients N          clients created per user for deposits/withdrawals (default 3)
+              --warmup SECONDS     run before recording starts (default 10)
+              --duration SECONDS   recorded run (default 60)
+              --think-ms MS        pause between a user's scenarios (default 0)
+              --mix SPEC           scenario weights (default login=1,dashboard=6,deposit=2,withdraw=1)
+              --report-dir PATH    where the .hgrm percentile files go (default target/loadgen)
+            """;
+
+    static LoadConfig parse(String[] args) {
+        URI baseUrl = URI.create("http://localhost:8080");
+        boolean embedded = false;
+        int users = 50;
+        int clients = 3;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(60);
+        Duration thinkTime = Duration.ZERO;
+        Map<Scenario, Integer> mix = parseMix("login=1,dashboard=6,deposit=2,withdraw=1");
+        Path reportDir = Path.of("target", "loadgen");
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--embedded")) {
+                embedded = true;
+                continue;
+            }
+            if (option.equals("--help") || option.equals("-h")) {
+                throw new IllegalArgumentException(USAGE);
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option + "\n" + USAGE);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--base-url" -> baseUrl = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1)
+                        : value);
+                case "--users" -> users = positive(option, value);
+                case "--clients" -> clients = positive(option, value);
+                case "--warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "--duration" -> duration = Duration.ofSeconds(positive(option, value));
+                case "--think-ms" -> thinkTime = Duration.ofMillis(Long.parseLong(value));
+                case "--mix" -> mix = parseMix(value);
+                case "--report-dir" -> reportDir = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option " + option + "\n" + USAGE);
+            }
+        }
+        return new LoadConfig(baseUrl, embedded, users, clients, warmup, duration, thinkTime, mix, reportDir);
+    }
+
+    /**
+     * {@code login=1,dashboard=6} style weights; scenarios left out are not run.
+     */
+    static Map<Scenario, Integer> parseMix(String spec) {
+        Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Bad mix entry '" + part + "', expected name=weight");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + pair[0]);
+            }
+            if (weight > 0) {
+                mix.put(Scenario.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The mix needs at least one scenario with a positive weight");
+        }
+        return mix;
+    }
+
+    private static int positive(String option, String value) {
+        int parsed = Integer.parseInt(value);
+        if (parsed < 1) {
+            throw new IllegalArgumentException(option + " must be at least 1");
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,124 @@
+package com.alkicorp.bankingsim.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drives the REST API with a configurable traffic mix and reports per-endpoint latency
+ * percentiles and error rates. Each virtual user registers its own account, starts a slot and
+ * opens a few clients, then loops over weighted {@link Scenario}s on a virtual thread until the
+ * run ends. Only the requests sent after the warm-up are reported.
+ *
+ * <p>Run with {@code mvn -pl banking-sim-loadgen exec:java -Dexec.args="--users 100"} against an
+ * API started as usual, or add {@code --embedded} to start one here on an embedded Postgres.
+ */
+public final class LoadGenerator {
+
+    private final LoadConfig config;
+    private final URI baseUrl;
+    private final LatencyStats stats = new LatencyStats();
+    private final ObjectMapper json = new ObjectMapper();
+    private volatile boolean running = true;
+
+    private LoadGenerator(LoadConfig config, URI baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config;
+        try {
+            config = LoadConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        try (EmbeddedApp app = config.embedded() ? EmbeddedApp.start() : null) {
+            new LoadGenerator(config, app != null ? app.baseUrl() : config.baseUrl()).run();
+        }
+    }
+
+    private void run() throws Exception {
+        System.out.printf("Driving %s with %d users, mix %s%n", baseUrl, config.users(), config.mix());
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .executor(threads)
+                        .build()) {
+            long setupStart = System.nanoTime();
+            List<VirtualUser> users = setUp(threads, http);
+            stats.interval().print(System.out, "Setup", Duration.ofNanos(System.nanoTime() - setupStart));
+            if (users.isEmpty()) {
+                throw new IllegalStateException("No user could be set up; is the API running at " + baseUrl + "?");
+            }
+
+            int totalWeight = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+            List<Future<?>> loops = new ArrayList<>();
+            for (VirtualUser user : users) {
+                loops.add(threads.submit(() -> loop(user, totalWeight)));
+            }
+            Thread.sleep(config.warmup());
+            stats.interval();
+            long measureStart = System.nanoTime();
+            Thread.sleep(config.duration());
+            LatencyStats.Interval measured = stats.interval();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - measureStart);
+            running = false;
+            for (Future<?> loop : loops) {
+                loop.get();
+            }
+            measured.print(System.out, "Run", elapsed);
+            measured.writeDistributions(config.reportDir());
+            System.out.printf("%nPercentile distributions written to %s%n", config.reportDir().toAbsolutePath());
+        }
+    }
+
+    private List<VirtualUser> setUp(ExecutorService threads, HttpClient http) throws InterruptedException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<VirtualUser> users = new ArrayList<>();
+        List<Callable<VirtualUser>> tasks = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            VirtualUser user = new VirtualUser(http, json, baseUrl, stats, "lg" + runId + "u" + i, i);
+            tasks.add(() -> {
+                user.setUp(config.clientsPerUser());
+                return user;
+            });
+        }
+        for (Future<VirtualUser> result : threads.invokeAll(tasks)) {
+            try {
+                users.add(result.get());
+            } catch (ExecutionException e) {
+                System.err.println(e.getCause().getMessage());
+            }
+        }
+        if (users.size() < config.users()) {
+            System.err.printf("%d of %d users could not be set up and are left out%n",
+                    config.users() - users.size(), config.users());
+        }
+        return users;
+    }
+
+    private void loop(VirtualUser user, int totalWeight) {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            Scenario.pick(config.mix(), totalWeight, user.random()).run(user);
+            if (!config.thinkTime().isZero()) {
+                try {
+                    Thread.sleep(config.thinkTime());
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+}
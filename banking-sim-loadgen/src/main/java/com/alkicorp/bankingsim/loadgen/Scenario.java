@@ -0,0 +1,82 @@
+package com.alkicorp.bankingsim.loadgen;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The traffic mix: what one virtual user does per step. A step's requests are recorded per
+ * endpoint, not per scenario.
+ */
+enum Scenario {
+
+    /** Logs in again for a fresh token, as a returning user would. */
+    LOGIN {
+        @Override
+        void run(VirtualUser user) {
+            user.login();
+        }
+    },
+
+    /** One refresh of the dashboard: slot list, bank, clients and the activity chart. */
+    DASHBOARD {
+        @Override
+        void run(VirtualUser user) {
+            user.get(Endpoint.SLOTS, "/api/slots");
+            user.get(Endpoint.BANK, user.slotPath() + "/bank");
+            user.get(Endpoint.CLIENTS, user.slotPath() + "/clients");
+            user.get(Endpoint.ACTIVITY_CHART, user.slotPath() + "/charts/activity");
+        }
+    },
+
+    DEPOSIT {
+        @Override
+        void run(VirtualUser user) {
+            user.post(Endpoint.DEPOSIT, user.clientPath() + "/deposit", Map.of("amount", "100.00"));
+        }
+    },
+
+    WITHDRAW {
+        @Override
+        void run(VirtualUser user) {
+            user.post(Endpoint.WITHDRAW, user.clientPath() + "/withdraw", Map.of("amount", "20.00"));
+        }
+    };
+
+    abstract void run(VirtualUser user);
+
+    /**
+     * Picks a scenario with probability proportional to its weight in {@code mix}.
+     */
+    static Scenario pick(Map<Scenario, Integer> mix, int totalWeight, SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Weights do not add up to " + totalWeight);
+    }
+
+    /**
+     * Labels the latencies are reported under.
+     */
+    enum Endpoint {
+        REGISTER("POST /auth/register"),
+        LOGIN("POST /auth/login"),
+        START_SLOT("POST /api/slots/{slotId}/start"),
+        CREATE_CLIENT("POST /api/slots/{slotId}/clients"),
+        SLOTS("GET /api/slots"),
+        BANK("GET /api/slots/{slotId}/bank"),
+        CLIENTS("GET /api/slots/{slotId}/clients"),
+        ACTIVITY_CHART("GET /api/slots/{slotId}/charts/activity"),
+        DEPOSIT("POST /api/slots/{slotId}/clients/{clientId}/deposit"),
+        WITHDRAW("POST /api/slots/{slotId}/clients/{clientId}/withdraw");
+
+        final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+    }
+}
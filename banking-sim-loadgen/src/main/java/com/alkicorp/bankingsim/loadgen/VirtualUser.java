@@ -0,0 +1,144 @@
+package com.alkicorp.bankingsim.loadgen;
+
+import com.alkicorp.bankingsim.loadgen.Scenario.Endpoint;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * One simulated player with their own account, slot and clients. Each user runs on its own
+ * virtual thread and sends one request at a time, so the load is closed-loop: a slow API lowers
+ * the request rate rather than queueing requests.
+ */
+final class VirtualUser {
+
+    private static final int SLOT_ID = 1;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper json;
+    private final URI baseUrl;
+    private final LatencyStats stats;
+    private final SplittableRandom random;
+    private final String username;
+    private final String password;
+    private final List<Long> clientIds = new ArrayList<>();
+    private String token;
+
+    VirtualUser(HttpClient http, ObjectMapper json, URI baseUrl, LatencyStats stats, String username, long seed) {
+        this.http = http;
+        this.json = json;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.random = new SplittableRandom(seed);
+        this.username = username;
+        this.password = "loadgen-" + username;
+    }
+
+    /**
+     * Registers the account, starts the slot and opens {@code clients} funded clients.
+     */
+    void setUp(int clients) {
+        JsonNode registered = require(post(Endpoint.REGISTER, "/auth/register",
+                Map.of("username", username, "email", username + "@loadgen.local", "password", password)), "register");
+        token = registered.path("token").asText();
+        require(post(Endpoint.START_SLOT, slotPath() + "/start", Map.of()), "start slot " + SLOT_ID);
+        for (int i = 0; i < clients; i++) {
+            JsonNode client = require(post(Endpoint.CREATE_CLIENT, slotPath() + "/clients",
+                    Map.of("name", "Load client " + i)), "create client");
+            clientIds.add(client.path("id").asLong());
+            require(post(Endpoint.DEPOSIT, clientPath(client.path("id").asLong()) + "/deposit",
+                    Map.of("amount", "5000.00")), "fund client");
+        }
+    }
+
+    void login() {
+        JsonNode response = post(Endpoint.LOGIN, "/auth/login",
+                Map.of("usernameOrEmail", username, "password", password));
+        if (response != null) {
+            token = response.path("token").asText();
+        }
+    }
+
+    String slotPath() {
+        return "/api/slots/" + SLOT_ID;
+    }
+
+    /**
+     * A random one of this user's clients.
+     */
+    String clientPath() {
+        return clientPath(clientIds.get(random.nextInt(clientIds.size())));
+    }
+
+    private String clientPath(long clientId) {
+        return slotPath() + "/clients/" + clientId;
+    }
+
+    SplittableRandom random() {
+        return random;
+    }
+
+    JsonNode get(Endpoint endpoint, String path) {
+        return send(endpoint, request(path).GET());
+    }
+
+    JsonNode post(Endpoint endpoint, String path, Map<String, ?> body) {
+        try {
+            return send(endpoint, request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * Sends the request and records its latency, including reading the body. Returns the parsed
+     * body, or null when the request failed; failures are counted, not thrown.
+     */
+    private JsonNode send(Endpoint endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            boolean failed = response.statusCode() >= 400;
+            stats.record(endpoint, elapsed, failed);
+            if (failed) {
+                return null;
+            }
+            return response.body().length == 0 ? json.nullNode() : json.readTree(response.body());
+        } catch (IOException e) {
+            stats.record(endpoint, System.nanoTime() - start, true);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private JsonNode require(JsonNode response, String step) {
+        if (response == null) {
+            throw new IllegalStateException("User " + username + " could not " + step);
+        }
+        return response;
+    }
+}